@@ -0,0 +1,118 @@
+package com.pet.common.cache;
+
+import com.pet.domains.animal.dto.response.AnimalReadResults;
+import com.pet.domains.area.dto.response.CityReadResults;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+// 기준 정보 캐시 값을 포맷별로 redis 에 저장할 바이트로 바꾸고 되돌리는 시간을 비교한다.
+// 보조 지표 encodedBytes 는 값 하나를 저장할 때의 크기다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CacheValueCodecBenchmark {
+
+    // 시도 17개, 시군구 약 250개
+    private static final int CITY_COUNT = 17;
+
+    private static final int TOWN_COUNT_PER_CITY = 15;
+
+    // 개, 고양이, 기타
+    private static final int ANIMAL_COUNT = 3;
+
+    private static final int ANIMAL_KIND_COUNT_PER_ANIMAL = 60;
+
+    private static final long COMPRESSION_THRESHOLD = 4 * 1024;
+
+    @Param({"cities", "animals"})
+    private String payload;
+
+    @Param({"json", "smile", "smile-deflate"})
+    private String format;
+
+    private RedisSerializer<Object> serializer;
+
+    private Object value;
+
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        serializer = createSerializer(format);
+        value = "cities".equals(payload) ? createCityReadResults() : createAnimalReadResults();
+        encoded = serializer.serialize(value);
+    }
+
+    @Benchmark
+    public byte[] encode(EncodedSize encodedSize) {
+        byte[] bytes = serializer.serialize(value);
+        encodedSize.encodedBytes = bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public Object decode() {
+        return serializer.deserialize(encoded);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EncodedSize {
+
+        public long encodedBytes;
+    }
+
+    private RedisSerializer<Object> createSerializer(String format) {
+        switch (format) {
+            case "json":
+                return CacheValueCodec.JSON.createSerializer();
+            case "smile":
+                return CacheValueCodec.SMILE.createSerializer();
+            case "smile-deflate":
+                return new CompressingRedisSerializer(CacheValueCodec.SMILE.createSerializer(), COMPRESSION_THRESHOLD);
+            default:
+                throw new IllegalArgumentException("unknown format: " + format);
+        }
+    }
+
+    private CityReadResults createCityReadResults() {
+        return CityReadResults.of(LongStream.range(0, CITY_COUNT)
+            .mapToObj(cityId -> CityReadResults.City.of(cityId, "시도" + cityId,
+                LongStream.range(0, TOWN_COUNT_PER_CITY)
+                    .mapToObj(townId -> CityReadResults.City.Town.of(cityId * 100 + townId, "시군구" + townId))
+                    .collect(Collectors.toList())))
+            .collect(Collectors.toList()));
+    }
+
+    private AnimalReadResults createAnimalReadResults() {
+        return AnimalReadResults.of(LongStream.range(0, ANIMAL_COUNT)
+            .mapToObj(animalId -> AnimalReadResults.Animal.builder()
+                .id(animalId)
+                .name("동물" + animalId)
+                .kinds(createAnimalKinds(animalId))
+                .build())
+            .collect(Collectors.toList()));
+    }
+
+    private List<AnimalReadResults.Animal.AnimalKind> createAnimalKinds(long animalId) {
+        return LongStream.range(0, ANIMAL_KIND_COUNT_PER_ANIMAL)
+            .mapToObj(kindId -> AnimalReadResults.Animal.AnimalKind.builder()
+                .id(animalId * 1000 + kindId)
+                .name("품종" + kindId)
+                .build())
+            .collect(Collectors.toList());
+    }
+}
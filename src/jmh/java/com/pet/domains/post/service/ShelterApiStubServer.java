@@ -0,0 +1,173 @@
+package com.pet.domains.post.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.apache.commons.lang3.StringUtils;
+
+// openapi.animal.go.kr 대신 기록해 둔 xml 로 응답하는 로컬 서버
+// /abandonmentPublic 은 fixture 의 item 을 돌려 쓰며 desertionNo 만 바꿔 totalCount 건을 페이지로 나눠 준다.
+// latencyMillis 만큼 늦게 응답하고, errorRate 확률로 게시글 페이지 요청에 500 을 돌려준다.
+public class ShelterApiStubServer implements AutoCloseable {
+
+    private static final String FIXTURE_DIRECTORY = "/fixtures/shelter/";
+
+    private static final String EMPTY_ITEMS_XML = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>"
+        + "<response><header><resultCode>00</resultCode><resultMsg>NORMAL SERVICE.</resultMsg></header>"
+        + "<body><items></items></body></response>";
+
+    private static final int WORKER_THREADS = 16;
+
+    private final HttpServer httpServer;
+
+    private final ExecutorService executorService;
+
+    private final long totalCount;
+
+    private final long latencyMillis;
+
+    private final double errorRate;
+
+    private final String shelterPostFixture;
+
+    private final String[] shelterPostItems;
+
+    private final AtomicLong shelterPostRequests = new AtomicLong();
+
+    private ShelterApiStubServer(long totalCount, long latencyMillis, double errorRate) throws IOException {
+        this.totalCount = totalCount;
+        this.latencyMillis = latencyMillis;
+        this.errorRate = errorRate;
+        this.shelterPostFixture = readFixture("abandonment-public.xml");
+        this.shelterPostItems = StringUtils.substringsBetween(shelterPostFixture, "<item>", "</item>");
+        this.executorService = Executors.newFixedThreadPool(WORKER_THREADS);
+        this.httpServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        httpServer.setExecutor(executorService);
+        httpServer.createContext("/abandonmentPublic", this::handleShelterPosts);
+        httpServer.createContext("/kind", exchange -> handleFixture(exchange, "kind-" + getQueryParam(exchange,
+            "up_kind_cd")));
+        httpServer.createContext("/sido", exchange -> handleFixture(exchange, "sido"));
+        httpServer.createContext("/sigungu", exchange -> handleFixture(exchange, "sigungu-" + getQueryParam(exchange,
+            "upr_cd")));
+    }
+
+    public static ShelterApiStubServer start(long totalCount, long latencyMillis, double errorRate) {
+        try {
+            ShelterApiStubServer stubServer = new ShelterApiStubServer(totalCount, latencyMillis, errorRate);
+            stubServer.httpServer.start();
+            return stubServer;
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + httpServer.getAddress().getPort();
+    }
+
+    public long getShelterPostRequests() {
+        return shelterPostRequests.get();
+    }
+
+    @Override
+    public void close() {
+        httpServer.stop(0);
+        executorService.shutdownNow();
+    }
+
+    private void handleShelterPosts(HttpExchange exchange) throws IOException {
+        shelterPostRequests.incrementAndGet();
+        delay();
+        if (ThreadLocalRandom.current().nextDouble() < errorRate) {
+            respond(exchange, 500, "<error>injected</error>");
+            return;
+        }
+        long numOfRows = Long.parseLong(StringUtils.defaultIfEmpty(getQueryParam(exchange, "numOfRows"), "10"));
+        long pageNo = Long.parseLong(StringUtils.defaultIfEmpty(getQueryParam(exchange, "pageNo"), "1"));
+        respond(exchange, 200, createShelterPostPage(pageNo, numOfRows));
+    }
+
+    private void handleFixture(HttpExchange exchange, String fixtureName) throws IOException {
+        delay();
+        String fixture = readFixture(fixtureName + ".xml");
+        respond(exchange, 200, Objects.requireNonNullElse(fixture, EMPTY_ITEMS_XML));
+    }
+
+    private String createShelterPostPage(long pageNo, long numOfRows) {
+        long startIndex = (pageNo - 1) * numOfRows;
+        long endIndex = Math.min(totalCount, startIndex + numOfRows);
+        String items = LongStream.range(Math.min(startIndex, endIndex), endIndex)
+            .mapToObj(this::createShelterPostItem)
+            .collect(Collectors.joining());
+        return StringUtils.substringBefore(shelterPostFixture, "<items>")
+            + "<items>" + items + "</items>"
+            + "<numOfRows>" + numOfRows + "</numOfRows><pageNo>" + pageNo + "</pageNo>"
+            + "<totalCount>" + totalCount + "</totalCount></body></response>";
+    }
+
+    private String createShelterPostItem(long index) {
+        String item = shelterPostItems[(int) (index % shelterPostItems.length)];
+        String desertionNumber = StringUtils.substringBetween(item, "<desertionNo>", "</desertionNo>");
+        // 유기번호 앞자리(지역, 연도)는 두고 뒤쪽 일련번호만 index 로 바꿔 중복되지 않게 한다.
+        String uniqueNumber = StringUtils.left(desertionNumber, 8) + String.format("%07d", index);
+        return "<item>" + StringUtils.replace(item, desertionNumber, uniqueNumber) + "</item>";
+    }
+
+    private void delay() {
+        if (latencyMillis <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(latencyMillis);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/xml;charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+
+    private String getQueryParam(HttpExchange exchange, String name) {
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return null;
+        }
+        Map<String, String> params = Arrays.stream(query.split("&"))
+            .map(param -> param.split("=", 2))
+            .filter(pair -> pair.length == 2)
+            .collect(Collectors.toMap(pair -> pair[0], pair -> pair[1], (first, second) -> first));
+        return params.get(name);
+    }
+
+    private String readFixture(String fileName) {
+        try (InputStream inputStream = getClass().getResourceAsStream(FIXTURE_DIRECTORY + fileName)) {
+            if (inputStream == null) {
+                return null;
+            }
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
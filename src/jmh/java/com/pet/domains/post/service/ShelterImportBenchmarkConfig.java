@@ -0,0 +1,106 @@
+package com.pet.domains.post.service;
+
+import com.pet.common.cache.CacheEvictor;
+import com.pet.common.cache.CacheRefresher;
+import com.pet.common.cache.LocalCacheLoadLock;
+import com.pet.common.config.JpaAuditingConfig;
+import com.pet.common.config.QuerydslConfig;
+import com.pet.common.property.ShelterProperties;
+import com.pet.common.version.LocalDataVersionRegistry;
+import com.pet.domains.BaseEntity;
+import com.pet.domains.animal.service.AnimalKindCreateService;
+import com.pet.domains.animal.service.AnimalKindService;
+import com.pet.domains.area.mapper.CityMapper;
+import com.pet.domains.area.service.CityService;
+import com.pet.domains.area.service.TownAddressResolver;
+import com.pet.domains.area.service.TownService;
+import com.pet.domains.post.mapper.ShelterPostMapper;
+import com.pet.domains.post.repository.ShelterPostJdbcRepository;
+import com.pet.domains.post.repository.ShelterPostListingJdbcRepository;
+import com.pet.domains.statistics.repository.PostFacetCountJdbcRepository;
+import com.pet.domains.statistics.service.PostFacetService;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.http.codec.CodecsAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.function.client.ClientHttpConnectorAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.function.client.WebClientAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+// 보호소 게시글 동기화에 필요한 빈만 올리는 컨텍스트, 웹/보안/캐시/스케줄러는 띄우지 않는다.
+@SpringBootConfiguration
+@ImportAutoConfiguration({
+    PropertyPlaceholderAutoConfiguration.class,
+    DataSourceAutoConfiguration.class,
+    DataSourceTransactionManagerAutoConfiguration.class,
+    JdbcTemplateAutoConfiguration.class,
+    HibernateJpaAutoConfiguration.class,
+    TransactionAutoConfiguration.class,
+    JacksonAutoConfiguration.class,
+    CodecsAutoConfiguration.class,
+    ClientHttpConnectorAutoConfiguration.class,
+    WebClientAutoConfiguration.class
+})
+@EnableConfigurationProperties(ShelterProperties.class)
+@EntityScan(basePackageClasses = BaseEntity.class)
+@EnableJpaRepositories(basePackageClasses = BaseEntity.class)
+@Import({JpaAuditingConfig.class, QuerydslConfig.class})
+@ComponentScan(
+    basePackageClasses = BaseEntity.class,
+    useDefaultFilters = false,
+    includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = {
+        ShelterApiService.class,
+        ShelterPostXmlDecoder.class,
+        ShelterPostService.class,
+        ShelterPostBatchWriter.class,
+        ShelterPostJdbcRepository.class,
+        ShelterPostListingJdbcRepository.class,
+        ShelterPostListingService.class,
+        PostFacetService.class,
+        PostFacetCountJdbcRepository.class,
+        LocalDataVersionRegistry.class,
+        ShelterSyncStateService.class,
+        ShelterPostSyncService.class,
+        ShelterPostCacheWarmUpService.class,
+        NoOpShelterPostPageCache.class,
+        AnimalKindService.class,
+        AnimalKindCreateService.class,
+        CityService.class,
+        CacheEvictor.class,
+        CacheRefresher.class,
+        LocalCacheLoadLock.class,
+        TownService.class,
+        TownAddressResolver.class,
+        ShelterPostMapper.class,
+        CityMapper.class
+    })
+)
+public class ShelterImportBenchmarkConfig {
+
+    @Bean
+    public static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource && !(bean instanceof StatementCountingDataSource)) {
+                    return new StatementCountingDataSource((DataSource) bean);
+                }
+                return bean;
+            }
+        };
+    }
+}
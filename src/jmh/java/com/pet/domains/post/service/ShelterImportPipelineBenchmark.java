@@ -0,0 +1,184 @@
+package com.pet.domains.post.service;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// 로컬 stub 서버를 상대로 shelterPostDailyCronJob 이 실행하는 동기화 파이프라인 전체를 돌린다.
+// 보조 지표 pages, rows 는 초당 처리량, peakHeapMegabytes, statements 는 동기화 한 번 기준 값이다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ShelterImportPipelineBenchmark {
+
+    private static final LocalDate SYNC_DATE = LocalDate.of(2021, 12, 1);
+
+    private static final String INSERT_ANIMALS_SQL = "INSERT INTO animal(created_at, updated_at, code, name)"
+        + " VALUES (NOW(), NOW(), '417000', '개'), (NOW(), NOW(), '422400', '고양이'), (NOW(), NOW(), '429900', '기타')";
+
+    @Param({"1000", "10000"})
+    private long totalCount;
+
+    @Param({"0", "50"})
+    private long latencyMillis;
+
+    @Param({"0.0"})
+    private double errorRate;
+
+    @Param({"4"})
+    private int concurrency;
+
+    @Param({"500"})
+    private int chunkSize;
+
+    private ShelterApiStubServer stubServer;
+
+    private ConfigurableApplicationContext applicationContext;
+
+    private ShelterPostSyncService shelterPostSyncService;
+
+    private StatementCountingDataSource statementCountingDataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        stubServer = ShelterApiStubServer.start(totalCount, latencyMillis, errorRate);
+        applicationContext = new SpringApplicationBuilder(ShelterImportBenchmarkConfig.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                // 기본 application.yml 의 외부 연동 설정은 읽지 않는다.
+                "spring.config.name=shelter-import-benchmark",
+                "spring.datasource.url=jdbc:h2:mem:shelter_import_" + System.nanoTime()
+                    + ";MODE=MYSQL;DB_CLOSE_DELAY=-1",
+                "spring.datasource.hikari.maximum-pool-size=" + (concurrency + 2),
+                "spring.jpa.hibernate.ddl-auto=create",
+                "spring.jpa.open-in-view=false",
+                "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQL5InnoDBDialect",
+                "shelter.name=benchmark",
+                "shelter.description=benchmark",
+                "shelter.api.url=" + stubServer.getBaseUrl(),
+                "shelter.api.key=benchmark",
+                "shelter.batch.chunk-size=" + chunkSize,
+                "shelter.batch.decode-chunk-size=" + chunkSize,
+                "shelter.batch.concurrency=" + concurrency,
+                "logging.level.com.pet=warn"
+            )
+            .run();
+        shelterPostSyncService = applicationContext.getBean(ShelterPostSyncService.class);
+        statementCountingDataSource = applicationContext.getBean(StatementCountingDataSource.class);
+        jdbcTemplate = applicationContext.getBean(JdbcTemplate.class);
+
+        jdbcTemplate.execute(INSERT_ANIMALS_SQL);
+        ShelterApiService shelterApiService = applicationContext.getBean(ShelterApiService.class);
+        shelterApiService.saveAllAnimalKinds();
+        shelterApiService.saveAllCities();
+        shelterApiService.saveAllTowns();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownTrial() {
+        applicationContext.close();
+        stubServer.close();
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        // 같은 날짜를 다시 받아야 하므로 게시글과 체크포인트를 비운다.
+        jdbcTemplate.execute("DELETE FROM shelter_post_listing");
+        jdbcTemplate.execute("DELETE FROM post_facet_count");
+        jdbcTemplate.execute("DELETE FROM shelter_post");
+        jdbcTemplate.execute("DELETE FROM shelter_sync_state");
+        System.gc();
+        ManagementFactory.getMemoryPoolMXBeans().forEach(MemoryPoolMXBean::resetPeakUsage);
+        statementCountingDataSource.reset();
+    }
+
+    @Benchmark
+    public void dailySync(PipelineThroughput pipelineThroughput, PipelineFootprint pipelineFootprint) {
+        shelterPostSyncService.sync(List.of(SYNC_DATE)).block();
+
+        pipelineFootprint.record(getPeakHeapBytes(), statementCountingDataSource.getExecutedStatements());
+        pipelineThroughput.pages += countRows("SELECT COUNT(*) FROM shelter_sync_state WHERE status = 'COMPLETED'");
+        pipelineThroughput.rows += countRows("SELECT COUNT(*) FROM shelter_post");
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class PipelineThroughput {
+
+        public long pages;
+
+        public long rows;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            pages = 0;
+            rows = 0;
+        }
+    }
+
+    // EVENTS 지표는 반복이 끝날 때의 값을 그대로 보고하므로 최댓값과 평균값을 직접 유지한다.
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PipelineFootprint {
+
+        private long invocations;
+
+        private long totalStatements;
+
+        private long maxPeakHeapBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            invocations = 0;
+            totalStatements = 0;
+            maxPeakHeapBytes = 0;
+        }
+
+        public long peakHeapMegabytes() {
+            return maxPeakHeapBytes / (1024 * 1024);
+        }
+
+        public long statements() {
+            return invocations == 0 ? 0 : totalStatements / invocations;
+        }
+
+        void record(long peakHeapBytes, long executedStatements) {
+            invocations++;
+            totalStatements += executedStatements;
+            maxPeakHeapBytes = Math.max(maxPeakHeapBytes, peakHeapBytes);
+        }
+    }
+
+    private long countRows(String sql) {
+        return Objects.requireNonNull(jdbcTemplate.queryForObject(sql, Long.class));
+    }
+
+    // 힙 영역별 최고 사용량의 합이라 실제 최고점보다 조금 클 수 있다.
+    private long getPeakHeapBytes() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(memoryPool -> memoryPool.getType() == MemoryType.HEAP)
+            .mapToLong(memoryPool -> memoryPool.getPeakUsage().getUsed())
+            .sum();
+    }
+}
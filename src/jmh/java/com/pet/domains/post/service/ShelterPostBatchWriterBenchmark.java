@@ -0,0 +1,150 @@
+package com.pet.domains.post.service;
+
+import com.pet.common.property.ShelterProperties;
+import com.pet.domains.animal.domain.Animal;
+import com.pet.domains.animal.domain.AnimalKind;
+import com.pet.domains.area.domain.City;
+import com.pet.domains.area.domain.Town;
+import com.pet.domains.post.domain.NeuteredType;
+import com.pet.domains.post.domain.SexType;
+import com.pet.domains.post.domain.ShelterPost;
+import com.pet.domains.post.repository.ShelterPostJdbcRepository;
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.persistence.EntityManager;
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// H2(MySQL 모드)에 보호소 게시글을 적재하는 속도 비교, 보조 지표 writtenRows 가 초당 적재 건수이다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ShelterPostBatchWriterBenchmark {
+
+    private static final String CREATE_TABLE_SQL = "CREATE TABLE IF NOT EXISTS shelter_post ("
+        + " id BIGINT AUTO_INCREMENT PRIMARY KEY,"
+        + " created_at TIMESTAMP NOT NULL, updated_at TIMESTAMP NOT NULL, age SMALLINT DEFAULT 0,"
+        + " address VARCHAR(50), shelter_place VARCHAR(200), shelter_name VARCHAR(50),"
+        + " shelter_tel_number VARCHAR(14), manager VARCHAR(20), color VARCHAR(30), desertion_number VARCHAR(20),"
+        + " image VARCHAR(255), thumbnail VARCHAR(255), found_date DATE, found_place VARCHAR(200),"
+        + " neutered VARCHAR(10), start_date DATE, end_date DATE, manager_tel_number VARCHAR(14),"
+        + " post_status VARCHAR(10), sex INTEGER, feature VARCHAR(200), weight DOUBLE DEFAULT 0,"
+        + " notice_number VARCHAR(30), town_id BIGINT, animal_kind_id BIGINT, content_hash VARCHAR(32),"
+        + " CONSTRAINT uni_shelter_post_desertion_number UNIQUE (desertion_number))";
+
+    @Param({"10000", "100000"})
+    private int rows;
+
+    @Param({"100", "500", "1000"})
+    private int chunkSize;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private ShelterPostJdbcRepository shelterPostJdbcRepository;
+
+    private ShelterPostBatchWriter shelterPostBatchWriter;
+
+    private List<ShelterPost> shelterPosts;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:shelter_post_" + System.nanoTime() + ";MODE=MYSQL;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute(CREATE_TABLE_SQL);
+
+        shelterPostJdbcRepository = new ShelterPostJdbcRepository(jdbcTemplate);
+        shelterPostBatchWriter = new ShelterPostBatchWriter(
+            shelterPostJdbcRepository,
+            new ShelterProperties("benchmark", "benchmark", null, new ShelterProperties.Batch(chunkSize, chunkSize, 1)),
+            noOpEntityManager()
+        );
+        shelterPosts = createShelterPosts(rows);
+    }
+
+    @Setup(Level.Invocation)
+    public void truncate() {
+        jdbcTemplate.execute("TRUNCATE TABLE shelter_post");
+    }
+
+    @Benchmark
+    public int batchWriter(RowCounter rowCounter) {
+        int affectedRows = shelterPostBatchWriter.write(shelterPosts);
+        rowCounter.writtenRows += shelterPosts.size();
+        return affectedRows;
+    }
+
+    @Benchmark
+    public int singleRowInsert(RowCounter rowCounter) {
+        // IDENTITY 전략의 saveAll 처럼 한 건당 한 번씩 INSERT 를 보내는 기준선
+        int affectedRows = 0;
+        for (ShelterPost shelterPost : shelterPosts) {
+            affectedRows += shelterPostJdbcRepository.upsertAll(List.of(shelterPost));
+        }
+        rowCounter.writtenRows += shelterPosts.size();
+        return affectedRows;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class RowCounter {
+
+        public long writtenRows;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            writtenRows = 0;
+        }
+    }
+
+    private List<ShelterPost> createShelterPosts(int size) {
+        Town town = Town.builder()
+            .name("광진구")
+            .city(City.builder().code("6110000").name("서울특별시").build())
+            .build();
+        AnimalKind animalKind = AnimalKind.builder()
+            .name("믹스견")
+            .animal(Animal.builder().code("417000").name("개").build())
+            .build();
+        return IntStream.range(0, size)
+            .mapToObj(index -> ShelterPost.builder()
+                .desertionNumber(String.format("4485482021%05d", index))
+                .age(2021)
+                .address("서울특별시 광진구")
+                .shelterName("보호소")
+                .shelterPlace("서울특별시 광진구 능동로")
+                .foundDate(LocalDate.of(2021, 12, 1))
+                .startDate(LocalDate.of(2021, 12, 1))
+                .endDate(LocalDate.of(2021, 12, 11))
+                .neutered(NeuteredType.N)
+                .sex(SexType.MALE)
+                .postStatus("보호중")
+                .weight(3.2)
+                .town(town)
+                .animalKind(animalKind)
+                .build())
+            .collect(Collectors.toList());
+    }
+
+    private EntityManager noOpEntityManager() {
+        return (EntityManager) Proxy.newProxyInstance(
+            EntityManager.class.getClassLoader(),
+            new Class<?>[] {EntityManager.class},
+            (proxy, method, args) -> null
+        );
+    }
+}
@@ -0,0 +1,114 @@
+package com.pet.domains.post.service;
+
+import com.pet.domains.post.dto.response.ShelterApiPageChunk;
+import com.pet.domains.post.dto.response.ShelterApiPageResult;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.commons.lang3.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.xml.Jaxb2XmlDecoder;
+import reactor.core.publisher.Flux;
+
+// 기록해 둔 보호소 게시글 api 응답을 rows 건으로 늘려 JAXB 전체 변환과 스트리밍 변환을 비교한다.
+// 메모리 사용량은 -prof gc 의 gc.alloc.rate.norm 으로 함께 본다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ShelterPostXmlDecoderBenchmark {
+
+    private static final String FIXTURE_PATH = "/fixtures/shelter/abandonment-public.xml";
+
+    private static final int NETWORK_BUFFER_SIZE = 8 * 1024;
+
+    @Param({"100", "1000", "10000"})
+    private int rows;
+
+    @Param({"500"})
+    private int chunkSize;
+
+    private final DefaultDataBufferFactory dataBufferFactory = new DefaultDataBufferFactory();
+
+    private Jaxb2XmlDecoder jaxb2XmlDecoder;
+
+    private ShelterPostXmlDecoder shelterPostXmlDecoder;
+
+    private byte[] pageBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jaxb2XmlDecoder = new Jaxb2XmlDecoder();
+        // WebClient 기본값(256KB)으로는 큰 페이지를 한 번에 합칠 수 없어 제한을 푼다.
+        jaxb2XmlDecoder.setMaxInMemorySize(-1);
+        shelterPostXmlDecoder = new ShelterPostXmlDecoder();
+        pageBytes = createPageXml(readFixture(), rows).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public int jaxbPage() {
+        ShelterApiPageResult pageResult = (ShelterApiPageResult) jaxb2XmlDecoder.decodeToMono(
+            toDataBuffers(),
+            ResolvableType.forClass(ShelterApiPageResult.class),
+            MediaType.APPLICATION_XML,
+            Collections.emptyMap()
+        ).block();
+        return Objects.requireNonNull(pageResult).getBodyItems().getShelterPosts().size();
+    }
+
+    @Benchmark
+    public int streamingChunks() {
+        return Objects.requireNonNull(shelterPostXmlDecoder.decode(toDataBuffers(), chunkSize)
+            .map(ShelterApiPageChunk::getShelterPosts)
+            .map(List::size)
+            .reduce(0, Integer::sum)
+            .block());
+    }
+
+    private Flux<DataBuffer> toDataBuffers() {
+        return Flux.range(0, (pageBytes.length + NETWORK_BUFFER_SIZE - 1) / NETWORK_BUFFER_SIZE)
+            .map(index -> {
+                int offset = index * NETWORK_BUFFER_SIZE;
+                int length = Math.min(NETWORK_BUFFER_SIZE, pageBytes.length - offset);
+                return dataBufferFactory.wrap(ByteBuffer.wrap(pageBytes, offset, length).slice());
+            });
+    }
+
+    private String createPageXml(String fixture, int size) {
+        String[] items = StringUtils.substringsBetween(fixture, "<item>", "</item>");
+        String repeatedItems = IntStream.range(0, size)
+            .mapToObj(index -> "<item>" + items[index % items.length] + "</item>")
+            .collect(Collectors.joining());
+        return StringUtils.substringBefore(fixture, "<items>")
+            + "<items>" + repeatedItems + "</items>"
+            + StringUtils.substringAfter(fixture, "</items>");
+    }
+
+    private String readFixture() {
+        try (InputStream inputStream = getClass().getResourceAsStream(FIXTURE_PATH)) {
+            Objects.requireNonNull(inputStream, FIXTURE_PATH + " not found");
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
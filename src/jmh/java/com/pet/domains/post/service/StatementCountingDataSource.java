@@ -0,0 +1,74 @@
+package com.pet.domains.post.service;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+// JPA, JdbcTemplate 가 보낸 execute* 호출 수를 센다. executeBatch 는 묶음 하나를 한 번으로 센다.
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+    private final AtomicLong executedStatements = new AtomicLong();
+
+    public StatementCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    public long getExecutedStatements() {
+        return executedStatements.get();
+    }
+
+    public void reset() {
+        executedStatements.set(0);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return countingConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return countingConnection(super.getConnection(username, password));
+    }
+
+    private Connection countingConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[] {Connection.class},
+            (proxy, method, args) -> {
+                Object result = invoke(connection, method, args);
+                if (result instanceof Statement) {
+                    return countingStatement((Statement) result, method.getReturnType());
+                }
+                return result;
+            }
+        );
+    }
+
+    private Object countingStatement(Statement statement, Class<?> statementType) {
+        return Proxy.newProxyInstance(
+            statementType.getClassLoader(),
+            new Class<?>[] {statementType},
+            (proxy, method, args) -> {
+                if (method.getName().startsWith("execute")) {
+                    executedStatements.incrementAndGet();
+                }
+                return invoke(statement, method, args);
+            }
+        );
+    }
+
+    private Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException exception) {
+            throw exception.getTargetException();
+        }
+    }
+}
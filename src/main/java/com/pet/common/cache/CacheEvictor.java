@@ -0,0 +1,27 @@
+package com.pet.common.cache;
+
+import com.pet.common.util.AfterCommitUtils;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+// 원본이 바뀐 트랜잭션이 커밋된 뒤에만 캐시 항목을 비운다. 롤백되면 그대로 둔다.
+// 캐시 값을 읽고 고쳐 쓰면 동시에 고친 다른 서버의 값을 덮어쓸 수 있으므로 덧붙이지 않고 다음 조회가 다시 만들게 한다.
+@RequiredArgsConstructor
+@Component
+public class CacheEvictor {
+
+    private final ObjectProvider<CacheManager> cacheManagerProvider;
+
+    public void evictAfterCommit(String cacheName, Object key) {
+        AfterCommitUtils.run(() -> findCache(cacheName).ifPresent(cache -> cache.evict(key)));
+    }
+
+    private Optional<Cache> findCache(String cacheName) {
+        return Optional.ofNullable(cacheManagerProvider.getIfAvailable())
+            .map(cacheManager -> cacheManager.getCache(cacheName));
+    }
+}
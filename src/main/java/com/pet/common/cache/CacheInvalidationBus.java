@@ -0,0 +1,71 @@
+package com.pet.common.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+// 한 노드가 캐시를 바꾸면 redis pub/sub 으로 알려 다른 노드의 프로세스 안 캐시에서 같은 키를 지운다.
+// 메시지는 유실될 수 있으므로 프로세스 안 캐시는 짧은 TTL 을 함께 쓴다.
+@Slf4j
+public class CacheInvalidationBus implements MessageListener {
+
+    public static final String CHANNEL = "cache-invalidation";
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Map<String, Cache> localCaches = new ConcurrentHashMap<>();
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    public CacheInvalidationBus(StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    public void register(Cache localCache) {
+        localCaches.put(localCache.getName(), localCache);
+    }
+
+    public void publish(String cacheName, String key) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL,
+                objectMapper.writeValueAsString(new CacheInvalidationMessage(nodeId, cacheName, key)));
+        } catch (JsonProcessingException exception) {
+            log.warn("cache invalidation message serialization failed, cache: {}", cacheName, exception);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        CacheInvalidationMessage invalidationMessage;
+        try {
+            invalidationMessage = objectMapper.readValue(message.getBody(), CacheInvalidationMessage.class);
+        } catch (IOException exception) {
+            log.warn("invalid cache invalidation message", exception);
+            return;
+        }
+        if (nodeId.equals(invalidationMessage.getNodeId())) {
+            return;
+        }
+        Cache localCache = localCaches.get(invalidationMessage.getCacheName());
+        if (Objects.isNull(localCache)) {
+            return;
+        }
+        if (Objects.isNull(invalidationMessage.getKey())) {
+            localCache.clear();
+            return;
+        }
+        localCache.evict(invalidationMessage.getKey());
+    }
+}
@@ -0,0 +1,23 @@
+package com.pet.common.cache;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// key 가 null 이면 캐시 전체를 비운다.
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CacheInvalidationMessage {
+
+    private String nodeId;
+
+    private String cacheName;
+
+    private String key;
+
+    public CacheInvalidationMessage(String nodeId, String cacheName, String key) {
+        this.nodeId = nodeId;
+        this.cacheName = cacheName;
+        this.key = key;
+    }
+}
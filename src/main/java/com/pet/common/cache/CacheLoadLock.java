@@ -0,0 +1,11 @@
+package com.pet.common.cache;
+
+import java.time.Duration;
+
+// 여러 서버가 같은 캐시 값을 동시에 불러오지 않도록 잡는 잠금, 잡지 못하면 기다리지 않고 false 를 돌려준다.
+public interface CacheLoadLock {
+
+    boolean tryLock(String name, Duration ttl);
+
+    void unlock(String name);
+}
@@ -0,0 +1,57 @@
+package com.pet.common.cache;
+
+import com.pet.common.version.DataResource;
+import com.pet.common.version.DataVersionRegistry;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+// 만료 전에 값을 새로 불러와 덮어써서 조회가 캐시 미스로 db 를 기다리지 않게 한다.
+// 서버마다 갱신 시각이 다르므로 잠금을 갱신 주기만큼 유지해 한 주기에 한 서버만 갱신한다. 실패하면 바로 푼다.
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class CacheRefresher {
+
+    private final ObjectProvider<CacheManager> cacheManagerProvider;
+
+    private final CacheLoadLock cacheLoadLock;
+
+    private final DataVersionRegistry dataVersionRegistry;
+
+    @Value("${cache.refresh-ahead-interval:PT45M}")
+    private Duration refreshLockTtl;
+
+    // 불러오는 사이 데이터가 바뀌어 버전이 올라갔으면 이전 값으로 덮어쓰지 않는다. 바꾼 쪽이 캐시를 비우므로 다음 조회가 새로 읽는다.
+    public void refresh(String cacheName, Object key, DataResource dataResource, Supplier<?> valueLoader) {
+        CacheManager cacheManager = cacheManagerProvider.getIfAvailable();
+        if (Objects.isNull(cacheManager)) {
+            return;
+        }
+        Cache cache = cacheManager.getCache(cacheName);
+        String lockName = "refresh:" + cacheName + "::" + key;
+        if (Objects.isNull(cache) || !cacheLoadLock.tryLock(lockName, refreshLockTtl)) {
+            return;
+        }
+        try {
+            String version = dataVersionRegistry.getVersion(dataResource);
+            Object value = valueLoader.get();
+            if (!Objects.equals(version, dataVersionRegistry.getVersion(dataResource))) {
+                log.info("cache refresh skipped, {} changed while loading", cacheName);
+                return;
+            }
+            cache.put(key, value);
+        } catch (RuntimeException exception) {
+            // 기존 값은 ttl 까지 남아 있으므로 잠금만 풀어 다른 서버가 다시 시도하게 한다.
+            cacheLoadLock.unlock(lockName);
+            log.warn("cache refresh failed, cache: {}", cacheName, exception);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.pet.common.cache;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+@Getter
+@RequiredArgsConstructor
+public enum CacheValueCodec {
+
+    JSON("json") {
+        @Override
+        public RedisSerializer<Object> createSerializer() {
+            return new GenericJackson2JsonRedisSerializer();
+        }
+    },
+    // jackson 의 바이너리 포맷, 반복되는 필드 이름과 @class 값은 앞의 것을 참조해 한 번만 쓴다.
+    SMILE("smile") {
+        @Override
+        public RedisSerializer<Object> createSerializer() {
+            ObjectMapper objectMapper = new ObjectMapper(SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build());
+            GenericJackson2JsonRedisSerializer.registerNullValueSerializer(objectMapper, null);
+            objectMapper.activateDefaultTyping(objectMapper.getPolymorphicTypeValidator(),
+                ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+            return new GenericJackson2JsonRedisSerializer(objectMapper);
+        }
+    };
+
+    private final String key;
+
+    public abstract RedisSerializer<Object> createSerializer();
+}
@@ -0,0 +1,96 @@
+package com.pet.common.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+// threshold 바이트 이상인 값만 deflate 로 압축한다. 첫 바이트로 압축 여부를 구분한다.
+public class CompressingRedisSerializer implements RedisSerializer<Object> {
+
+    private static final byte PLAIN = 0;
+
+    private static final byte DEFLATED = 1;
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private final RedisSerializer<Object> delegate;
+
+    private final long threshold;
+
+    public CompressingRedisSerializer(RedisSerializer<Object> delegate, long threshold) {
+        this.delegate = delegate;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public byte[] serialize(Object value) {
+        byte[] bytes = delegate.serialize(value);
+        if (Objects.isNull(bytes)) {
+            return null;
+        }
+        if (bytes.length < threshold) {
+            return withHeader(PLAIN, bytes);
+        }
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(bytes);
+            deflater.finish();
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(bytes.length / 2 + 1);
+            outputStream.write(DEFLATED);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                outputStream.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return outputStream.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) {
+        if (Objects.isNull(bytes) || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] == PLAIN) {
+            return delegate.deserialize(Arrays.copyOfRange(bytes, 1, bytes.length));
+        }
+        if (bytes[0] != DEFLATED) {
+            throw new SerializationException("unknown cache value header: " + bytes[0]);
+        }
+        return delegate.deserialize(inflate(bytes));
+    }
+
+    private byte[] inflate(byte[] bytes) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes, 1, bytes.length - 1);
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(bytes.length * 4);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new SerializationException("truncated cache value");
+                }
+                outputStream.write(buffer, 0, length);
+            }
+            return outputStream.toByteArray();
+        } catch (DataFormatException exception) {
+            throw new SerializationException("invalid compressed cache value", exception);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private byte[] withHeader(byte header, byte[] bytes) {
+        byte[] result = new byte[bytes.length + 1];
+        result[0] = header;
+        System.arraycopy(bytes, 0, result, 1, bytes.length);
+        return result;
+    }
+}
@@ -0,0 +1,165 @@
+package com.pet.common.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.cache.Cache;
+
+// 캐시 호출마다 적중, 미스, 적재 시간, 삭제 수를 cache 태그를 붙여 남긴다.
+// cache.size 는 이 서버의 프로세스 안 항목 수이며 알 수 없으면 NaN 이다.
+public class InstrumentedCache implements Cache {
+
+    public static final String GETS = "cache.gets";
+
+    public static final String PUTS = "cache.puts";
+
+    public static final String EVICTIONS = "cache.evictions";
+
+    public static final String LOADS = "cache.loads";
+
+    public static final String SIZE = "cache.size";
+
+    public static final String CACHE_TAG = "cache";
+
+    public static final String RESULT_TAG = "result";
+
+    private final Cache delegate;
+
+    private final Counter hits;
+
+    private final Counter misses;
+
+    private final Counter puts;
+
+    private final Counter evictions;
+
+    private final Timer successfulLoads;
+
+    private final Timer failedLoads;
+
+    public InstrumentedCache(Cache delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        String name = delegate.getName();
+        this.hits = Counter.builder(GETS).tags(CACHE_TAG, name, RESULT_TAG, "hit").register(meterRegistry);
+        this.misses = Counter.builder(GETS).tags(CACHE_TAG, name, RESULT_TAG, "miss").register(meterRegistry);
+        this.puts = Counter.builder(PUTS).tags(CACHE_TAG, name).register(meterRegistry);
+        this.evictions = Counter.builder(EVICTIONS).tags(CACHE_TAG, name).register(meterRegistry);
+        this.successfulLoads = Timer.builder(LOADS).tags(CACHE_TAG, name, RESULT_TAG, "success")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.failedLoads = Timer.builder(LOADS).tags(CACHE_TAG, name, RESULT_TAG, "failure")
+            .register(meterRegistry);
+        Gauge.builder(SIZE, this, InstrumentedCache::estimateSize).tags(CACHE_TAG, name).register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper valueWrapper = delegate.get(key);
+        recordGet(Objects.nonNull(valueWrapper));
+        return valueWrapper;
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        T value = delegate.get(key, type);
+        recordGet(Objects.nonNull(value));
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        AtomicBoolean loaded = new AtomicBoolean();
+        T value = delegate.get(key, () -> {
+            loaded.set(true);
+            return load(valueLoader);
+        });
+        recordGet(!loaded.get());
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+        puts.increment();
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existingValue = delegate.putIfAbsent(key, value);
+        if (Objects.isNull(existingValue)) {
+            puts.increment();
+        }
+        return existingValue;
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+        evictions.increment();
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = delegate.evictIfPresent(key);
+        if (evicted) {
+            evictions.increment();
+        }
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        evictions.increment();
+    }
+
+    private <T> T load(Callable<T> valueLoader) throws Exception {
+        long startNanos = System.nanoTime();
+        try {
+            T value = valueLoader.call();
+            successfulLoads.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            return value;
+        } catch (Exception exception) {
+            failedLoads.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            throw exception;
+        }
+    }
+
+    private void recordGet(boolean hit) {
+        if (hit) {
+            hits.increment();
+            return;
+        }
+        misses.increment();
+    }
+
+    private double estimateSize() {
+        Object nativeCache = delegate.getNativeCache();
+        if (nativeCache instanceof TwoLevelCache) {
+            return ((TwoLevelCache) nativeCache).estimateLocalSize();
+        }
+        if (nativeCache instanceof com.github.benmanes.caffeine.cache.Cache) {
+            return ((com.github.benmanes.caffeine.cache.Cache<?, ?>) nativeCache).estimatedSize();
+        }
+        if (nativeCache instanceof Map) {
+            return ((Map<?, ?>) nativeCache).size();
+        }
+        return Double.NaN;
+    }
+}
@@ -0,0 +1,45 @@
+package com.pet.common.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+public class InstrumentedCacheManager implements CacheManager {
+
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    private final CacheManager delegate;
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    public InstrumentedCacheManager(CacheManager delegate, ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.delegate = delegate;
+        this.meterRegistryProvider = meterRegistryProvider;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (Objects.nonNull(cache)) {
+            return cache;
+        }
+        Cache delegateCache = delegate.getCache(name);
+        if (Objects.isNull(delegateCache)) {
+            return null;
+        }
+        // 레지스트리는 처음 캐시를 꺼낼 때 찾으므로 캐시 매니저가 먼저 만들어져도 된다.
+        return caches.computeIfAbsent(name, key -> new InstrumentedCache(delegateCache,
+            meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry)));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
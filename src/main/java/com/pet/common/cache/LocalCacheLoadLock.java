@@ -0,0 +1,20 @@
+package com.pet.common.cache;
+
+import java.time.Duration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+// 서버 하나로 띄우는 환경용, 같은 키의 동시 적재는 @Cacheable(sync = true) 가 막으므로 잠금은 항상 잡힌다.
+@Component
+@Profile({"local", "default", "rds"})
+public class LocalCacheLoadLock implements CacheLoadLock {
+
+    @Override
+    public boolean tryLock(String name, Duration ttl) {
+        return true;
+    }
+
+    @Override
+    public void unlock(String name) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.pet.common.cache;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Objects;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+// redis 에 저장하는 값의 바이트 크기를 cache.entry.size 로 남긴다.
+public class MeteredRedisSerializer implements RedisSerializer<Object> {
+
+    public static final String ENTRY_SIZE = "cache.entry.size";
+
+    private final RedisSerializer<Object> delegate;
+
+    private final DistributionSummary entrySize;
+
+    public MeteredRedisSerializer(RedisSerializer<Object> delegate, MeterRegistry meterRegistry, String cacheName) {
+        this.delegate = delegate;
+        this.entrySize = DistributionSummary.builder(ENTRY_SIZE)
+            .baseUnit("bytes")
+            .tags(InstrumentedCache.CACHE_TAG, cacheName)
+            .register(meterRegistry);
+    }
+
+    @Override
+    public byte[] serialize(Object value) {
+        byte[] bytes = delegate.serialize(value);
+        if (Objects.nonNull(bytes)) {
+            entrySize.record(bytes.length);
+        }
+        return bytes;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) {
+        return delegate.deserialize(bytes);
+    }
+}
@@ -0,0 +1,38 @@
+package com.pet.common.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+// 잠금 값에 서버 id 를 넣어 ttl 이 지나 다른 서버가 잡은 잠금은 풀지 않는다.
+@RequiredArgsConstructor
+@Component
+@Profile({"dev", "prod"})
+public class RedisCacheLoadLock implements CacheLoadLock {
+
+    private static final String KEY_PREFIX = "cache-lock:";
+
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+        Long.class);
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public boolean tryLock(String name, Duration ttl) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + name, nodeId, ttl));
+    }
+
+    @Override
+    public void unlock(String name) {
+        stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(KEY_PREFIX + name), nodeId);
+    }
+}
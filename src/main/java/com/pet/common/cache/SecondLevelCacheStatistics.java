@@ -0,0 +1,48 @@
+package com.pet.common.cache;
+
+import java.util.Objects;
+import javax.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 기준 정보 엔티티의 hibernate 2차 캐시 적중률을 한 시간마다 남긴다. 값은 서버가 뜬 뒤부터 누적된 값이다.
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class SecondLevelCacheStatistics {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Scheduled(cron = "0 0 * * * *")
+    public void logStatistics() {
+        Statistics statistics = getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            return;
+        }
+        // 엔티티 영역과 쿼리 캐시 영역을 함께 돈다.
+        for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(regionName);
+            if (Objects.isNull(regionStatistics)) {
+                continue;
+            }
+            log.info("second level cache region: {}, hit: {}, miss: {}, hit ratio: {}, size: {}", regionName,
+                regionStatistics.getHitCount(), regionStatistics.getMissCount(),
+                getHitRatio(regionStatistics.getHitCount(), regionStatistics.getMissCount()),
+                regionStatistics.getElementCountInMemory());
+        }
+    }
+
+    public Statistics getStatistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public static double getHitRatio(long hitCount, long missCount) {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 0 : (double) hitCount / requestCount;
+    }
+}
@@ -0,0 +1,189 @@
+package com.pet.common.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.cache.Cache;
+
+// 프로세스 안 캐시(L1)를 먼저 보고 없으면 redis(L2)에서 읽어 L1 에 채운다.
+// 쓰기와 삭제는 L2, L1 순서로 반영한 뒤 다른 노드에 알린다. L1 키는 노드 사이에 주고받을 수 있게 문자열로 바꾼다.
+public class TwoLevelCache implements Cache {
+
+    private static final Duration LOAD_LOCK_TTL = Duration.ofSeconds(10);
+
+    private static final long LOAD_WAIT_INTERVAL_MILLIS = 50;
+
+    private final Cache localCache;
+
+    private final Cache remoteCache;
+
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    private final CacheLoadLock cacheLoadLock;
+
+    private final Map<String, CompletableFuture<Object>> runningLoads = new ConcurrentHashMap<>();
+
+    public TwoLevelCache(Cache localCache, Cache remoteCache, CacheInvalidationBus cacheInvalidationBus,
+        CacheLoadLock cacheLoadLock) {
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.cacheLoadLock = cacheLoadLock;
+    }
+
+    @Override
+    public String getName() {
+        return remoteCache.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = toLocalKey(key);
+        ValueWrapper localValue = localCache.get(localKey);
+        if (Objects.nonNull(localValue)) {
+            return localValue;
+        }
+        ValueWrapper remoteValue = remoteCache.get(key);
+        if (Objects.nonNull(remoteValue)) {
+            localCache.put(localKey, remoteValue.get());
+        }
+        return remoteValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper valueWrapper = get(key);
+        Object value = Objects.isNull(valueWrapper) ? null : valueWrapper.get();
+        if (Objects.nonNull(value) && Objects.nonNull(type) && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    // 한 노드 안에서는 먼저 온 요청만 불러오고 나머지는 그 결과를 기다리며, 노드 사이에서는 redis 잠금을 잡은 노드만 값을 불러온다.
+    // 다른 노드를 기다리는 동안 L1 의 다른 키가 막히지 않도록 L1 의 적재 함수 밖에서 기다린다.
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = toLocalKey(key);
+        ValueWrapper localValue = localCache.get(localKey);
+        if (Objects.nonNull(localValue)) {
+            return (T) localValue.get();
+        }
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> runningLoad = runningLoads.putIfAbsent(localKey, load);
+        if (Objects.nonNull(runningLoad)) {
+            return (T) awaitLoad(key, valueLoader, runningLoad);
+        }
+        try {
+            T value = getRemoteOrLoad(key, valueLoader);
+            localCache.put(localKey, value);
+            load.complete(value);
+            return value;
+        } catch (Exception exception) {
+            load.completeExceptionally(exception);
+            throw new ValueRetrievalException(key, valueLoader, exception);
+        } finally {
+            runningLoads.remove(localKey, load);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        putRemote(key, value);
+        localCache.put(toLocalKey(key), value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existingValue = remoteCache.putIfAbsent(key, value);
+        if (Objects.nonNull(existingValue)) {
+            localCache.put(toLocalKey(key), existingValue.get());
+            return existingValue;
+        }
+        localCache.put(toLocalKey(key), value);
+        cacheInvalidationBus.publish(getName(), toLocalKey(key));
+        return null;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remoteCache.evict(key);
+        localCache.evict(toLocalKey(key));
+        cacheInvalidationBus.publish(getName(), toLocalKey(key));
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        localCache.clear();
+        cacheInvalidationBus.publish(getName(), null);
+    }
+
+    public long estimateLocalSize() {
+        Object nativeLocalCache = localCache.getNativeCache();
+        if (nativeLocalCache instanceof com.github.benmanes.caffeine.cache.Cache) {
+            return ((com.github.benmanes.caffeine.cache.Cache<?, ?>) nativeLocalCache).estimatedSize();
+        }
+        return 0;
+    }
+
+    // 다른 노드가 불러오는 중이면 redis 에 값이 생기거나 잠금이 풀릴 때까지 기다린다.
+    // 잠금을 잡은 노드가 실패해 잠금을 풀면 바로 다음 확인에서 잡아 불러오고, 잠금 시간이 지나도 못 잡으면 직접 불러온다.
+    @SuppressWarnings("unchecked")
+    private <T> T getRemoteOrLoad(Object key, Callable<T> valueLoader) throws Exception {
+        String lockName = getName() + "::" + toLocalKey(key);
+        long deadline = System.currentTimeMillis() + LOAD_LOCK_TTL.toMillis();
+        while (true) {
+            ValueWrapper remoteValue = remoteCache.get(key);
+            if (Objects.nonNull(remoteValue)) {
+                return (T) remoteValue.get();
+            }
+            if (cacheLoadLock.tryLock(lockName, LOAD_LOCK_TTL)) {
+                try {
+                    remoteValue = remoteCache.get(key);
+                    return Objects.nonNull(remoteValue) ? (T) remoteValue.get() : load(key, valueLoader);
+                } finally {
+                    cacheLoadLock.unlock(lockName);
+                }
+            }
+            if (System.currentTimeMillis() >= deadline) {
+                return load(key, valueLoader);
+            }
+            Thread.sleep(LOAD_WAIT_INTERVAL_MILLIS);
+        }
+    }
+
+    private Object awaitLoad(Object key, Callable<?> valueLoader, CompletableFuture<Object> runningLoad) {
+        try {
+            return runningLoad.join();
+        } catch (CompletionException exception) {
+            throw new ValueRetrievalException(key, valueLoader, exception.getCause());
+        }
+    }
+
+    private <T> T load(Object key, Callable<T> valueLoader) throws Exception {
+        T value = valueLoader.call();
+        putRemote(key, value);
+        return value;
+    }
+
+    private void putRemote(Object key, Object value) {
+        remoteCache.put(key, value);
+        cacheInvalidationBus.publish(getName(), toLocalKey(key));
+    }
+
+    private String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,57 @@
+package com.pet.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pet.common.property.TwoLevelCacheProperties;
+import com.pet.common.property.TwoLevelCacheProperties.Spec;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+
+// RedisCacheManager 가 만든 캐시마다 크기 제한이 있는 caffeine 캐시를 앞에 붙인다.
+public class TwoLevelCacheManager implements CacheManager {
+
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    private final RedisCacheManager redisCacheManager;
+
+    private final TwoLevelCacheProperties twoLevelCacheProperties;
+
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    private final CacheLoadLock cacheLoadLock;
+
+    public TwoLevelCacheManager(RedisCacheManager redisCacheManager, TwoLevelCacheProperties twoLevelCacheProperties,
+        CacheInvalidationBus cacheInvalidationBus, CacheLoadLock cacheLoadLock) {
+        this.redisCacheManager = redisCacheManager;
+        this.twoLevelCacheProperties = twoLevelCacheProperties;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.cacheLoadLock = cacheLoadLock;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    private Cache createCache(String name) {
+        Cache remoteCache = Objects.requireNonNull(redisCacheManager.getCache(name));
+        Spec spec = twoLevelCacheProperties.getSpec(name);
+        Cache localCache = new CaffeineCache(name, Caffeine.newBuilder()
+            .maximumSize(spec.getMaximumSize())
+            .expireAfterWrite(spec.getLocalTtl())
+            .build());
+        cacheInvalidationBus.register(localCache);
+        return new TwoLevelCache(localCache, remoteCache, cacheInvalidationBus, cacheLoadLock);
+    }
+}
@@ -0,0 +1,28 @@
+package com.pet.common.config;
+
+import com.pet.common.cache.InstrumentedCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 프로필마다 다른 캐시 매니저를 모두 감싸 같은 이름의 지표를 남긴다.
+@Configuration
+public class CacheMetricsConfig {
+
+    @Bean
+    public static BeanPostProcessor instrumentedCacheManagerPostProcessor(
+        ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof CacheManager && !(bean instanceof InstrumentedCacheManager)) {
+                    return new InstrumentedCacheManager((CacheManager) bean, meterRegistryProvider);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,27 @@
+package com.pet.common.config;
+
+import com.pet.domains.comment.service.RedisCommentEventPublisher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@RequiredArgsConstructor
+@Configuration
+@Profile({"dev", "prod"})
+public class CommentStreamConfig {
+
+    private final RedisConnectionFactory redisConnectionFactory;
+
+    @Bean
+    public RedisMessageListenerContainer commentEventListenerContainer(
+        RedisCommentEventPublisher redisCommentEventPublisher) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(redisCommentEventPublisher, new ChannelTopic(RedisCommentEventPublisher.CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,20 @@
+package com.pet.common.config;
+
+import com.pet.common.version.DataVersionInterceptor;
+import com.pet.common.version.DataVersionRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class DataVersionConfig implements WebMvcConfigurer {
+
+    private final DataVersionRegistry dataVersionRegistry;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new DataVersionInterceptor(dataVersionRegistry));
+    }
+}
@@ -1,6 +1,7 @@
 package com.pet.common.config;
 
 import com.pet.domains.account.domain.Account;
+import com.pet.domains.account.domain.AccountGroup;
 import com.pet.domains.account.repository.AccountRepository;
 import com.pet.domains.area.domain.City;
 import com.pet.domains.area.domain.Town;
@@ -11,6 +12,8 @@ import com.pet.domains.auth.domain.GroupPermission;
 import com.pet.domains.auth.domain.Permission;
 import com.pet.domains.auth.repository.GroupPermissionRepository;
 import com.pet.domains.post.service.ShelterApiService;
+import com.pet.domains.post.service.ShelterPostSyncService;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.ApplicationArguments;
@@ -28,6 +31,7 @@ public class InitDataConfig implements ApplicationRunner {
     private final GroupPermissionRepository groupPermissionRepository;
     private final AccountRepository accountRepository;
     private final ShelterApiService shelterApiService;
+    private final ShelterPostSyncService shelterPostSyncService;
     private final JdbcTemplate jdbcTemplate;
 
     private final CityRepository cityRepository;
@@ -52,6 +56,22 @@ public class InitDataConfig implements ApplicationRunner {
             });
         accountRepository.save(tester);
 
+        // 관리자 그룹은 /api/v1/admin/**, /actuator/** 와 일반 회원 api 를 모두 쓸 수 있다.
+        String adminEmail = "test-admin@email.com";
+        Group adminGroup = new Group(AccountGroup.ADMIN_GROUP.name());
+        Account admin = Account.builder()
+            .email(adminEmail)
+            .password("$2a$10$21Pd/Fr9GAN9Js6FmvahmuBMEZo73FSBUpDPXl2lTIyLWSqnQoaqi") // user123
+            .nickname("admin").notification(false).checkedArea(false).group(adminGroup)
+            .build();
+
+        groupPermissionRepository.saveAll(List.of(
+            new GroupPermission(adminGroup, new Permission("ROLE_USER")),
+            new GroupPermission(adminGroup, new Permission("ROLE_ADMIN"))));
+        accountRepository.findByEmail(adminEmail)
+            .ifPresent(account -> accountRepository.deleteById(account.getId()));
+        accountRepository.save(admin);
+
         City city = cityRepository.save(new City("1111", "서울시"));
         townRepository.save(new Town("123", "도봉구", city));
         townRepository.save(new Town("321", "강북구", city));
@@ -74,7 +94,7 @@ public class InitDataConfig implements ApplicationRunner {
         shelterApiService.saveAllTowns();
 
         log.debug("shelterPostDailyCronJob start..");
-        shelterApiService.shelterPostDailyCronJob();
+        shelterPostSyncService.shelterPostDailyCronJob();
     }
 
 }
@@ -0,0 +1,40 @@
+package com.pet.common.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pet.common.property.TwoLevelCacheProperties;
+import com.pet.common.property.TwoLevelCacheProperties.Spec;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+// redis 없이 띄우는 환경에서는 프로세스 안 캐시만 쓴다.
+@EnableCaching
+@RequiredArgsConstructor
+@Configuration
+@Profile({"local", "default", "rds"})
+public class LocalCachingConfig {
+
+    private final TwoLevelCacheProperties twoLevelCacheProperties;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(caffeine(twoLevelCacheProperties.getDefaults()));
+        if (Objects.nonNull(twoLevelCacheProperties.getCaches())) {
+            twoLevelCacheProperties.getCaches()
+                .forEach((name, spec) -> cacheManager.registerCustomCache(name, caffeine(spec).build()));
+        }
+        return cacheManager;
+    }
+
+    private Caffeine<Object, Object> caffeine(Spec spec) {
+        return Caffeine.newBuilder()
+            .maximumSize(spec.getMaximumSize())
+            .expireAfterWrite(spec.getTtl());
+    }
+}
@@ -1,8 +1,21 @@
 package com.pet.common.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import java.time.Duration;
+import com.pet.common.cache.CacheInvalidationBus;
+import com.pet.common.cache.CacheLoadLock;
+import com.pet.common.cache.CacheValueCodec;
+import com.pet.common.cache.CompressingRedisSerializer;
+import com.pet.common.cache.MeteredRedisSerializer;
+import com.pet.common.cache.TwoLevelCacheManager;
+import com.pet.common.property.TwoLevelCacheProperties;
+import com.pet.common.property.TwoLevelCacheProperties.Spec;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
@@ -11,8 +24,11 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @EnableCaching
@@ -21,28 +37,79 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
 @Profile({"dev", "prod"})
 public class RedisCachingConfig {
 
+    // 설정에 없는 캐시는 기본 설정을 함께 쓰므로 값 크기 지표도 이 이름으로 묶인다.
+    private static final String DEFAULT_CACHE_TAG = "default";
+
     private final RedisConnectionFactory redisConnectionFactory;
 
     private final ObjectMapper objectMapper;
 
+    private final TwoLevelCacheProperties twoLevelCacheProperties;
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    @Bean
+    public CacheManager cacheManager(CacheInvalidationBus cacheInvalidationBus, CacheLoadLock cacheLoadLock) {
+        return new TwoLevelCacheManager(redisCacheManager(), twoLevelCacheProperties, cacheInvalidationBus,
+            cacheLoadLock);
+    }
+
     @Bean
-    public CacheManager redisCacheManager() {
-        RedisCacheConfiguration redisCachingConfiguration = RedisCacheConfiguration
+    public CacheInvalidationBus cacheInvalidationBus(StringRedisTemplate stringRedisTemplate) {
+        return new CacheInvalidationBus(stringRedisTemplate, objectMapper);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+        CacheInvalidationBus cacheInvalidationBus) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(cacheInvalidationBus, new ChannelTopic(CacheInvalidationBus.CHANNEL));
+        return container;
+    }
+
+    // 빈으로 올리지 않으므로 초기화를 직접 호출한다.
+    private RedisCacheManager redisCacheManager() {
+        Map<String, RedisCacheConfiguration> cacheConfigurations = Objects.isNull(twoLevelCacheProperties.getCaches())
+            ? Map.of()
+            : twoLevelCacheProperties.getCaches().entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey,
+                    entry -> redisCacheConfiguration(entry.getKey(), entry.getValue())));
+
+        RedisCacheManager redisCacheManager = RedisCacheManager
+            .RedisCacheManagerBuilder
+            .fromConnectionFactory(redisConnectionFactory)
+            .cacheDefaults(redisCacheConfiguration(DEFAULT_CACHE_TAG, twoLevelCacheProperties.getDefaults()))
+            .withInitialCacheConfigurations(cacheConfigurations)
+            .build();
+        redisCacheManager.afterPropertiesSet();
+        return redisCacheManager;
+    }
+
+    private RedisCacheConfiguration redisCacheConfiguration(String cacheName, Spec spec) {
+        RedisCacheConfiguration redisCacheConfiguration = RedisCacheConfiguration
             .defaultCacheConfig()
             .serializeKeysWith(
                 RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer())
             )
             .serializeValuesWith(
-                RedisSerializationContext.SerializationPair.fromSerializer(
-                    new GenericJackson2JsonRedisSerializer()
-                )
+                RedisSerializationContext.SerializationPair.fromSerializer(valueSerializer(cacheName, spec))
             )
-            .entryTtl(Duration.ofHours(1));
+            .entryTtl(spec.getTtl());
+        if (spec.getCodec() == CacheValueCodec.JSON && !spec.isCompressed()) {
+            return redisCacheConfiguration;
+        }
+        // 포맷이 바뀐 캐시는 키 접두사를 바꿔 예전 포맷으로 저장된 값을 읽지 않는다.
+        String format = spec.getCodec().getKey() + (spec.isCompressed() ? "-deflate" : "");
+        return redisCacheConfiguration.computePrefixWith(cacheName -> cacheName + ":" + format + "::");
+    }
 
-        return RedisCacheManager
-            .RedisCacheManagerBuilder
-            .fromConnectionFactory(redisConnectionFactory)
-            .cacheDefaults(redisCachingConfiguration)
-            .build();
+    private RedisSerializer<Object> valueSerializer(String cacheName, Spec spec) {
+        RedisSerializer<Object> serializer = spec.getCodec().createSerializer();
+        if (spec.isCompressed()) {
+            serializer = new CompressingRedisSerializer(serializer, spec.getCompressionThreshold().toBytes());
+        }
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry);
+        return new MeteredRedisSerializer(serializer, meterRegistry, cacheName);
     }
 }
@@ -49,6 +49,7 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
     private static final String V1 = "/api/v1";
     private static final String ROLE_USER = "USER";
     private static final String ROLE_ANONYMOUS = "ANONYMOUS";
+    private static final String ROLE_ADMIN = "ADMIN";
 
     private final JwtProperty jwtProperty;
     private final RefreshJwtProperty refreshJwtProperty;
@@ -138,6 +139,9 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
             // 댓글
             .antMatchers(v1("/comments/**")).hasAnyRole(ROLE_USER)
 
+            // 관리자
+            .antMatchers(v1("/admin/**"), "/actuator/**").hasAnyRole(ROLE_ADMIN)
+
             .anyRequest().permitAll()
             .and()
 
@@ -50,6 +50,9 @@ public enum ExceptionMessage {
 
     // 댓글 10xx
     NOT_FOUND_COMMENT(new NotFoundException("해당하는 댓글을 찾을 수 없습니다.", 1001)),
+    INVALID_COMMENT_CURSOR(new BadRequestException("잘못된 댓글 커서입니다.", 1002)),
+    COMMENT_STREAM_FULL(new InternalServerException("댓글 실시간 구독자가 많습니다. 잠시 후 다시 시도해주세요.", 1003)),
+    TOO_MANY_COMMENT_STREAMS(new ConflictException("동시에 열 수 있는 댓글 실시간 구독 수를 넘었습니다.", 1004)),
 
     // 이미지 11xx
     FAIL_CHANGE_IMAGE(new BadRequestException("이미지 변환이 실패했습니다.", 1101)),
@@ -63,6 +66,9 @@ public enum ExceptionMessage {
 
     // 보호소 게시물 13xx
     NOT_FOUND_SHELTER_POST(new NotFoundException("해당하는 보호소 게시글을 찾을 수 없습니다.", 1301)),
+    INVALID_SHELTER_SYNC_PERIOD(new BadRequestException("잘못된 보호소 게시글 동기화 기간입니다.", 1302)),
+    INVALID_SHELTER_POST_CURSOR(new BadRequestException("잘못된 보호소 게시글 커서입니다.", 1303)),
+    SHELTER_SYNC_ALREADY_RUNNING(new ConflictException("보호소 게시글 동기화가 이미 진행 중입니다.", 1304)),
 
     // 알림 14xx
     NOT_FOUND_NOTIFICATION(new NotFoundException("해당하는 알림을 찾을 수 없습니다.", 1401)),
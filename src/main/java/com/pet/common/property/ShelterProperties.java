@@ -17,6 +17,8 @@ public class ShelterProperties {
 
     private final ShelterProperties.Api api;
 
+    private final ShelterProperties.Batch batch;
+
     @RequiredArgsConstructor
     @Getter
     public static class Api {
@@ -25,6 +27,18 @@ public class ShelterProperties {
         private final String key;
     }
 
+    @RequiredArgsConstructor
+    @Getter
+    public static class Batch {
+
+        private final int chunkSize;
+
+        // 한 페이지는 numOfRows(100) 건을 넘지 않으므로 chunkSize 와 따로 두어야 페이지가 실제로 나뉜다.
+        private final int decodeChunkSize;
+
+        private final int concurrency;
+    }
+
     public String getUrl() {
         return api.getUrl();
     }
@@ -33,4 +47,16 @@ public class ShelterProperties {
         return api.getKey();
     }
 
+    public int getChunkSize() {
+        return batch.getChunkSize();
+    }
+
+    public int getDecodeChunkSize() {
+        return batch.getDecodeChunkSize();
+    }
+
+    public int getConcurrency() {
+        return batch.getConcurrency();
+    }
+
 }
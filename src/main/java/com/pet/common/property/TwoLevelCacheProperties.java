@@ -0,0 +1,56 @@
+package com.pet.common.property;
+
+import com.pet.common.cache.CacheValueCodec;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.util.unit.DataSize;
+
+@Getter
+@RequiredArgsConstructor
+@ConstructorBinding
+@ConfigurationProperties(prefix = "cache")
+public class TwoLevelCacheProperties {
+
+    private final TwoLevelCacheProperties.Spec defaults;
+
+    private final Map<String, TwoLevelCacheProperties.Spec> caches;
+
+    @RequiredArgsConstructor
+    @Getter
+    public static class Spec {
+
+        // redis 에 두는 시간, 로컬 전용 모드에서는 프로세스 안 캐시의 유효 시간
+        private final Duration ttl;
+
+        // redis 앞의 프로세스 안 캐시 유효 시간, 무효화 메시지를 놓쳐도 이 시간 뒤에는 redis 값을 다시 읽는다.
+        private final Duration localTtl;
+
+        private final long maximumSize;
+
+        // redis 에 저장할 값 포맷, 없으면 json
+        private final CacheValueCodec codec;
+
+        // 이 크기 이상인 값은 압축해서 저장한다. 없으면 압축하지 않는다.
+        private final DataSize compressionThreshold;
+
+        public CacheValueCodec getCodec() {
+            return Objects.isNull(codec) ? CacheValueCodec.JSON : codec;
+        }
+
+        public boolean isCompressed() {
+            return Objects.nonNull(compressionThreshold);
+        }
+    }
+
+    public Spec getSpec(String cacheName) {
+        if (Objects.isNull(caches)) {
+            return defaults;
+        }
+        return caches.getOrDefault(cacheName, defaults);
+    }
+}
@@ -0,0 +1,130 @@
+package com.pet.common.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pet.common.version.DataResource;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+// 기준 정보처럼 모두에게 같은 응답은 ApiResponse 를 미리 json, gzip 바이트로 만들어 두고 그대로 내려준다.
+// 데이터는 매번 캐시에서 꺼내고, 꺼낸 객체가 바뀌었을 때만 다시 만든다. serverDateTime 은 다시 만든 시각이 된다.
+// ETag 는 바이트의 해시라서 이 서버의 캐시가 잠깐 이전 값을 주더라도 이전 ETag 로 나가 새 데이터와 섞이지 않는다.
+@RequiredArgsConstructor
+@Component
+public class PreEncodedResponseCache {
+
+    private static final String GZIP = "gzip";
+
+    private static final String ANY_ENCODING = "*";
+
+    private final Map<DataResource, EncodedBody> encodedBodies = new ConcurrentHashMap<>();
+
+    private final ObjectMapper objectMapper;
+
+    // ETag 가 If-None-Match 와 같으면 HttpEntityMethodProcessor 가 본문 없이 304 로 바꾼다.
+    public ResponseEntity<byte[]> get(DataResource dataResource, String acceptEncoding, Supplier<?> dataSupplier) {
+        EncodedBody encodedBody = getEncodedBody(dataResource, dataSupplier);
+        ResponseEntity.BodyBuilder bodyBuilder = ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .cacheControl(CacheControl.noCache())
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsGzip(acceptEncoding)) {
+            return bodyBuilder.header(HttpHeaders.CONTENT_ENCODING, GZIP)
+                .eTag(encodedBody.eTag + "-" + GZIP)
+                .body(encodedBody.gzippedBody);
+        }
+        return bodyBuilder.eTag(encodedBody.eTag).body(encodedBody.body);
+    }
+
+    private EncodedBody getEncodedBody(DataResource dataResource, Supplier<?> dataSupplier) {
+        Object data = dataSupplier.get();
+        EncodedBody encodedBody = encodedBodies.get(dataResource);
+        if (Objects.nonNull(encodedBody) && encodedBody.data == data) {
+            return encodedBody;
+        }
+        EncodedBody createdBody = new EncodedBody(data, encode(ApiResponse.ok(data)));
+        encodedBodies.put(dataResource, createdBody);
+        return createdBody;
+    }
+
+    // "gzip;q=0" 처럼 q 가 0 이면 받지 않는다는 뜻이다. gzip 이 없으면 "*" 의 q 를 따른다.
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (StringUtils.isBlank(acceptEncoding)) {
+            return false;
+        }
+        Float anyQuality = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] nameAndParams = coding.split(";");
+            String name = nameAndParams[0].trim();
+            float quality = getQuality(nameAndParams);
+            if (GZIP.equalsIgnoreCase(name)) {
+                return quality > 0;
+            }
+            if (ANY_ENCODING.equals(name)) {
+                anyQuality = quality;
+            }
+        }
+        return Objects.nonNull(anyQuality) && anyQuality > 0;
+    }
+
+    private static float getQuality(String[] nameAndParams) {
+        for (int i = 1; i < nameAndParams.length; i++) {
+            String[] param = nameAndParams[i].split("=", 2);
+            if (param.length == 2 && "q".equalsIgnoreCase(param[0].trim())) {
+                return NumberUtils.toFloat(param[1].trim(), 0);
+            }
+        }
+        return 1;
+    }
+
+    private byte[] encode(ApiResponse<?> apiResponse) {
+        try {
+            return objectMapper.writeValueAsBytes(apiResponse);
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("response serialization failed", exception);
+        }
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(body.length / 4 + 1);
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(body);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return outputStream.toByteArray();
+    }
+
+    private static class EncodedBody {
+
+        private final Object data;
+
+        private final String eTag;
+
+        private final byte[] body;
+
+        private final byte[] gzippedBody;
+
+        private EncodedBody(Object data, byte[] body) {
+            this.data = data;
+            this.eTag = DigestUtils.md5DigestAsHex(body);
+            this.body = body;
+            this.gzippedBody = gzip(body);
+        }
+    }
+}
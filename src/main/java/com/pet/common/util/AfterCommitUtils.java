@@ -0,0 +1,25 @@
+package com.pet.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class AfterCommitUtils {
+
+    private AfterCommitUtils() {
+        throw new AssertionError("유틸 클래스입니다.");
+    }
+
+    // 트랜잭션 안이면 커밋된 뒤에, 밖이면 바로 실행한다. 롤백되면 실행하지 않는다.
+    public static void run(Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runnable.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
+    }
+}
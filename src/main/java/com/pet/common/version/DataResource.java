@@ -0,0 +1,15 @@
+package com.pet.common.version;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum DataResource {
+    SHELTER_POST("shelter-post"),
+    MISSING_POST("missing-post"),
+    ANIMAL("animal"),
+    CITY("city");
+
+    private final String key;
+}
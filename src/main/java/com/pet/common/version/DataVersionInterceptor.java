@@ -0,0 +1,61 @@
+package com.pet.common.version;
+
+import com.pet.common.jwt.JwtAuthentication;
+import java.util.Objects;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+// @DataVersioned 핸들러는 실행 전에 데이터 버전으로 ETag 를 만들고, If-None-Match 가 같으면 조회 없이 304 로 끝낸다.
+// 로그인 사용자는 북마크 여부가 응답에 들어가므로 계정 id 와 그 계정의 버전도 ETag 에 넣는다.
+@RequiredArgsConstructor
+public class DataVersionInterceptor implements HandlerInterceptor {
+
+    private final DataVersionRegistry dataVersionRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!HttpMethod.GET.matches(request.getMethod()) || !(handler instanceof HandlerMethod)) {
+            return true;
+        }
+        DataVersioned dataVersioned = ((HandlerMethod) handler).getMethodAnnotation(DataVersioned.class);
+        if (Objects.isNull(dataVersioned)) {
+            return true;
+        }
+
+        Long accountId = getAccountId();
+        // spring security 기본 헤더(no-store)는 응답을 저장하지 못하게 하므로, 저장은 하되 매번 재검증하게 바꾼다.
+        CacheControl cacheControl = Objects.isNull(accountId) ? CacheControl.noCache()
+            : CacheControl.noCache().cachePrivate();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION);
+
+        String eTag = createETag(dataVersioned.value(), accountId);
+        return !new ServletWebRequest(request, response).checkNotModified(eTag);
+    }
+
+    private String createETag(DataResource dataResource, Long accountId) {
+        String eTag = dataResource.getKey() + "-" + dataVersionRegistry.getVersion(dataResource);
+        if (Objects.nonNull(accountId)) {
+            String scope = String.valueOf(accountId);
+            eTag += "-" + accountId + "-" + dataVersionRegistry.getVersion(dataResource, scope);
+        }
+        return "\"" + eTag + "\"";
+    }
+
+    private Long getAccountId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (Objects.isNull(authentication) || !(authentication.getPrincipal() instanceof JwtAuthentication)) {
+            return null;
+        }
+        return ((JwtAuthentication) authentication.getPrincipal()).getAccountId();
+    }
+}
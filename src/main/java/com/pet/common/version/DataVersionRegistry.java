@@ -0,0 +1,25 @@
+package com.pet.common.version;
+
+import com.pet.common.util.AfterCommitUtils;
+
+// 자원별 데이터 버전, 데이터를 바꾸는 쪽이 bump 하고 ETag 는 이 값으로 만든다.
+// 계정마다 달라지는 값(북마크 여부)은 계정 id 를 scope 로 둔 버전을 따로 올려 다른 사용자의 ETag 는 그대로 둔다.
+public interface DataVersionRegistry {
+
+    String getVersion(DataResource dataResource);
+
+    String getVersion(DataResource dataResource, String scope);
+
+    void bump(DataResource dataResource);
+
+    void bump(DataResource dataResource, String scope);
+
+    // 커밋 전에 버전을 바꾸면 그 사이 요청이 이전 데이터를 새 ETag 로 받아 갈 수 있으므로 커밋 뒤에 바꾼다.
+    default void bumpAfterCommit(DataResource dataResource) {
+        AfterCommitUtils.run(() -> bump(dataResource));
+    }
+
+    default void bumpAfterCommit(DataResource dataResource, String scope) {
+        AfterCommitUtils.run(() -> bump(dataResource, scope));
+    }
+}
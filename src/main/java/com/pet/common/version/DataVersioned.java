@@ -0,0 +1,14 @@
+package com.pet.common.version;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 응답이 value 자원의 데이터 버전에만 달라지는 GET 핸들러에 붙인다. DataVersionInterceptor 가 ETag 를 만든다.
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DataVersioned {
+
+    DataResource value();
+}
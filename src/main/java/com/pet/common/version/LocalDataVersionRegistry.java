@@ -0,0 +1,43 @@
+package com.pet.common.version;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+// 서버 하나로 띄우는 환경용, 재시작하면 모든 버전이 새로 만들어진다.
+@Component
+@Profile({"local", "default", "rds"})
+public class LocalDataVersionRegistry implements DataVersionRegistry {
+
+    private final Map<String, String> versions = new ConcurrentHashMap<>();
+
+    @Override
+    public String getVersion(DataResource dataResource) {
+        return versions.computeIfAbsent(dataResource.getKey(), key -> newVersion());
+    }
+
+    @Override
+    public String getVersion(DataResource dataResource, String scope) {
+        return versions.computeIfAbsent(toScopedKey(dataResource, scope), key -> newVersion());
+    }
+
+    @Override
+    public void bump(DataResource dataResource) {
+        versions.put(dataResource.getKey(), newVersion());
+    }
+
+    @Override
+    public void bump(DataResource dataResource, String scope) {
+        versions.put(toScopedKey(dataResource, scope), newVersion());
+    }
+
+    private String toScopedKey(DataResource dataResource, String scope) {
+        return dataResource.getKey() + ":" + scope;
+    }
+
+    private String newVersion() {
+        return UUID.randomUUID().toString().replace("-", "");
+    }
+}
@@ -0,0 +1,63 @@
+package com.pet.common.version;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+// 여러 서버가 같은 버전을 보도록 redis 에 둔다. 숫자 대신 임의 값을 써서 키가 지워져도 예전 ETag 와 겹치지 않는다.
+// 계정별 버전은 계정 수만큼 쌓이므로 만료 시간을 두고, 만료되면 새 값이 만들어져 ETag 가 한 번 바뀔 뿐이다.
+@RequiredArgsConstructor
+@Component
+@Profile({"dev", "prod"})
+public class RedisDataVersionRegistry implements DataVersionRegistry {
+
+    private static final String KEY_PREFIX = "data-version:";
+
+    private static final Duration SCOPED_VERSION_TTL = Duration.ofDays(7);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public String getVersion(DataResource dataResource) {
+        String key = KEY_PREFIX + dataResource.getKey();
+        String version = stringRedisTemplate.opsForValue().get(key);
+        if (Objects.nonNull(version)) {
+            return version;
+        }
+        stringRedisTemplate.opsForValue().setIfAbsent(key, newVersion());
+        return stringRedisTemplate.opsForValue().get(key);
+    }
+
+    @Override
+    public String getVersion(DataResource dataResource, String scope) {
+        String key = toScopedKey(dataResource, scope);
+        String version = stringRedisTemplate.opsForValue().get(key);
+        if (Objects.nonNull(version)) {
+            return version;
+        }
+        stringRedisTemplate.opsForValue().setIfAbsent(key, newVersion(), SCOPED_VERSION_TTL);
+        return stringRedisTemplate.opsForValue().get(key);
+    }
+
+    @Override
+    public void bump(DataResource dataResource) {
+        stringRedisTemplate.opsForValue().set(KEY_PREFIX + dataResource.getKey(), newVersion());
+    }
+
+    @Override
+    public void bump(DataResource dataResource, String scope) {
+        stringRedisTemplate.opsForValue().set(toScopedKey(dataResource, scope), newVersion(), SCOPED_VERSION_TTL);
+    }
+
+    private String toScopedKey(DataResource dataResource, String scope) {
+        return KEY_PREFIX + dataResource.getKey() + ":" + scope;
+    }
+
+    private String newVersion() {
+        return UUID.randomUUID().toString().replace("-", "");
+    }
+}
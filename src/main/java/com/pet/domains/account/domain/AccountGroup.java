@@ -1,5 +1,6 @@
 package com.pet.domains.account.domain;
 
 public enum AccountGroup {
-    USER_GROUP
+    USER_GROUP,
+    ADMIN_GROUP
 }
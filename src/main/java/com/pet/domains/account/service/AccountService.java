@@ -3,6 +3,8 @@ package com.pet.domains.account.service;
 import static com.pet.common.exception.ExceptionMessage.*;
 import static com.pet.common.util.Assertions.*;
 import com.pet.common.util.PasswordUtil;
+import com.pet.common.version.DataResource;
+import com.pet.common.version.DataVersionRegistry;
 import com.pet.domains.account.domain.Account;
 import com.pet.domains.account.dto.request.AccountAreaUpdateParam;
 import com.pet.domains.account.dto.request.AccountUpdateParam;
@@ -20,6 +22,9 @@ import com.pet.domains.image.domain.Image;
 import com.pet.domains.image.service.ImageService;
 import com.pet.domains.post.domain.MissingPost;
 import com.pet.domains.post.repository.MissingPostRepository;
+import com.pet.domains.statistics.domain.FacetDeltas;
+import com.pet.domains.statistics.domain.FacetTarget;
+import com.pet.domains.statistics.service.PostFacetService;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
@@ -58,6 +63,10 @@ public class AccountService {
 
     private final ImageService imageService;
 
+    private final PostFacetService postFacetService;
+
+    private final DataVersionRegistry dataVersionRegistry;
+
     private final AccountMapper accountMapper;
 
     @Transactional
@@ -166,7 +175,14 @@ public class AccountService {
 
     @Transactional
     public void deleteAccount(Account account) {
-        missingPostRepository.deleteAllByAccount(account);
+        List<MissingPost> missingPosts = missingPostRepository.findAllByAccount(account);
+        FacetDeltas facetDeltas = new FacetDeltas();
+        missingPosts.forEach(missingPost -> facetDeltas.addMissingPost(missingPost, -1));
+        missingPostRepository.deleteAll(missingPosts);
+        postFacetService.apply(FacetTarget.MISSING_POST, facetDeltas);
+        if (!missingPosts.isEmpty()) {
+            dataVersionRegistry.bumpAfterCommit(DataResource.MISSING_POST);
+        }
         accountRepository.delete(account);
     }
 }
@@ -1,14 +1,15 @@
 package com.pet.domains.animal.controller;
 
-import com.pet.common.response.ApiResponse;
-import com.pet.domains.animal.dto.response.AnimalReadResults;
+import com.pet.common.response.PreEncodedResponseCache;
+import com.pet.common.version.DataResource;
 import com.pet.domains.animal.service.AnimalService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 @RequestMapping("/api/v1/animals")
@@ -18,10 +19,13 @@ public class AnimalController {
 
     private final AnimalService animalService;
 
-    @ResponseStatus(HttpStatus.OK)
+    private final PreEncodedResponseCache preEncodedResponseCache;
+
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-    public ApiResponse<AnimalReadResults> getAnimals() {
-        return ApiResponse.ok(animalService.getAnimals());
+    public ResponseEntity<byte[]> getAnimals(
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        return preEncodedResponseCache.get(DataResource.ANIMAL, acceptEncoding, animalService::getAnimals);
     }
 
 }
@@ -1,6 +1,7 @@
 package com.pet.domains.animal.domain;
 
 import com.pet.domains.BaseEntity;
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
@@ -16,9 +17,13 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.apache.commons.lang3.ObjectUtils;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "animal_kind")
 @Entity
 @Table(name = "animal_kind")
 public class AnimalKind extends BaseEntity {
@@ -52,4 +57,10 @@ public class AnimalKind extends BaseEntity {
         this.code = code;
         this.animal = animal;
     }
+
+    public void changeName(String name) {
+        ObjectUtils.requireNonEmpty(name, "name must not be null");
+
+        this.name = name;
+    }
 }
@@ -1,6 +1,9 @@
 package com.pet.domains.animal.repository;
 
+import com.pet.domains.animal.domain.Animal;
 import com.pet.domains.animal.domain.AnimalKind;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 
@@ -8,6 +11,9 @@ public interface AnimalKindRepository extends JpaRepository<AnimalKind, Long> {
 
     Optional<AnimalKind> findByName(String name);
 
+    // 조회 후 없으면 만드는 경로라 다른 노드가 만든 행을 놓치지 않도록 쿼리 캐시를 쓰지 않는다.
     Optional<AnimalKind> findByNameAndAnimalId(String name, Long animalId);
 
+    List<AnimalKind> findAllByAnimalIn(Collection<Animal> animals);
+
 }
@@ -1,12 +1,16 @@
 package com.pet.domains.animal.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
 import com.pet.domains.animal.domain.Animal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import javax.persistence.QueryHint;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.EntityGraph.EntityGraphType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface AnimalRepository extends JpaRepository<Animal, Long> {
 
@@ -16,6 +20,12 @@ public interface AnimalRepository extends JpaRepository<Animal, Long> {
 
     Optional<Animal> findByCode(String code);
 
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Optional<Animal> findByName(String name);
 
+    List<Animal> findAllByCodeIn(Collection<String> codes);
+
+    @Query("select a.id from Animal a")
+    List<Long> findAllIds();
+
 }
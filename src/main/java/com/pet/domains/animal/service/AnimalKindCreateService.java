@@ -0,0 +1,44 @@
+package com.pet.domains.animal.service;
+
+import com.pet.common.exception.ExceptionMessage;
+import com.pet.domains.animal.domain.Animal;
+import com.pet.domains.animal.domain.AnimalKind;
+import com.pet.domains.animal.repository.AnimalKindRepository;
+import com.pet.domains.animal.repository.AnimalRepository;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 동기화 청크 트랜잭션과 따로 커밋해, 청크가 롤백되어도 사전에 넣은 품종 id 는 남아 있게 한다.
+// 캐시와 버전은 청크마다 바꾸지 않고 동기화 실행이 끝날 때 한 번만 바꾼다.
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class AnimalKindCreateService {
+
+    private static final String ETC_ANIMAL_NAME = "기타";
+
+    private final AnimalKindRepository animalKindRepository;
+
+    private final AnimalRepository animalRepository;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<AnimalKind> createEtcAnimalKinds(Collection<String> animalKindNames) {
+        log.debug("create missing animal kinds: {}", animalKindNames);
+        Animal etcAnimal = animalRepository.findByName(ETC_ANIMAL_NAME)
+            .orElseThrow(ExceptionMessage.NOT_FOUND_ANIMAL::getException);
+        return animalKindRepository.saveAll(
+            animalKindNames.stream()
+                .map(animalKindName -> AnimalKind.builder()
+                    .animal(etcAnimal)
+                    .name(animalKindName)
+                    .build())
+                .collect(Collectors.toList())
+        );
+    }
+}
@@ -0,0 +1,59 @@
+package com.pet.domains.animal.service;
+
+import com.pet.common.exception.ExceptionMessage;
+import com.pet.domains.animal.domain.AnimalKind;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class AnimalKindDictionary {
+
+    private final Map<String, AnimalKind> animalKindsByName;
+
+    // 이번 실행에서 새 품종이 커밋되었는지, 실행이 끝나면 한 번만 캐시를 비우는 데 쓴다.
+    private volatile boolean changed;
+
+    AnimalKindDictionary(List<AnimalKind> animalKinds) {
+        this.animalKindsByName = animalKinds.stream()
+            .collect(Collectors.toMap(
+                AnimalKind::getName,
+                Function.identity(),
+                (first, second) -> first,
+                ConcurrentHashMap::new));
+    }
+
+    public AnimalKind getByName(String animalKindName) {
+        return findByName(animalKindName)
+            .orElseThrow(ExceptionMessage.NOT_FOUND_ANIMAL_KIND::getException);
+    }
+
+    public Optional<AnimalKind> findByName(String animalKindName) {
+        return Optional.ofNullable(animalKindsByName.get(animalKindName));
+    }
+
+    public Set<String> getMissingNames(Collection<String> animalKindNames) {
+        return animalKindNames.stream()
+            .filter(animalKindName -> !animalKindsByName.containsKey(animalKindName))
+            .collect(Collectors.toSet());
+    }
+
+    public int size() {
+        return animalKindsByName.size();
+    }
+
+    public boolean isChanged() {
+        return changed;
+    }
+
+    void addAll(List<AnimalKind> createdAnimalKinds) {
+        createdAnimalKinds.forEach(animalKind -> animalKindsByName.putIfAbsent(animalKind.getName(), animalKind));
+        if (!createdAnimalKinds.isEmpty()) {
+            changed = true;
+        }
+    }
+}
@@ -1,15 +1,25 @@
 package com.pet.domains.animal.service;
 
+import com.pet.common.cache.CacheEvictor;
 import com.pet.common.exception.ExceptionMessage;
+import com.pet.common.version.DataResource;
+import com.pet.common.version.DataVersionRegistry;
 import com.pet.domains.animal.domain.Animal;
 import com.pet.domains.animal.domain.AnimalKind;
 import com.pet.domains.animal.dto.request.AnimalKindCreateParams;
 import com.pet.domains.animal.repository.AnimalKindRepository;
 import com.pet.domains.animal.repository.AnimalRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.interceptor.SimpleKey;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,59 +29,111 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class AnimalKindService {
 
-    private static final String ETC_ANIMAL_NAME = "기타";
-
     private final AnimalKindRepository animalKindRepository;
 
     private final AnimalRepository animalRepository;
 
-    @CacheEvict(cacheNames = "animals", allEntries = true)
+    private final DataVersionRegistry dataVersionRegistry;
+
+    private final CacheEvictor cacheEvictor;
+
+    private final AnimalKindCreateService animalKindCreateService;
+
+    // 동물별 품종을 코드 기준으로 기존 행과 비교해 새 품종만 추가하고 이름이 바뀐 품종만 고친다.
+    // 코드 없이 만들어진 품종(기타)은 건드리지 않는다.
+    // 추가되거나 이름이 바뀐 행이 있을 때만 커밋 뒤에 animals 캐시를 비운다.
     @Transactional
-    public void bulkCreateAnimalKind(String animalCode, AnimalKindCreateParams animalKindCreateParams) {
-        animalKindRepository.saveAll(
-            animalKindCreateParams.getAnimalKinds().stream()
-                .map(animalKindCreateParam -> AnimalKind.builder()
-                    .name(animalKindCreateParam.getName())
-                    .code(animalKindCreateParam.getCode())
-                    .animal(getAnimalByCode(animalCode))
-                    .build())
-                .collect(Collectors.toList())
-        );
+    public int syncAnimalKinds(Map<String, AnimalKindCreateParams> animalKindCreateParamsByAnimalCode) {
+        List<Animal> animals = getAnimalsByCodes(animalKindCreateParamsByAnimalCode.keySet());
+        Map<Long, Map<String, AnimalKind>> animalKindsByAnimalId = animalKindRepository.findAllByAnimalIn(animals)
+            .stream()
+            .filter(animalKind -> animalKind.getCode() != null)
+            .collect(Collectors.groupingBy(
+                animalKind -> animalKind.getAnimal().getId(),
+                Collectors.toMap(AnimalKind::getCode, Function.identity(), (first, second) -> first)));
+
+        List<AnimalKind> createdAnimalKinds = new ArrayList<>();
+        int renamedCount = 0;
+        for (Animal animal : animals) {
+            Map<String, AnimalKind> animalKindsByCode =
+                animalKindsByAnimalId.getOrDefault(animal.getId(), Collections.emptyMap());
+            for (AnimalKindCreateParams.AnimalKind animalKindParam
+                : animalKindCreateParamsByAnimalCode.get(animal.getCode()).getAnimalKinds()) {
+                AnimalKind animalKind = animalKindsByCode.get(animalKindParam.getCode());
+                if (animalKind == null) {
+                    createdAnimalKinds.add(AnimalKind.builder()
+                        .name(animalKindParam.getName())
+                        .code(animalKindParam.getCode())
+                        .animal(animal)
+                        .build());
+                } else if (!animalKind.getName().equals(animalKindParam.getName())) {
+                    animalKind.changeName(animalKindParam.getName());
+                    renamedCount++;
+                }
+            }
+        }
+        animalKindRepository.saveAll(createdAnimalKinds);
+
+        int changedCount = createdAnimalKinds.size() + renamedCount;
+        // 캐시 미리 갱신이 버전을 보고 이전 값을 다시 넣지 않도록 캐시를 비우기 전에 버전을 바꾼다.
+        if (changedCount > 0) {
+            dataVersionRegistry.bumpAfterCommit(DataResource.ANIMAL);
+            cacheEvictor.evictAfterCommit(AnimalService.CACHE_NAME, SimpleKey.EMPTY);
+        }
+        return changedCount;
     }
 
-    @CacheEvict(cacheNames = "animals", allEntries = true)
+    // 이미 있는 품종이면 캐시를 건드리지 않는다.
     @Transactional
     public AnimalKind getOrCreateAnimalKind(Long animalId, String animalKindName) {
         return animalKindRepository.findByNameAndAnimalId(animalKindName, animalId)
-            .orElseGet(() -> animalKindRepository.save(
-                AnimalKind.builder()
-                    .animal(getAnimalById(animalId))
-                    .name(animalKindName)
-                    .build())
-            );
+            .orElseGet(() -> {
+                AnimalKind createdAnimalKind = animalKindRepository.save(
+                    AnimalKind.builder()
+                        .animal(getAnimalById(animalId))
+                        .name(animalKindName)
+                        .build());
+                dataVersionRegistry.bumpAfterCommit(DataResource.ANIMAL);
+                cacheEvictor.evictAfterCommit(AnimalService.CACHE_NAME, SimpleKey.EMPTY);
+                return createdAnimalKind;
+            });
     }
 
-    @CacheEvict(cacheNames = "animals", allEntries = true)
-    @Transactional
-    public AnimalKind getOrCreateAnimalKindByEtcAnimal(String animalKindName) {
-        return animalKindRepository.findByName(animalKindName)
-            .orElseGet(() -> animalKindRepository.save(
-                AnimalKind.builder()
-                    .animal(getAnimalByName(ETC_ANIMAL_NAME))
-                    .name(animalKindName)
-                    .build()));
+    public AnimalKindDictionary getAnimalKindDictionary() {
+        return new AnimalKindDictionary(animalKindRepository.findAll());
     }
 
-    private Animal getAnimalByCode(String animalCode) {
-        log.debug("animalCode: {}", animalCode);
-        return animalRepository.findByCode(animalCode)
-            .orElseThrow(ExceptionMessage.NOT_FOUND_ANIMAL::getException);
+    // 새 품종은 따로 커밋한 뒤에 사전에 넣으므로, 사전에는 커밋된 품종만 들어간다.
+    // 캐시는 실행이 끝날 때 evictAnimalsCacheIfChanged 로 한 번만 비운다.
+    public void createMissingAnimalKindsByEtcAnimal(
+        AnimalKindDictionary animalKindDictionary,
+        Collection<String> animalKindNames
+    ) {
+        synchronized (animalKindDictionary) {
+            Set<String> missingNames = animalKindDictionary.getMissingNames(animalKindNames);
+            if (missingNames.isEmpty()) {
+                return;
+            }
+            animalKindDictionary.addAll(animalKindCreateService.createEtcAnimalKinds(missingNames));
+        }
     }
 
-    private Animal getAnimalByName(String animalName) {
-        log.debug("animalName: {}", animalName);
-        return animalRepository.findByName(animalName)
-            .orElseThrow(ExceptionMessage.NOT_FOUND_ANIMAL::getException);
+    // 동기화 실행 하나가 새 품종을 몇 번 만들든 animals 캐시와 버전은 실행이 끝날 때 한 번만 바꾼다.
+    public void evictAnimalsCacheIfChanged(AnimalKindDictionary animalKindDictionary) {
+        log.debug("animal kind dictionary changed: {}", animalKindDictionary.isChanged());
+        if (animalKindDictionary.isChanged()) {
+            dataVersionRegistry.bumpAfterCommit(DataResource.ANIMAL);
+            cacheEvictor.evictAfterCommit(AnimalService.CACHE_NAME, SimpleKey.EMPTY);
+        }
+    }
+
+    private List<Animal> getAnimalsByCodes(Set<String> animalCodes) {
+        log.debug("animalCodes: {}", animalCodes);
+        List<Animal> animals = animalRepository.findAllByCodeIn(animalCodes);
+        if (animals.size() != animalCodes.size()) {
+            throw ExceptionMessage.NOT_FOUND_ANIMAL.getException();
+        }
+        return animals;
     }
 
     private Animal getAnimalById(Long animalId) {
@@ -1,5 +1,7 @@
 package com.pet.domains.animal.service;
 
+import com.pet.common.cache.CacheRefresher;
+import com.pet.common.version.DataResource;
 import com.pet.domains.animal.dto.response.AnimalReadResults;
 import com.pet.domains.animal.mapper.AnimalMapper;
 import com.pet.domains.animal.repository.AnimalRepository;
@@ -7,6 +9,8 @@ import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,15 +20,27 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class AnimalService {
 
+    static final String CACHE_NAME = "animals";
+
     private final AnimalRepository animalRepository;
 
     private final AnimalMapper animalMapper;
 
-    @Cacheable(
-        cacheNames = "animals",
-        unless = "#result == null || #result.getAnimals().isEmpty()"
-    )
+    private final CacheRefresher cacheRefresher;
+
+    // 같은 키를 동시에 조회하면 한 요청만 db 를 읽는다. sync 에서는 unless 를 쓸 수 없어 빈 결과도 캐시되지만 갱신 주기에 다시 읽는다.
+    @Cacheable(cacheNames = CACHE_NAME, sync = true)
     public AnimalReadResults getAnimals() {
+        return loadAnimals();
+    }
+
+    // 캐시 ttl(1시간)이 끝나기 전에 값을 새로 채워 조회가 캐시 미스를 만나지 않게 한다.
+    @Scheduled(fixedDelayString = "${cache.refresh-ahead-interval:PT45M}")
+    public void refreshAnimalsCache() {
+        cacheRefresher.refresh(CACHE_NAME, SimpleKey.EMPTY, DataResource.ANIMAL, this::loadAnimals);
+    }
+
+    public AnimalReadResults loadAnimals() {
         List<AnimalReadResults.Animal> result =
             animalMapper.toAnimalReadResult(animalRepository.findAllWithAnimalKinds());
         return animalMapper.toAnimalReadResults(result);
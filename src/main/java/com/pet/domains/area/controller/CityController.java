@@ -1,14 +1,15 @@
 package com.pet.domains.area.controller;
 
-import com.pet.common.response.ApiResponse;
-import com.pet.domains.area.dto.response.CityReadResults;
+import com.pet.common.response.PreEncodedResponseCache;
+import com.pet.common.version.DataResource;
 import com.pet.domains.area.service.CityService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -18,10 +19,13 @@ public class CityController {
 
     private final CityService cityService;
 
+    private final PreEncodedResponseCache preEncodedResponseCache;
+
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-    @ResponseStatus(HttpStatus.OK)
-    public ApiResponse<CityReadResults> getCities() {
-        return ApiResponse.ok(cityService.getAllTownAndCity());
+    public ResponseEntity<byte[]> getCities(
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        return preEncodedResponseCache.get(DataResource.CITY, acceptEncoding, cityService::getAllTownAndCity);
     }
 
 }
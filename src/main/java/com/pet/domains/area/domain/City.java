@@ -3,6 +3,7 @@ package com.pet.domains.area.domain;
 import com.pet.domains.BaseEntity;
 import java.util.ArrayList;
 import java.util.List;
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
@@ -15,9 +16,13 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.apache.commons.lang3.Validate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "city")
 @Entity
 @Table(name = "city")
 public class City extends BaseEntity {
@@ -44,4 +49,10 @@ public class City extends BaseEntity {
         this.code = code;
         this.name = name;
     }
+
+    public void changeName(String name) {
+        Validate.notBlank(name, "name must not be blank");
+
+        this.name = name;
+    }
 }
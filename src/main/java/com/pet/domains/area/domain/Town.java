@@ -1,6 +1,7 @@
 package com.pet.domains.area.domain;
 
 import com.pet.domains.BaseEntity;
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
@@ -16,10 +17,14 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.apache.commons.lang3.Validate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "town")
 @Entity
 @Table(name = "town")
 public class Town extends BaseEntity {
@@ -52,4 +57,10 @@ public class Town extends BaseEntity {
         this.name = name;
         this.city = city;
     }
+
+    public void changeName(String name) {
+        Validate.notBlank(name, "name must not be null");
+
+        this.name = name;
+    }
 }
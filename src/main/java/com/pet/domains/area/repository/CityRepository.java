@@ -1,6 +1,7 @@
 package com.pet.domains.area.repository;
 
 import com.pet.domains.area.domain.City;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -12,6 +13,14 @@ public interface CityRepository extends JpaRepository<City, Long> {
 
     Optional<City> findByName(String name);
 
+    List<City> findAllByCodeIn(Collection<String> codes);
+
+    @Query("select c.code from City as c")
+    List<String> findAllCodes();
+
+    @Query("select c.id from City as c")
+    List<Long> findAllIds();
+
     @Query("select distinct c from City as c join fetch c.towns")
     List<City> findAll();
 }
@@ -2,6 +2,8 @@ package com.pet.domains.area.repository;
 
 import com.pet.domains.area.domain.City;
 import com.pet.domains.area.domain.Town;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 
@@ -11,4 +13,6 @@ public interface TownRepository extends JpaRepository<Town, Long> {
 
     Optional<Town> findByNameContainingAndCity(String name, City city);
 
+    List<Town> findAllByCityIn(Collection<City> cities);
+
 }
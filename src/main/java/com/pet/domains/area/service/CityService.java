@@ -1,15 +1,23 @@
 package com.pet.domains.area.service;
 
+import com.pet.common.cache.CacheEvictor;
+import com.pet.common.cache.CacheRefresher;
+import com.pet.common.version.DataResource;
+import com.pet.common.version.DataVersionRegistry;
 import com.pet.domains.area.domain.City;
 import com.pet.domains.area.dto.request.CityCreateParams;
 import com.pet.domains.area.dto.response.CityReadResults;
 import com.pet.domains.area.mapper.CityMapper;
 import com.pet.domains.area.repository.CityRepository;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,24 +26,70 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class CityService {
 
+    static final String CACHE_NAME = "cities";
+
     private final CityRepository cityRepository;
 
     private final CityMapper cityMapper;
 
-    @CacheEvict(cacheNames = "cities", allEntries = true)
+    private final TownAddressResolver townAddressResolver;
+
+    private final DataVersionRegistry dataVersionRegistry;
+
+    private final CacheEvictor cacheEvictor;
+
+    private final CacheRefresher cacheRefresher;
+
+    // 코드 기준으로 기존 시도와 비교해 새 시도만 추가하고 이름이 바뀐 시도만 고친다. 바뀐 행 수를 돌려준다.
+    // 추가되거나 이름이 바뀐 행이 있을 때만 커밋 뒤에 cities 캐시를 비운다.
     @Transactional
-    public void createCites(CityCreateParams cityCreateParams) {
-        List<City> cities = cityCreateParams.getCities().stream()
-            .map(cityMapper::toEntity)
-            .collect(Collectors.toList());
-        cityRepository.saveAll(cities);
+    public int syncCities(CityCreateParams cityCreateParams) {
+        List<CityCreateParams.City> cityParams = cityCreateParams.getCities();
+        Map<String, City> citiesByCode = cityRepository.findAllByCodeIn(cityParams.stream()
+                .map(CityCreateParams.City::getCode)
+                .collect(Collectors.toSet())).stream()
+            .collect(Collectors.toMap(City::getCode, Function.identity(), (first, second) -> first));
+
+        List<City> createdCities = new ArrayList<>();
+        int renamedCount = 0;
+        for (CityCreateParams.City cityParam : cityParams) {
+            City city = citiesByCode.get(cityParam.getCode());
+            if (city == null) {
+                createdCities.add(cityMapper.toEntity(cityParam));
+            } else if (!city.getName().equals(cityParam.getName())) {
+                city.changeName(cityParam.getName());
+                renamedCount++;
+            }
+        }
+        cityRepository.saveAll(createdCities);
+
+        int changedCount = createdCities.size() + renamedCount;
+        // 캐시 미리 갱신이 버전을 보고 이전 값을 다시 넣지 않도록 캐시를 비우기 전에 버전을 바꾼다.
+        if (changedCount > 0) {
+            dataVersionRegistry.bumpAfterCommit(DataResource.CITY);
+            cacheEvictor.evictAfterCommit(CACHE_NAME, SimpleKey.EMPTY);
+            townAddressResolver.invalidate();
+        }
+        return changedCount;
     }
 
-    @Cacheable(
-        cacheNames = "cities",
-        unless = "#result == null || #result.getCities().isEmpty()"
-    )
+    public List<String> getCityCodes() {
+        return cityRepository.findAllCodes();
+    }
+
+    // 같은 키를 동시에 조회하면 한 요청만 db 를 읽는다. sync 에서는 unless 를 쓸 수 없어 빈 결과도 캐시되지만 갱신 주기에 다시 읽는다.
+    @Cacheable(cacheNames = CACHE_NAME, sync = true)
     public CityReadResults getAllTownAndCity() {
+        return loadAllTownAndCity();
+    }
+
+    // 캐시 ttl(1시간)이 끝나기 전에 값을 새로 채워 조회가 캐시 미스를 만나지 않게 한다.
+    @Scheduled(fixedDelayString = "${cache.refresh-ahead-interval:PT45M}")
+    public void refreshCitiesCache() {
+        cacheRefresher.refresh(CACHE_NAME, SimpleKey.EMPTY, DataResource.CITY, this::loadAllTownAndCity);
+    }
+
+    public CityReadResults loadAllTownAndCity() {
         List<City> result = cityRepository.findAll();
         return CityReadResults.of(result.stream()
             .map(city -> cityMapper.toCityDto(city, city.getTowns().stream()
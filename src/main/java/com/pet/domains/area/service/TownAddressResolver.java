@@ -0,0 +1,78 @@
+package com.pet.domains.area.service;
+
+import com.pet.domains.area.domain.City;
+import com.pet.domains.area.domain.Town;
+import com.pet.domains.area.repository.CityRepository;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class TownAddressResolver {
+
+    private static final String ALL = "전체";
+
+    private final CityRepository cityRepository;
+
+    // 시/도 이름(공백 제거) -> 시/군/구 트라이, 지역이 바뀌면 비우고 다음 조회 때 다시 만든다.
+    private volatile Map<String, TownTrie> townTriesByCityName;
+
+    public Optional<Town> resolve(String address) {
+        // format: {시/도} {시/군/구}, ex) 서울특별시 광진구, 경기도 수원시 권선구
+        String[] tokens = StringUtils.split(address);
+        if (Objects.isNull(tokens) || tokens.length == 0) {
+            return Optional.empty();
+        }
+        TownTrie townTrie = getTownTries().get(normalize(tokens[0]));
+        if (Objects.isNull(townTrie)) {
+            return Optional.empty();
+        }
+        if (tokens.length == 1) {
+            return townTrie.findExact(ALL);
+        }
+        for (int start = 1; start < tokens.length; start++) {
+            String remainingAddress = String.join("", Arrays.copyOfRange(tokens, start, tokens.length));
+            Optional<Town> town = townTrie.findLongestPrefixOf(remainingAddress);
+            if (town.isPresent()) {
+                return town;
+            }
+        }
+        return Optional.empty();
+    }
+
+    public void invalidate() {
+        townTriesByCityName = null;
+    }
+
+    private Map<String, TownTrie> getTownTries() {
+        Map<String, TownTrie> townTries = townTriesByCityName;
+        if (Objects.isNull(townTries)) {
+            townTries = buildTownTries(cityRepository.findAll());
+            townTriesByCityName = townTries;
+        }
+        return townTries;
+    }
+
+    private Map<String, TownTrie> buildTownTries(List<City> cities) {
+        Map<String, TownTrie> townTries = new HashMap<>();
+        cities.forEach(city -> {
+            TownTrie townTrie = townTries.computeIfAbsent(normalize(city.getName()), key -> new TownTrie());
+            city.getTowns().forEach(town -> townTrie.put(normalize(town.getName()), town));
+        });
+        log.info("town address index built, cities: {}", townTries.size());
+        return townTries;
+    }
+
+    private String normalize(String name) {
+        return StringUtils.deleteWhitespace(name);
+    }
+}
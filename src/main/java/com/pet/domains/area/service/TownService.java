@@ -1,15 +1,23 @@
 package com.pet.domains.area.service;
 
+import com.pet.common.cache.CacheEvictor;
 import com.pet.common.exception.ExceptionMessage;
+import com.pet.common.version.DataResource;
+import com.pet.common.version.DataVersionRegistry;
 import com.pet.domains.area.domain.City;
 import com.pet.domains.area.domain.Town;
 import com.pet.domains.area.dto.request.TownCreateParams;
 import com.pet.domains.area.repository.CityRepository;
 import com.pet.domains.area.repository.TownRepository;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.interceptor.SimpleKey;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,42 +30,58 @@ public class TownService {
 
     private final TownRepository townRepository;
 
-    @CacheEvict(cacheNames = "cities", allEntries = true)
-    @Transactional
-    public void bulkCreateTowns(String cityCode, TownCreateParams townCreateParams) {
-        City city = getCityByCode(cityCode);
-        List<Town> towns = townCreateParams.getTowns().stream()
-            .map(townCreateParam -> Town.builder()
-                .city(city)
-                .name(townCreateParam.getName())
-                .code(townCreateParam.getCode())
-                .build())
-            .collect(Collectors.toList());
-        townRepository.saveAll(towns);
-    }
+    private final TownAddressResolver townAddressResolver;
+
+    private final DataVersionRegistry dataVersionRegistry;
 
-    @CacheEvict(cacheNames = "cities", allEntries = true)
+    private final CacheEvictor cacheEvictor;
+
+    // 시도별 시군구를 코드 기준으로 기존 행과 비교해 새 시군구만 추가하고 이름이 바뀐 시군구만 고친다.
+    // 추가되거나 이름이 바뀐 행이 있을 때만 커밋 뒤에 cities 캐시를 비운다.
     @Transactional
-    public Town getOrCreateTownByName(String cityName, String townName) {
-        City foundCity = getCityByName(cityName);
-        return townRepository.findByNameAndCity(townName, foundCity)
-            .orElseGet(() -> townRepository.findByNameContainingAndCity(townName, foundCity)
-                .orElseGet(() -> townRepository.save(
-                    Town.builder()
-                        .name(townName)
-                        .city(foundCity)
-                        .build()
-                ))
-            );
-    }
+    public int syncTowns(Map<String, TownCreateParams> townCreateParamsByCityCode) {
+        List<City> cities = getCitiesByCodes(townCreateParamsByCityCode.keySet());
+        Map<Long, Map<String, Town>> townsByCityId = townRepository.findAllByCityIn(cities).stream()
+            .filter(town -> town.getCode() != null)
+            .collect(Collectors.groupingBy(
+                town -> town.getCity().getId(),
+                Collectors.toMap(Town::getCode, Function.identity(), (first, second) -> first)));
+
+        List<Town> createdTowns = new ArrayList<>();
+        int renamedCount = 0;
+        for (City city : cities) {
+            Map<String, Town> townsByCode = townsByCityId.getOrDefault(city.getId(), Collections.emptyMap());
+            for (TownCreateParams.Town townParam : townCreateParamsByCityCode.get(city.getCode()).getTowns()) {
+                Town town = townsByCode.get(townParam.getCode());
+                if (town == null) {
+                    createdTowns.add(Town.builder()
+                        .city(city)
+                        .name(townParam.getName())
+                        .code(townParam.getCode())
+                        .build());
+                } else if (!town.getName().equals(townParam.getName())) {
+                    town.changeName(townParam.getName());
+                    renamedCount++;
+                }
+            }
+        }
+        townRepository.saveAll(createdTowns);
 
-    private City getCityByCode(String cityCode) {
-        return cityRepository.findByCode(cityCode)
-            .orElseThrow(ExceptionMessage.NOT_FOUND_CITY::getException);
+        int changedCount = createdTowns.size() + renamedCount;
+        // 캐시 미리 갱신이 버전을 보고 이전 값을 다시 넣지 않도록 캐시를 비우기 전에 버전을 바꾼다.
+        if (changedCount > 0) {
+            dataVersionRegistry.bumpAfterCommit(DataResource.CITY);
+            cacheEvictor.evictAfterCommit(CityService.CACHE_NAME, SimpleKey.EMPTY);
+            townAddressResolver.invalidate();
+        }
+        return changedCount;
     }
 
-    private City getCityByName(String cityName) {
-        return cityRepository.findByName(cityName)
-            .orElseThrow(ExceptionMessage.NOT_FOUND_CITY::getException);
+    private List<City> getCitiesByCodes(Set<String> cityCodes) {
+        List<City> cities = cityRepository.findAllByCodeIn(cityCodes);
+        if (cities.size() != cityCodes.size()) {
+            throw ExceptionMessage.NOT_FOUND_CITY.getException();
+        }
+        return cities;
     }
 }
@@ -0,0 +1,57 @@
+package com.pet.domains.area.service;
+
+import com.pet.domains.area.domain.Town;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+// 한 시/도 안의 시/군/구 이름(공백 제거)을 글자 단위로 저장하는 트라이
+class TownTrie {
+
+    private final Node root = new Node();
+
+    void put(String normalizedTownName, Town town) {
+        Node node = root;
+        for (char character : normalizedTownName.toCharArray()) {
+            node = node.children.computeIfAbsent(character, key -> new Node());
+        }
+        if (Objects.isNull(node.town)) {
+            node.town = town;
+        }
+    }
+
+    Optional<Town> findExact(String normalizedTownName) {
+        Node node = root;
+        for (char character : normalizedTownName.toCharArray()) {
+            node = node.children.get(character);
+            if (Objects.isNull(node)) {
+                return Optional.empty();
+            }
+        }
+        return Optional.ofNullable(node.town);
+    }
+
+    // 주소 나머지 부분의 접두사가 되는 가장 긴 시/군/구를 찾는다. ex) 수원시권선구 -> 수원시 권선구 > 수원시
+    Optional<Town> findLongestPrefixOf(String normalizedAddress) {
+        Node node = root;
+        Town longestMatch = null;
+        for (char character : normalizedAddress.toCharArray()) {
+            node = node.children.get(character);
+            if (Objects.isNull(node)) {
+                break;
+            }
+            if (Objects.nonNull(node.town)) {
+                longestMatch = node.town;
+            }
+        }
+        return Optional.ofNullable(longestMatch);
+    }
+
+    private static class Node {
+
+        private final Map<Character, Node> children = new HashMap<>();
+
+        private Town town;
+    }
+}
@@ -12,6 +12,7 @@ import javax.persistence.ForeignKey;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
@@ -22,14 +23,20 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.apache.commons.lang3.Validate;
-import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.SQLDelete;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @SQLDelete(sql = "UPDATE comment SET deleted = true WHERE id=?")
 @Entity
-@Table(name = "comment")
+// 게시글별 부모 댓글을 (작성일, id) 순으로 읽는 커서 조회가 이 인덱스 범위만 훑는다.
+@Table(
+    name = "comment",
+    indexes = @Index(
+        name = "idx_comment_missing_post_parent_created_at",
+        columnList = "missing_post_id, parent_comment_id, created_at, id"
+    )
+)
 public class Comment extends DeletableEntity {
 
     @Id
@@ -65,7 +72,6 @@ public class Comment extends DeletableEntity {
     )
     private Account account;
 
-    @BatchSize(size = 20)
     @OneToMany(fetch = FetchType.LAZY, mappedBy = "parentComment")
     private List<Comment> childComments = new ArrayList<>();
 
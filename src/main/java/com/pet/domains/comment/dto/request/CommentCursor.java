@@ -0,0 +1,60 @@
+package com.pet.domains.comment.dto.request;
+
+import com.pet.common.exception.ExceptionMessage;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+
+// 마지막으로 내려준 부모 댓글의 정렬 키(작성일, id)와 첫 페이지에서 센 전체 개수를 담는 커서
+// 정렬은 (작성일, id) 내림차순이다. 작성일에 ':' 이 들어가므로 구분자는 ',' 를 쓴다.
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CommentCursor {
+
+    private static final String DELIMITER = ",";
+
+    private final Long id;
+
+    private final LocalDateTime createdAt;
+
+    private final long totalElements;
+
+    public static CommentCursor first() {
+        return new CommentCursor(null, null, 0);
+    }
+
+    public static CommentCursor next(Long id, LocalDateTime createdAt, long totalElements) {
+        return new CommentCursor(id, createdAt, totalElements);
+    }
+
+    public static CommentCursor decode(String cursor) {
+        if (StringUtils.isBlank(cursor)) {
+            return first();
+        }
+        try {
+            String[] values = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                .split(DELIMITER, -1);
+            if (values.length != 3) {
+                throw ExceptionMessage.INVALID_COMMENT_CURSOR.getException();
+            }
+            return next(Long.parseLong(values[0]), LocalDateTime.parse(values[1]), Long.parseLong(values[2]));
+        } catch (IllegalArgumentException | DateTimeParseException exception) {
+            throw ExceptionMessage.INVALID_COMMENT_CURSOR.getException();
+        }
+    }
+
+    public String encode() {
+        String value = id + DELIMITER + createdAt + DELIMITER + totalElements;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isFirst() {
+        return Objects.isNull(id);
+    }
+}
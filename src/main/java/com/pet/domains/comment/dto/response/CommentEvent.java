@@ -0,0 +1,46 @@
+package com.pet.domains.comment.dto.response;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+// 게시글 구독자에게 내려보내는 댓글 변경 이벤트, 삭제 이벤트에는 comment 가 없다.
+// redis 를 거쳐 다른 서버에서 다시 읽을 수 있게 기본 생성자를 둔다.
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CommentEvent {
+
+    private Type type;
+
+    private Long postId;
+
+    private Long commentId;
+
+    private Long parentCommentId;
+
+    private CommentWriteResult comment;
+
+    private CommentEvent(Type type, Long postId, Long commentId, Long parentCommentId, CommentWriteResult comment) {
+        this.type = type;
+        this.postId = postId;
+        this.commentId = commentId;
+        this.parentCommentId = parentCommentId;
+        this.comment = comment;
+    }
+
+    public static CommentEvent of(Type type, Long postId, Long commentId, Long parentCommentId,
+        CommentWriteResult comment) {
+        return new CommentEvent(type, postId, commentId, parentCommentId, comment);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Type {
+        CREATED("comment-created"),
+        UPDATED("comment-updated"),
+        DELETED("comment-deleted");
+
+        private final String eventName;
+    }
+}
@@ -15,11 +15,20 @@ public class CommentPageResults {
 
     private long size;
 
+    // 커서로 조회한 경우에만 채운다. 마지막 페이지면 null
+    private String nextCursor;
+
     public CommentPageResults(List<Comment> comments, long totalElements, boolean last, long size) {
+        this(comments, totalElements, last, size, null);
+    }
+
+    public CommentPageResults(List<Comment> comments, long totalElements, boolean last, long size,
+        String nextCursor) {
         this.comments = comments;
         this.totalElements = totalElements;
         this.last = last;
         this.size = size;
+        this.nextCursor = nextCursor;
     }
 
     @Getter
@@ -2,9 +2,13 @@ package com.pet.domains.comment.dto.response;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
+// 댓글 변경 이벤트에 담겨 redis 를 거쳐 다시 읽히므로 기본 생성자를 둔다.
 @Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class CommentWriteResult {
 
     private long id;
@@ -30,6 +34,7 @@ public class CommentWriteResult {
     }
 
     @Getter
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
     public static class Account {
 
         private long id;
@@ -46,6 +51,7 @@ public class CommentWriteResult {
     }
 
     @Getter
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
     public static class ChildComment {
 
         private long id;
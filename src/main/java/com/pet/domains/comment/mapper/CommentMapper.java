@@ -4,7 +4,12 @@ import com.pet.domains.account.domain.Account;
 import com.pet.domains.comment.domain.Comment;
 import com.pet.domains.comment.dto.response.CommentPageResults;
 import com.pet.domains.comment.dto.response.CommentWriteResult;
+import com.pet.domains.comment.repository.projection.CommentRow;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.springframework.data.domain.Page;
@@ -12,19 +17,45 @@ import org.springframework.data.domain.Page;
 @Mapper(componentModel = "spring")
 public interface CommentMapper {
 
-    @Mapping(target = "image", source = "account.image.name")
-    CommentPageResults.Comment.Account toAccountReadResult(Account account);
+    // 탈퇴한 회원의 댓글은 작성자 정보 없이 내려준다.
+    default CommentPageResults.Comment.Account toAccountReadResult(CommentRow commentRow) {
+        if (Objects.isNull(commentRow.getAccountId())) {
+            return null;
+        }
+        return new CommentPageResults.Comment.Account(
+            commentRow.getAccountId(), commentRow.getNickname(), commentRow.getImage());
+    }
 
-    List<CommentPageResults.Comment.ChildComment> toChildCommentReadResults(List<Comment> childComments);
+    default CommentPageResults.Comment.ChildComment toChildCommentReadResult(CommentRow commentRow) {
+        return new CommentPageResults.Comment.ChildComment(
+            commentRow.getId(), commentRow.getContent(), commentRow.getCreatedAt(), toAccountReadResult(commentRow));
+    }
 
-    List<CommentPageResults.Comment> toCommentResult(List<Comment> comments);
+    // 대댓글 행은 부모 id 로 묶어 붙이고 조회 순서를 그대로 유지한다.
+    default List<CommentPageResults.Comment> toCommentReadResults(List<CommentRow> parentCommentRows,
+        List<CommentRow> childCommentRows) {
+        Map<Long, List<CommentPageResults.Comment.ChildComment>> childCommentsByParentId = childCommentRows.stream()
+            .collect(Collectors.groupingBy(
+                CommentRow::getParentCommentId,
+                Collectors.mapping(this::toChildCommentReadResult, Collectors.toList())));
+        return parentCommentRows.stream()
+            .map(commentRow -> new CommentPageResults.Comment(
+                commentRow.getId(),
+                commentRow.getContent(),
+                commentRow.getCreatedAt(),
+                toAccountReadResult(commentRow),
+                childCommentsByParentId.getOrDefault(commentRow.getId(), Collections.emptyList()),
+                commentRow.isDeleted()))
+            .collect(Collectors.toList());
+    }
 
-    default CommentPageResults toCommentPageResults(Page<Comment> commentPage) {
+    default CommentPageResults toCommentPageResults(Page<CommentRow> parentCommentPage,
+        List<CommentRow> childCommentRows) {
         return new CommentPageResults(
-            toCommentResult(commentPage.getContent()),
-            commentPage.getTotalElements(),
-            commentPage.isLast(),
-            commentPage.getSize()
+            toCommentReadResults(parentCommentPage.getContent(), childCommentRows),
+            parentCommentPage.getTotalElements(),
+            parentCommentPage.isLast(),
+            parentCommentPage.getSize()
         );
     }
 
@@ -0,0 +1,18 @@
+package com.pet.domains.comment.repository;
+
+import com.pet.domains.comment.dto.request.CommentCursor;
+import com.pet.domains.comment.repository.projection.CommentRow;
+import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface CommentCustomRepository {
+
+    Page<CommentRow> findParentCommentRowsByMissingPostId(Long postId, Pageable pageable);
+
+    List<CommentRow> findParentCommentRowsByMissingPostIdAfterCursor(Long postId, CommentCursor cursor, int limit);
+
+    long countParentCommentsByMissingPostId(Long postId);
+
+    List<CommentRow> findChildCommentRowsByParentCommentIds(List<Long> parentCommentIds);
+}
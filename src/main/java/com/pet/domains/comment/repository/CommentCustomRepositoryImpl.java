@@ -0,0 +1,102 @@
+package com.pet.domains.comment.repository;
+
+import static com.pet.domains.account.domain.QAccount.account;
+import static com.pet.domains.comment.domain.QComment.comment;
+import static com.pet.domains.image.domain.QImage.image;
+import com.pet.domains.comment.domain.Comment;
+import com.pet.domains.comment.dto.request.CommentCursor;
+import com.pet.domains.comment.repository.projection.CommentRow;
+import com.pet.domains.comment.repository.projection.QCommentRow;
+import com.querydsl.core.QueryResults;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+import org.springframework.stereotype.Repository;
+
+// 엔티티를 올리지 않고 작성자까지 조인한 행을 읽는다. 대댓글은 부모 id 목록으로 한 번에 가져온다.
+// 탈퇴한 회원의 댓글도 남아야 하므로 작성자는 외부 조인한다.
+// 커서 조회는 (missing_post_id, parent_comment_id, created_at, id) 인덱스를 따라 읽으므로 페이지 위치와 상관없이 비용이 같다.
+@Repository
+public class CommentCustomRepositoryImpl extends QuerydslRepositorySupport implements CommentCustomRepository {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    public CommentCustomRepositoryImpl(JPAQueryFactory jpaQueryFactory) {
+        super(Comment.class);
+        this.jpaQueryFactory = jpaQueryFactory;
+    }
+
+    @Override
+    public Page<CommentRow> findParentCommentRowsByMissingPostId(Long postId, Pageable pageable) {
+        JPAQuery<CommentRow> query = selectCommentRow()
+            .where(eqParentOfMissingPost(postId));
+        QueryResults<CommentRow> queryResults = Objects.requireNonNull(getQuerydsl())
+            .applyPagination(pageable, query)
+            .fetchResults();
+
+        return new PageImpl<>(queryResults.getResults(), pageable, queryResults.getTotal());
+    }
+
+    @Override
+    public List<CommentRow> findParentCommentRowsByMissingPostIdAfterCursor(Long postId, CommentCursor cursor,
+        int limit) {
+        return selectCommentRow()
+            .where(eqParentOfMissingPost(postId), afterCursor(cursor))
+            .orderBy(comment.createdAt.desc(), comment.id.desc())
+            .limit(limit)
+            .fetch();
+    }
+
+    @Override
+    public long countParentCommentsByMissingPostId(Long postId) {
+        return Objects.requireNonNullElse(jpaQueryFactory.select(comment.count())
+            .from(comment)
+            .where(eqParentOfMissingPost(postId))
+            .fetchOne(), 0L);
+    }
+
+    @Override
+    public List<CommentRow> findChildCommentRowsByParentCommentIds(List<Long> parentCommentIds) {
+        if (parentCommentIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return selectCommentRow()
+            .where(comment.parentComment.id.in(parentCommentIds))
+            .orderBy(comment.id.asc())
+            .fetch();
+    }
+
+    private BooleanExpression eqParentOfMissingPost(Long postId) {
+        return comment.missingPost.id.eq(postId).and(comment.parentComment.isNull());
+    }
+
+    private BooleanExpression afterCursor(CommentCursor cursor) {
+        if (cursor.isFirst()) {
+            return null;
+        }
+        return comment.createdAt.lt(cursor.getCreatedAt())
+            .or(comment.createdAt.eq(cursor.getCreatedAt()).and(comment.id.lt(cursor.getId())));
+    }
+
+    private JPAQuery<CommentRow> selectCommentRow() {
+        return jpaQueryFactory.select(new QCommentRow(
+                comment.id,
+                comment.parentComment.id,
+                comment.content,
+                comment.deleted,
+                comment.createdAt,
+                account.id,
+                account.nickname,
+                image.name))
+            .from(comment)
+            .leftJoin(comment.account, account)
+            .leftJoin(account.image, image);
+    }
+}
@@ -0,0 +1,49 @@
+package com.pet.domains.comment.repository.projection;
+
+import com.pet.domains.comment.domain.Comment;
+import com.querydsl.core.annotations.QueryProjection;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 댓글 목록 응답에 필요한 컬럼만 담는다. 작성자 정보는 account, image 조인으로 함께 읽는다.
+@Getter
+@NoArgsConstructor
+public class CommentRow {
+
+    private Long id;
+
+    private Long parentCommentId;
+
+    private String content;
+
+    private boolean deleted;
+
+    private LocalDateTime createdAt;
+
+    private Long accountId;
+
+    private String nickname;
+
+    private String image;
+
+    @QueryProjection
+    public CommentRow(Long id, Long parentCommentId, String content, boolean deleted, LocalDateTime createdAt,
+        Long accountId, String nickname, String image) {
+        this.id = id;
+        this.parentCommentId = parentCommentId;
+        this.content = content;
+        this.deleted = deleted;
+        this.createdAt = createdAt;
+        this.accountId = accountId;
+        this.nickname = nickname;
+        this.image = image;
+    }
+
+    public String getContent() {
+        if (deleted) {
+            return Comment.COMMENT_DELETED_MESSAGE;
+        }
+        return content;
+    }
+}
@@ -0,0 +1,9 @@
+package com.pet.domains.comment.service;
+
+import com.pet.domains.comment.dto.response.CommentEvent;
+
+// 댓글 변경을 게시글을 보고 있는 모든 서버의 구독자에게 전달한다.
+public interface CommentEventPublisher {
+
+    void publish(CommentEvent commentEvent);
+}
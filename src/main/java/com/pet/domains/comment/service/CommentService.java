@@ -1,17 +1,23 @@
 package com.pet.domains.comment.service;
 
 import com.pet.common.exception.ExceptionMessage;
+import com.pet.common.util.AfterCommitUtils;
 import com.pet.domains.account.domain.Account;
 import com.pet.domains.comment.domain.Comment;
 import com.pet.domains.comment.dto.request.CommentCreateParam;
+import com.pet.domains.comment.dto.request.CommentCursor;
 import com.pet.domains.comment.dto.request.CommentUpdateParam;
+import com.pet.domains.comment.dto.response.CommentEvent;
 import com.pet.domains.comment.dto.response.CommentPageResults;
 import com.pet.domains.comment.dto.response.CommentWriteResult;
 import com.pet.domains.comment.mapper.CommentMapper;
 import com.pet.domains.comment.repository.CommentRepository;
+import com.pet.domains.comment.repository.projection.CommentRow;
 import com.pet.domains.post.domain.MissingPost;
 import com.pet.domains.post.repository.MissingPostRepository;
+import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -29,17 +35,53 @@ public class CommentService {
 
     private final CommentMapper commentMapper;
 
+    private final CommentEventPublisher commentEventPublisher;
+
     public CommentPageResults getMissingPostComments(Long postId, Pageable pageable) {
-        Page<Comment> commentPage = commentRepository.findAllByMissingPostId(postId, pageable);
-        return commentMapper.toCommentPageResults(commentPage);
+        // 부모 댓글 페이지, 개수, 대댓글 세 번의 쿼리로 끝난다.
+        Page<CommentRow> parentCommentPage = commentRepository.findParentCommentRowsByMissingPostId(postId, pageable);
+        List<CommentRow> childCommentRows = commentRepository.findChildCommentRowsByParentCommentIds(
+            parentCommentPage.getContent().stream().map(CommentRow::getId).collect(Collectors.toList()));
+        return commentMapper.toCommentPageResults(parentCommentPage, childCommentRows);
+    }
+
+    // 첫 페이지에서만 전체 개수를 세고, 이후 페이지는 커서에 담긴 값을 그대로 쓴다.
+    public CommentPageResults getMissingPostCommentsByCursor(Long postId, String cursor, int size) {
+        CommentCursor commentCursor = CommentCursor.decode(cursor);
+        long totalElements = commentCursor.isFirst()
+            ? commentRepository.countParentCommentsByMissingPostId(postId)
+            : commentCursor.getTotalElements();
+
+        List<CommentRow> parentCommentRows = commentRepository.findParentCommentRowsByMissingPostIdAfterCursor(
+            postId, commentCursor, size + 1);
+        boolean last = parentCommentRows.size() <= size;
+        if (!last) {
+            parentCommentRows = parentCommentRows.subList(0, size);
+        }
+        List<CommentRow> childCommentRows = commentRepository.findChildCommentRowsByParentCommentIds(
+            parentCommentRows.stream().map(CommentRow::getId).collect(Collectors.toList()));
+        String nextCursor = last ? null : CommentCursor.next(
+            parentCommentRows.get(size - 1).getId(),
+            parentCommentRows.get(size - 1).getCreatedAt(),
+            totalElements
+        ).encode();
+        return new CommentPageResults(commentMapper.toCommentReadResults(parentCommentRows, childCommentRows),
+            totalElements, last, size, nextCursor);
+    }
+
+    public void validateMissingPostExists(Long postId) {
+        if (!missingPostRepository.existsById(postId)) {
+            throw ExceptionMessage.NOT_FOUND_MISSING_POST.getException();
+        }
     }
 
     @Transactional
     public CommentWriteResult createComment(Account account, CommentCreateParam commentCreateParam) {
         MissingPost missingPost = getMissingPostById(commentCreateParam.getPostId());
-        return commentMapper.toCommentWriteResult(
-            commentRepository.save(getNewComment(account, commentCreateParam, missingPost))
-        );
+        Comment savedComment = commentRepository.save(getNewComment(account, commentCreateParam, missingPost));
+        CommentWriteResult commentWriteResult = commentMapper.toCommentWriteResult(savedComment);
+        publishAfterCommit(CommentEvent.Type.CREATED, savedComment, commentWriteResult);
+        return commentWriteResult;
     }
 
     @Transactional
@@ -47,13 +89,28 @@ public class CommentService {
         Comment foundComment = getMyComment(commentId, account);
         foundComment.updateContent(commentUpdateParam.getContent(), account.getId());
 
-        return commentMapper.toCommentWriteResult(foundComment);
+        CommentWriteResult commentWriteResult = commentMapper.toCommentWriteResult(foundComment);
+        publishAfterCommit(CommentEvent.Type.UPDATED, foundComment, commentWriteResult);
+        return commentWriteResult;
     }
 
     @Transactional
     public void deleteMyCommentById(Account account, Long commentId) {
         Comment foundComment = getMyComment(commentId, account);
         commentRepository.delete(foundComment);
+        publishAfterCommit(CommentEvent.Type.DELETED, foundComment, null);
+    }
+
+    // 롤백된 변경이 구독자에게 나가지 않도록 커밋된 뒤에 보낸다.
+    private void publishAfterCommit(CommentEvent.Type type, Comment comment, CommentWriteResult commentWriteResult) {
+        CommentEvent commentEvent = CommentEvent.of(
+            type,
+            comment.getMissingPost().getId(),
+            comment.getId(),
+            Objects.isNull(comment.getParentComment()) ? null : comment.getParentComment().getId(),
+            commentWriteResult
+        );
+        AfterCommitUtils.run(() -> commentEventPublisher.publish(commentEvent));
     }
 
     private Comment getComment(Long commentId) {
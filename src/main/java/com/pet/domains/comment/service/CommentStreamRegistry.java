@@ -0,0 +1,147 @@
+package com.pet.domains.comment.service;
+
+import com.pet.common.exception.ExceptionMessage;
+import com.pet.domains.comment.dto.response.CommentEvent;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+// 이 서버에 연결된 게시글별 SSE 구독자 목록, 보내지 못한 연결은 바로 목록에서 뺀다.
+@Slf4j
+@Component
+public class CommentStreamRegistry {
+
+    public static final String CONNECTED_EVENT_NAME = "connected";
+
+    private static final long TIMEOUT_MILLIS = Duration.ofMinutes(30).toMillis();
+
+    // 구독을 정리할 때 클라이언트별 구독 수도 돌려줘야 하므로 연결마다 클라이언트 키를 함께 둔다.
+    private final Map<Long, Map<SseEmitter, String>> emittersByPostId = new ConcurrentHashMap<>();
+
+    private final Map<String, Integer> subscribersByClient = new ConcurrentHashMap<>();
+
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    // 오래 걸리는 배치 작업과 스케줄러 스레드를 나눠 쓰면 그동안 끊긴 연결이 정리되지 않으므로 따로 둔다.
+    private final ScheduledExecutorService heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(
+        new CustomizableThreadFactory("comment-stream-heartbeat-"));
+
+    @Value("${comment.stream.heartbeat-interval:PT30S}")
+    private Duration heartbeatInterval;
+
+    @Value("${comment.stream.max-subscribers:1000}")
+    private int maxSubscribers;
+
+    @Value("${comment.stream.max-subscribers-per-client:5}")
+    private int maxSubscribersPerClient;
+
+    @PostConstruct
+    public void startHeartbeat() {
+        heartbeatExecutor.scheduleWithFixedDelay(this::sendHeartbeat, heartbeatInterval.toMillis(),
+            heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stopHeartbeat() {
+        heartbeatExecutor.shutdownNow();
+    }
+
+    public SseEmitter subscribe(Long postId, String clientKey) {
+        acquire(clientKey);
+        SseEmitter emitter = new SseEmitter(TIMEOUT_MILLIS);
+        emittersByPostId.compute(postId, (key, emitters) -> {
+            Map<SseEmitter, String> postEmitters = Objects.isNull(emitters) ? new ConcurrentHashMap<>() : emitters;
+            postEmitters.put(emitter, clientKey);
+            return postEmitters;
+        });
+        emitter.onCompletion(() -> remove(postId, emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(throwable -> remove(postId, emitter));
+        // 연결 직후 이벤트를 하나 보내 프록시가 응답 헤더를 바로 내려보내게 한다.
+        send(postId, emitter, SseEmitter.event().name(CONNECTED_EVENT_NAME).data(postId));
+        return emitter;
+    }
+
+    public void deliver(CommentEvent commentEvent) {
+        Map<SseEmitter, String> emitters = emittersByPostId.get(commentEvent.getPostId());
+        if (Objects.isNull(emitters)) {
+            return;
+        }
+        emitters.keySet().forEach(emitter -> send(commentEvent.getPostId(), emitter, SseEmitter.event()
+            .name(commentEvent.getType().getEventName())
+            .data(commentEvent)));
+    }
+
+    public int getSubscriberCount(Long postId) {
+        Map<SseEmitter, String> emitters = emittersByPostId.get(postId);
+        return Objects.isNull(emitters) ? 0 : emitters.size();
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    // 끊긴 연결은 보낼 때에야 드러나므로 주기적으로 주석 한 줄을 보내 정리한다.
+    public void sendHeartbeat() {
+        try {
+            emittersByPostId.forEach((postId, emitters) ->
+                emitters.keySet().forEach(emitter -> send(postId, emitter, SseEmitter.event().comment("heartbeat"))));
+        } catch (RuntimeException exception) {
+            // 예외가 밖으로 나가면 이후 실행이 모두 취소된다.
+            log.warn("comment stream heartbeat failed", exception);
+        }
+    }
+
+    // 연결 하나가 30분까지 유지되므로 서버 전체와 클라이언트마다 동시에 열 수 있는 수를 제한한다.
+    private void acquire(String clientKey) {
+        subscribersByClient.compute(clientKey, (key, count) -> {
+            int clientSubscriberCount = Objects.isNull(count) ? 1 : count + 1;
+            if (clientSubscriberCount > maxSubscribersPerClient) {
+                throw ExceptionMessage.TOO_MANY_COMMENT_STREAMS.getException();
+            }
+            return clientSubscriberCount;
+        });
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            release(clientKey);
+            throw ExceptionMessage.COMMENT_STREAM_FULL.getException();
+        }
+    }
+
+    private void release(String clientKey) {
+        subscriberCount.decrementAndGet();
+        subscribersByClient.computeIfPresent(clientKey, (key, count) -> count <= 1 ? null : count - 1);
+    }
+
+    private void send(Long postId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException exception) {
+            log.debug("comment stream closed, post: {}", postId, exception);
+            remove(postId, emitter);
+        }
+    }
+
+    // 완료, 오류 콜백과 전송 실패가 겹쳐 불릴 수 있으므로 목록에서 실제로 뺀 경우에만 구독 수를 돌려준다.
+    private void remove(Long postId, SseEmitter emitter) {
+        emittersByPostId.computeIfPresent(postId, (key, emitters) -> {
+            String clientKey = emitters.remove(emitter);
+            if (Objects.nonNull(clientKey)) {
+                release(clientKey);
+            }
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+}
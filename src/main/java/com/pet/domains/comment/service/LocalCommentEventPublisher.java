@@ -0,0 +1,20 @@
+package com.pet.domains.comment.service;
+
+import com.pet.domains.comment.dto.response.CommentEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+// 서버 하나로 띄우는 환경용, 이 서버의 구독자에게 바로 보낸다.
+@RequiredArgsConstructor
+@Component
+@Profile({"local", "default", "rds"})
+public class LocalCommentEventPublisher implements CommentEventPublisher {
+
+    private final CommentStreamRegistry commentStreamRegistry;
+
+    @Override
+    public void publish(CommentEvent commentEvent) {
+        commentStreamRegistry.deliver(commentEvent);
+    }
+}
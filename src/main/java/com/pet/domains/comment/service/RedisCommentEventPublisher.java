@@ -0,0 +1,51 @@
+package com.pet.domains.comment.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pet.domains.comment.dto.response.CommentEvent;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+// 발행한 서버도 같은 채널을 구독하므로 구독자에게는 onMessage 에서만 보낸다.
+// 메시지는 유실될 수 있으므로 클라이언트는 다시 연결할 때 댓글 목록을 한 번 읽는다.
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@Profile({"dev", "prod"})
+public class RedisCommentEventPublisher implements CommentEventPublisher, MessageListener {
+
+    public static final String CHANNEL = "comment-events";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final CommentStreamRegistry commentStreamRegistry;
+
+    @Override
+    public void publish(CommentEvent commentEvent) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(commentEvent));
+        } catch (JsonProcessingException exception) {
+            log.warn("comment event serialization failed, post: {}", commentEvent.getPostId(), exception);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        CommentEvent commentEvent;
+        try {
+            commentEvent = objectMapper.readValue(message.getBody(), CommentEvent.class);
+        } catch (IOException exception) {
+            log.warn("invalid comment event message", exception);
+            return;
+        }
+        commentStreamRegistry.deliver(commentEvent);
+    }
+}
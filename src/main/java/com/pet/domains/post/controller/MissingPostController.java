@@ -4,10 +4,13 @@ import com.pet.common.exception.ExceptionMessage;
 import com.pet.common.response.ApiResponse;
 import com.pet.common.s3.validator.ValidImageSize;
 import com.pet.common.util.OptimisticLockingHandlingUtils;
+import com.pet.common.version.DataResource;
+import com.pet.common.version.DataVersioned;
 import com.pet.domains.account.domain.Account;
 import com.pet.domains.account.domain.LoginAccount;
 import com.pet.domains.comment.dto.response.CommentPageResults;
 import com.pet.domains.comment.service.CommentService;
+import com.pet.domains.comment.service.CommentStreamRegistry;
 import com.pet.domains.post.dto.request.MissingPostCreateParam;
 import com.pet.domains.post.dto.request.MissingPostUpdateParam;
 import com.pet.domains.post.dto.response.MissingPostReadResult;
@@ -20,6 +23,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -35,10 +39,12 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Slf4j
 @Validated
@@ -61,6 +67,8 @@ public class MissingPostController {
 
     private final CommentService commentService;
 
+    private final CommentStreamRegistry commentStreamRegistry;
+
     @ResponseStatus(HttpStatus.CREATED)
     @PostMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     public ApiResponse<Map<String, Long>> createMissingPost(
@@ -73,6 +81,7 @@ public class MissingPostController {
     }
 
     @ResponseStatus(HttpStatus.OK)
+    @DataVersioned(DataResource.MISSING_POST)
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     public ApiResponse<MissingPostReadResults> getMissingPosts(
         @LoginAccount Account account,
@@ -146,10 +155,36 @@ public class MissingPostController {
 
     @ResponseStatus(HttpStatus.OK)
     @GetMapping(path = "/{postId}/comments", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ApiResponse<CommentPageResults> getMissingPostComments(@PathVariable Long postId, Pageable pageable) {
+    public ApiResponse<CommentPageResults> getMissingPostComments(
+        @PathVariable Long postId,
+        @RequestParam(required = false) String cursor,
+        Pageable pageable
+    ) {
+        // cursor 파라미터가 있으면(첫 페이지는 빈 값) OFFSET 대신 커서로 다음 페이지를 읽는다.
+        if (Objects.nonNull(cursor)) {
+            return ApiResponse.ok(commentService.getMissingPostCommentsByCursor(postId, cursor,
+                pageable.getPageSize()));
+        }
         return ApiResponse.ok(commentService.getMissingPostComments(postId, pageable));
     }
 
+    // 게시글을 보고 있는 동안 새 댓글, 수정, 삭제를 받는다. 다시 연결하면 댓글 목록을 먼저 읽어야 한다.
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping(path = "/{postId}/comments/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamMissingPostComments(
+        @PathVariable Long postId,
+        @LoginAccount Account account,
+        HttpServletRequest request
+    ) {
+        commentService.validateMissingPostExists(postId);
+        return commentStreamRegistry.subscribe(postId, getStreamClientKey(account, request));
+    }
+
+    // 로그인했으면 회원별로, 아니면 프록시가 넘긴 실제 클라이언트 주소별로 동시 구독 수를 센다.
+    private String getStreamClientKey(Account account, HttpServletRequest request) {
+        return Objects.isNull(account) ? "address:" + request.getRemoteAddr() : "account:" + account.getId();
+    }
+
     private Optional<MissingPostReadResult> getMissingPostOneResult(
         Account account,
         Long postId,
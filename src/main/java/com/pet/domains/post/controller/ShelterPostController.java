@@ -1,6 +1,8 @@
 package com.pet.domains.post.controller;
 
 import com.pet.common.response.ApiResponse;
+import com.pet.common.version.DataResource;
+import com.pet.common.version.DataVersioned;
 import com.pet.domains.account.domain.Account;
 import com.pet.domains.account.domain.LoginAccount;
 import com.pet.domains.post.dto.response.ShelterPostPageResults;
@@ -20,6 +22,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -34,16 +37,24 @@ public class ShelterPostController {
     private final ShelterPostBookmarkService shelterPostBookmarkService;
 
     @ResponseStatus(HttpStatus.OK)
+    @DataVersioned(DataResource.SHELTER_POST)
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     public ApiResponse<ShelterPostPageResults> getShelterPosts(
         @LoginAccount Account account,
         @Valid PostSearchParam searchPostRequest,
+        @RequestParam(required = false) String cursor,
         Pageable pageable
     ) {
+        // cursor 파라미터가 있으면(첫 페이지는 빈 값) OFFSET 대신 커서로 다음 페이지를 읽는다.
+        if (Objects.nonNull(cursor) && !searchPostRequest.isArchived()) {
+            return ApiResponse.ok(shelterPostService.getShelterPostsByCursor(account, cursor, pageable.getPageSize(),
+                searchPostRequest));
+        }
         return ApiResponse.ok(getShelterPostPageResults(account, pageable, searchPostRequest));
     }
 
     @ResponseStatus(HttpStatus.OK)
+    @DataVersioned(DataResource.SHELTER_POST)
     @GetMapping(path = "/{postId}", produces = MediaType.APPLICATION_JSON_VALUE)
     public ApiResponse<ShelterPostReadResult> getShelterPost(@LoginAccount Account account, @PathVariable Long postId) {
         return ApiResponse.ok(getShelterPostReadResult(account, postId));
@@ -66,6 +77,9 @@ public class ShelterPostController {
         Pageable pageable,
         PostSearchParam postSearchParam
     ) {
+        if (postSearchParam.isArchived()) {
+            return shelterPostService.getArchivedShelterPostsPage(pageable, postSearchParam);
+        }
         if (Objects.nonNull(account)) {
             return shelterPostService.getShelterPostsPageWithAccount(account, pageable, postSearchParam);
         }
@@ -0,0 +1,29 @@
+package com.pet.domains.post.controller;
+
+import com.pet.domains.post.service.ShelterPostSyncService;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequestMapping("/api/v1/admin/shelter-posts")
+@RequiredArgsConstructor
+@RestController
+public class ShelterPostSyncController {
+
+    private final ShelterPostSyncService shelterPostSyncService;
+
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @PostMapping(path = "/backfill")
+    public void backfillShelterPosts(
+        @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate start,
+        @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate end
+    ) {
+        shelterPostSyncService.backfill(start, end);
+    }
+}
@@ -3,7 +3,11 @@ package com.pet.domains.post.domain;
 import com.pet.domains.BaseEntity;
 import com.pet.domains.animal.domain.AnimalKind;
 import com.pet.domains.area.domain.Town;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.EnumType;
@@ -13,22 +17,37 @@ import javax.persistence.ForeignKey;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.apache.commons.lang3.Validate;
 import org.hibernate.annotations.Formula;
+import org.springframework.util.DigestUtils;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "shelter_post")
+@Table(
+    name = "shelter_post",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uni_shelter_post_desertion_number",
+        columnNames = "desertion_number"
+    ),
+    indexes = {
+        @Index(name = "idx_shelter_post_end_date", columnList = "end_date"),
+        @Index(name = "idx_shelter_post_found_date_id", columnList = "found_date, id")
+    }
+)
 public class ShelterPost extends BaseEntity {
 
+    private static final String CONTENT_DELIMITER = "\u001F";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "id", updatable = false)
@@ -98,6 +117,10 @@ public class ShelterPost extends BaseEntity {
     @Column(name = "notice_number", length = 30)
     private String noticeNumber;
 
+    // 보호소 api 에서 받아온 내용의 해시, 값이 바뀐 게시글만 갱신하는 데 쓴다.
+    @Column(name = "content_hash", length = 32)
+    private String contentHash;
+
     @Formula("(select count(*) from shelter_post_bookmark spb where spb.shelter_post_id = id)")
     private long bookmarkCount;
 
@@ -155,4 +178,13 @@ public class ShelterPost extends BaseEntity {
         this.animalKind = animalKind;
     }
 
+    public String calculateContentHash() {
+        String content = Stream.of(age, address, shelterPlace, shelterName, shelterTelNumber, manager, color,
+                desertionNumber, image, thumbnail, foundDate, foundPlace, neutered, startDate, endDate,
+                managerTelNumber, postStatus, sex, feature, weight, noticeNumber, town.getId(), animalKind.getId())
+            .map(value -> Objects.toString(value, ""))
+            .collect(Collectors.joining(CONTENT_DELIMITER));
+        return DigestUtils.md5DigestAsHex(content.getBytes(StandardCharsets.UTF_8));
+    }
+
 }
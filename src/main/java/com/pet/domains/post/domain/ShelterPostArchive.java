@@ -0,0 +1,131 @@
+package com.pet.domains.post.domain;
+
+import com.pet.domains.BaseEntity;
+import com.pet.domains.animal.domain.AnimalKind;
+import com.pet.domains.area.domain.Town;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.FetchType;
+import javax.persistence.ForeignKey;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+// 공고가 끝난 지 오래된 보호소 게시글을 옮겨 두는 테이블, 행은 ShelterPostJdbcRepository 가 shelter_post 에서 그대로 옮긴다.
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Immutable
+@Entity
+@Table(
+    name = "shelter_post_archive",
+    indexes = {
+        @Index(name = "idx_shelter_post_archive_desertion_number", columnList = "desertion_number"),
+        @Index(name = "idx_shelter_post_archive_found_date", columnList = "found_date")
+    }
+)
+public class ShelterPostArchive extends BaseEntity {
+
+    // shelter_post 의 id 를 그대로 쓴다.
+    @Id
+    @Column(name = "id", updatable = false)
+    private Long id;
+
+    @Column(name = "age", columnDefinition = "SMALLINT default 0")
+    private int age;
+
+    @Column(name = "address", length = 50)
+    private String address;
+
+    @Column(name = "shelter_place", length = 200)
+    private String shelterPlace;
+
+    @Column(name = "shelter_name", length = 50)
+    private String shelterName;
+
+    @Column(name = "shelter_tel_number", length = 14)
+    private String shelterTelNumber;
+
+    @Column(name = "manager", length = 20)
+    private String manager;
+
+    @Column(name = "color", length = 30)
+    private String color;
+
+    @Column(name = "desertion_number", length = 20)
+    private String desertionNumber;
+
+    @Column(name = "image")
+    private String image;
+
+    @Column(name = "thumbnail")
+    private String thumbnail;
+
+    @Column(name = "found_date")
+    private LocalDate foundDate;
+
+    @Column(name = "found_place", length = 200)
+    private String foundPlace;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "neutered", length = 10)
+    private NeuteredType neutered;
+
+    @Column(name = "start_date")
+    private LocalDate startDate;
+
+    @Column(name = "end_date")
+    private LocalDate endDate;
+
+    @Column(name = "manager_tel_number", length = 14)
+    private String managerTelNumber;
+
+    @Column(name = "post_status", length = 10)
+    private String postStatus;
+
+    @Column(name = "sex", length = 10)
+    private SexType sex;
+
+    @Column(name = "feature", length = 200)
+    private String feature;
+
+    @Column(name = "weight", columnDefinition = "DOUBLE default 0")
+    private Double weight;
+
+    @Column(name = "notice_number", length = 30)
+    private String noticeNumber;
+
+    @Column(name = "content_hash", length = 32)
+    private String contentHash;
+
+    @Column(name = "archived_at", nullable = false, columnDefinition = "TIMESTAMP")
+    private LocalDateTime archivedAt;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(
+        name = "town_id",
+        referencedColumnName = "id",
+        foreignKey = @ForeignKey(name = "fk_town_to_shelter_post_archive"),
+        nullable = false
+    )
+    private Town town;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(
+        name = "animal_kind_id",
+        referencedColumnName = "id",
+        foreignKey = @ForeignKey(name = "fk_animal_kind_to_shelter_post_archive"),
+        nullable = false
+    )
+    private AnimalKind animalKind;
+
+}
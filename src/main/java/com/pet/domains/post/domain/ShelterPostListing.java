@@ -0,0 +1,82 @@
+package com.pet.domains.post.domain;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+// 보호소 게시글 목록 조회용 테이블, 지역/품종 이름과 북마크 수를 한 행에 풀어 둔다.
+// 행은 ShelterPostListingJdbcRepository 가 shelter_post 에서 만들고 북마크 수만 따로 갱신한다.
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Immutable
+@Entity
+@Table(
+    name = "shelter_post_listing",
+    indexes = {
+        @Index(name = "idx_shelter_post_listing_found_date_id", columnList = "found_date, id"),
+        @Index(name = "idx_shelter_post_listing_city_id", columnList = "city_id, id"),
+        @Index(name = "idx_shelter_post_listing_town_id", columnList = "town_id, id"),
+        @Index(name = "idx_shelter_post_listing_animal_id", columnList = "animal_id, id"),
+        @Index(name = "idx_shelter_post_listing_animal_kind_id", columnList = "animal_kind_id, id"),
+        @Index(name = "idx_shelter_post_listing_source_updated_at", columnList = "source_updated_at")
+    }
+)
+public class ShelterPostListing {
+
+    // shelter_post 의 id 를 그대로 쓴다.
+    @Id
+    @Column(name = "id", updatable = false)
+    private Long id;
+
+    @Column(name = "city_id", nullable = false)
+    private Long cityId;
+
+    @Column(name = "city_name", length = 200)
+    private String cityName;
+
+    @Column(name = "town_id", nullable = false)
+    private Long townId;
+
+    @Column(name = "town_name", length = 200)
+    private String townName;
+
+    @Column(name = "animal_id", nullable = false)
+    private Long animalId;
+
+    @Column(name = "animal_name", length = 50)
+    private String animalName;
+
+    @Column(name = "animal_kind_id", nullable = false)
+    private Long animalKindId;
+
+    @Column(name = "animal_kind_name", length = 50)
+    private String animalKindName;
+
+    @Column(name = "age", columnDefinition = "SMALLINT default 0")
+    private int age;
+
+    @Column(name = "sex", length = 10)
+    private SexType sex;
+
+    @Column(name = "thumbnail")
+    private String thumbnail;
+
+    @Column(name = "found_date")
+    private LocalDate foundDate;
+
+    @Column(name = "bookmark_count", nullable = false)
+    private long bookmarkCount;
+
+    // 마지막으로 반영한 shelter_post.updated_at, 다음 갱신은 이 시각 이후에 바뀐 게시글만 다시 만든다.
+    @Column(name = "source_updated_at", nullable = false, columnDefinition = "TIMESTAMP")
+    private LocalDateTime sourceUpdatedAt;
+
+}
@@ -0,0 +1,75 @@
+package com.pet.domains.post.domain;
+
+import com.pet.domains.BaseEntity;
+import java.time.LocalDate;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.apache.commons.lang3.Validate;
+
+// 보호소 게시글 api 의 날짜별, 페이지별 동기화 진행 상황
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+    name = "shelter_sync_state",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uni_shelter_sync_state_date_and_page",
+        columnNames = {"sync_date", "page_number"}
+    )
+)
+public class ShelterSyncState extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false)
+    private Long id;
+
+    @Column(name = "sync_date", nullable = false, updatable = false)
+    private LocalDate syncDate;
+
+    @Column(name = "page_number", nullable = false, updatable = false)
+    private long pageNumber;
+
+    @Column(name = "total_count")
+    private Long totalCount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 10)
+    private ShelterSyncStatus status;
+
+    @Builder
+    public ShelterSyncState(LocalDate syncDate, long pageNumber, Long totalCount, ShelterSyncStatus status) {
+        Validate.notNull(syncDate, "syncDate must not be null");
+        Validate.isTrue(pageNumber > 0, "pageNumber must be positive");
+        Validate.notNull(status, "status must not be null");
+
+        this.syncDate = syncDate;
+        this.pageNumber = pageNumber;
+        this.totalCount = totalCount;
+        this.status = status;
+    }
+
+    public void complete(long totalCount) {
+        this.totalCount = totalCount;
+        this.status = ShelterSyncStatus.COMPLETED;
+    }
+
+    public void fail() {
+        this.status = ShelterSyncStatus.FAILED;
+    }
+
+    public boolean isCompleted() {
+        return status == ShelterSyncStatus.COMPLETED;
+    }
+}
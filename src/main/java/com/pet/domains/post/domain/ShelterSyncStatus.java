@@ -0,0 +1,24 @@
+package com.pet.domains.post.domain;
+
+import com.pet.domains.EnumType;
+
+public enum ShelterSyncStatus implements EnumType {
+    COMPLETED("완료"),
+    FAILED("실패");
+
+    private final String text;
+
+    ShelterSyncStatus(String text) {
+        this.text = text;
+    }
+
+    @Override
+    public String getName() {
+        return this.name();
+    }
+
+    @Override
+    public String getText() {
+        return text;
+    }
+}
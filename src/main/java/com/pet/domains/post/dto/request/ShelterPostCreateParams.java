@@ -23,8 +23,6 @@ public class ShelterPostCreateParams {
 
     private static final String UNKNOWN = "모름";
 
-    private static final String ALL = "전체";
-
     @XmlElement(name = "item")
     private List<ShelterPostCreateParams.ShelterPost> shelterPosts;
 
@@ -121,21 +119,6 @@ public class ShelterPostCreateParams {
             return splitName.strip();
         }
 
-        public String getCityNameFromAddress() {
-            ObjectUtils.requireNonEmpty(address, "address data must not be null");
-
-            return StringUtils.split(address)[0];
-        }
-
-        public String getTownNameFromAddress() {
-            String[] split = StringUtils.split(address);
-            int size = split.length;
-            if (size == 1) {
-                return ALL;
-            }
-            return split[size - 1];
-        }
-
         public static class AgeAdapter extends XmlAdapter<String, Long> {
 
             @Override
@@ -0,0 +1,30 @@
+package com.pet.domains.post.dto.response;
+
+import com.pet.domains.post.dto.request.ShelterPostCreateParams;
+import java.util.List;
+import java.util.Objects;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ShelterApiPageChunk {
+
+    private final List<ShelterPostCreateParams.ShelterPost> shelterPosts;
+
+    // totalCount 는 응답 바디의 items 뒤에 오므로 페이지의 마지막 묶음에만 담긴다.
+    private final Long totalCount;
+
+    public static ShelterApiPageChunk of(List<ShelterPostCreateParams.ShelterPost> shelterPosts) {
+        return new ShelterApiPageChunk(shelterPosts, null);
+    }
+
+    public static ShelterApiPageChunk last(List<ShelterPostCreateParams.ShelterPost> shelterPosts, Long totalCount) {
+        return new ShelterApiPageChunk(shelterPosts, totalCount);
+    }
+
+    public boolean isLast() {
+        return Objects.nonNull(totalCount);
+    }
+}
@@ -4,26 +4,34 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.pet.domains.post.domain.SexType;
 import java.time.LocalDate;
 import java.util.List;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
+// 비로그인 목록 캐시에서 다시 읽을 수 있게 기본 생성자를 둔다.
 @Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class ShelterPostPageResults {
 
-    private final List<ShelterPostPageResults.ShelterPost> shelters;
+    private List<ShelterPostPageResults.ShelterPost> shelters;
 
-    private final long totalElements;
+    private long totalElements;
 
-    private final boolean last;
+    private boolean last;
 
-    private final long size;
+    private long size;
+
+    // 커서로 조회한 경우에만 채운다. 마지막 페이지면 null
+    private String nextCursor;
 
     private ShelterPostPageResults(List<ShelterPostPageResults.ShelterPost> shelters, long totalElements, boolean last,
-        long size) {
+        long size, String nextCursor) {
         this.shelters = shelters;
         this.totalElements = totalElements;
         this.last = last;
         this.size = size;
+        this.nextCursor = nextCursor;
     }
 
     public static ShelterPostPageResults of(
@@ -32,33 +40,46 @@ public class ShelterPostPageResults {
         boolean last,
         long size
     ) {
-        return new ShelterPostPageResults(shelters, totalElements, last, size);
+        return new ShelterPostPageResults(shelters, totalElements, last, size, null);
+    }
+
+    public static ShelterPostPageResults of(
+        List<ShelterPostPageResults.ShelterPost> shelters,
+        long totalElements,
+        boolean last,
+        long size,
+        String nextCursor
+    ) {
+        return new ShelterPostPageResults(shelters, totalElements, last, size, nextCursor);
     }
 
     @Getter
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
     public static class ShelterPost {
 
-        private final Long id;
+        private Long id;
 
-        private final String city;
+        private String city;
 
-        private final String town;
+        private String town;
 
-        private final Long age;
+        private Long age;
 
-        private final String thumbnail;
+        private String thumbnail;
 
-        private final String animal;
+        private String animal;
 
-        private final String animalKindName;
+        private String animalKindName;
 
-        private final LocalDate foundDate;
+        private LocalDate foundDate;
 
-        private final SexType sex;
+        private SexType sex;
 
-        private final boolean isBookmark;
+        // lombok 이 만드는 isBookmark() 는 "bookmark" 로 읽히므로 캐시에서 다시 읽을 때도 이름을 맞춘다.
+        @JsonProperty("isBookmark")
+        private boolean isBookmark;
 
-        private final long bookmarkCount;
+        private long bookmarkCount;
 
         @Builder
         public ShelterPost(Long id, String city, String town, Long age, String thumbnail, String animal,
@@ -37,9 +37,12 @@ public class PostSearchParam {
 
     private Status status;
 
+    // 보호소 게시글 목록에서 공고가 끝나 보관된 게시글을 조회할 때만 true
+    private boolean archived;
+
     @Builder
     public PostSearchParam(Long city, Long town, Long animal, Long animalKind, SexType sex, LocalDate start,
-        LocalDate end, Status status) {
+        LocalDate end, Status status, boolean archived) {
         this.city = city;
         this.town = town;
         this.animal = animal;
@@ -48,5 +51,6 @@ public class PostSearchParam {
         this.start = start;
         this.end = end;
         this.status = status;
+        this.archived = archived;
     }
 }
@@ -0,0 +1,62 @@
+package com.pet.domains.post.dto.serach;
+
+import com.pet.common.exception.ExceptionMessage;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+
+// 마지막으로 내려준 게시글의 정렬 키(id, 접수일)와 첫 페이지에서 센 전체 개수를 담는 커서
+// 기본 정렬은 id 내림차순, 접수일 시작 필터가 있으면 (접수일, id) 오름차순이다.
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ShelterPostCursor {
+
+    private static final String DELIMITER = ":";
+
+    private final Long id;
+
+    private final LocalDate foundDate;
+
+    private final long totalElements;
+
+    public static ShelterPostCursor first() {
+        return new ShelterPostCursor(null, null, 0);
+    }
+
+    public static ShelterPostCursor next(Long id, LocalDate foundDate, long totalElements) {
+        return new ShelterPostCursor(id, foundDate, totalElements);
+    }
+
+    public static ShelterPostCursor decode(String cursor, boolean foundDateOrder) {
+        if (StringUtils.isBlank(cursor)) {
+            return first();
+        }
+        try {
+            String[] values = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                .split(DELIMITER, -1);
+            LocalDate foundDate = StringUtils.isEmpty(values[1]) ? null : LocalDate.parse(values[1]);
+            // 정렬 기준이 바뀐 요청에 이전 커서를 쓰면 순서가 어긋나므로 받지 않는다.
+            if (values.length != 3 || foundDateOrder == Objects.isNull(foundDate)) {
+                throw ExceptionMessage.INVALID_SHELTER_POST_CURSOR.getException();
+            }
+            return next(Long.parseLong(values[0]), foundDate, Long.parseLong(values[2]));
+        } catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException exception) {
+            throw ExceptionMessage.INVALID_SHELTER_POST_CURSOR.getException();
+        }
+    }
+
+    public String encode() {
+        String value = id + DELIMITER + Objects.toString(foundDate, "") + DELIMITER + totalElements;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isFirst() {
+        return Objects.isNull(id);
+    }
+}
@@ -7,6 +7,8 @@ import com.pet.domains.area.domain.City;
 import com.pet.domains.area.domain.Town;
 import com.pet.domains.post.domain.MissingPost;
 import com.pet.domains.post.domain.ShelterPost;
+import com.pet.domains.post.domain.ShelterPostArchive;
+import com.pet.domains.post.domain.ShelterPostListing;
 import com.pet.domains.post.dto.request.ShelterPostCreateParams;
 import com.pet.domains.post.dto.response.ShelterPostPageResults;
 import com.pet.domains.post.dto.response.ShelterPostReadResult;
@@ -84,6 +86,47 @@ public interface ShelterPostMapper {
     @Mapping(target = "isBookmark", expression = "java(false)")
     ShelterPostPageResults.ShelterPost toShelterPagePostDto(ShelterPost shelterPost);
 
+    default ShelterPostPageResults toShelterPostListingPageResults(Page<ShelterPostListing> pageResult) {
+        List<ShelterPostPageResults.ShelterPost> shelterPostResults = pageResult.getContent().stream()
+            .map(this::toShelterListingPagePostDto)
+            .collect(Collectors.toList());
+
+        return ShelterPostPageResults.of(
+            shelterPostResults,
+            pageResult.getTotalElements(),
+            pageResult.isLast(),
+            pageResult.getSize()
+        );
+    }
+
+    @Mapping(target = "animalKindName", source = "animalKindName")
+    @Mapping(target = "animal", source = "animalName")
+    @Mapping(target = "town", source = "townName")
+    @Mapping(target = "city", source = "cityName")
+    @Mapping(target = "isBookmark", expression = "java(false)")
+    ShelterPostPageResults.ShelterPost toShelterListingPagePostDto(ShelterPostListing shelterPostListing);
+
+    default ShelterPostPageResults toShelterPostArchivePageResults(Page<ShelterPostArchive> pageResult) {
+        List<ShelterPostPageResults.ShelterPost> shelterPostResults = pageResult.getContent().stream()
+            .map(this::toShelterArchivePagePostDto)
+            .collect(Collectors.toList());
+
+        return ShelterPostPageResults.of(
+            shelterPostResults,
+            pageResult.getTotalElements(),
+            pageResult.isLast(),
+            pageResult.getSize()
+        );
+    }
+
+    @Mapping(target = "animalKindName", source = "animalKind.name")
+    @Mapping(target = "animal", source = "animalKind.animal.name")
+    @Mapping(target = "town", source = "town.name")
+    @Mapping(target = "city", source = "town.city.name")
+    @Mapping(target = "isBookmark", expression = "java(false)")
+    @Mapping(target = "bookmarkCount", expression = "java(0L)")
+    ShelterPostPageResults.ShelterPost toShelterArchivePagePostDto(ShelterPostArchive shelterPostArchive);
+
     @Mapping(target = "id", source = "shelterPost.id")
     @Mapping(target = "animalKindName", source = "animalKind.name")
     @Mapping(target = "animal", source = "animal.name")
@@ -108,6 +151,15 @@ public interface ShelterPostMapper {
     @Mapping(target = "status", source = "postStatus")
     ShelterPostReadResult toShelterPostReadResult(ShelterPost shelterPost);
 
+    @Mapping(target = "animalKindName", source = "animalKind.name")
+    @Mapping(target = "animal", source = "animalKind.animal.name")
+    @Mapping(target = "town", source = "town.name")
+    @Mapping(target = "city", source = "town.city.name")
+    @Mapping(target = "isBookmark", expression = "java(false)")
+    @Mapping(target = "bookmarkCount", expression = "java(0L)")
+    @Mapping(target = "status", source = "postStatus")
+    ShelterPostReadResult toShelterPostArchiveReadResult(ShelterPostArchive shelterPostArchive);
+
     @Mappings({
         @Mapping(target = "animalKind", source = "shelterPost.animalKind.name"),
         @Mapping(target = "thumbnail", source = "shelterPost.thumbnail"),
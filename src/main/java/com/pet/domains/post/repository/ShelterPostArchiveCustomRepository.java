@@ -0,0 +1,11 @@
+package com.pet.domains.post.repository;
+
+import com.pet.domains.post.domain.ShelterPostArchive;
+import com.pet.domains.post.dto.serach.PostSearchParam;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface ShelterPostArchiveCustomRepository {
+
+    Page<ShelterPostArchive> findAllWithFetch(Pageable pageable, PostSearchParam postSearchParam);
+}
@@ -0,0 +1,120 @@
+package com.pet.domains.post.repository;
+
+import static com.pet.domains.animal.domain.QAnimal.animal;
+import static com.pet.domains.animal.domain.QAnimalKind.animalKind;
+import static com.pet.domains.area.domain.QCity.city;
+import static com.pet.domains.area.domain.QTown.town;
+import static com.pet.domains.post.domain.QShelterPostArchive.shelterPostArchive;
+import com.pet.domains.post.domain.SexType;
+import com.pet.domains.post.domain.ShelterPostArchive;
+import com.pet.domains.post.dto.serach.PostSearchParam;
+import com.querydsl.core.QueryResults;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDate;
+import java.util.Objects;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class ShelterPostArchiveCustomRepositoryImpl extends QuerydslRepositorySupport
+    implements ShelterPostArchiveCustomRepository {
+
+    private static final String START_FILTER_FIELD_NAME = "foundDate";
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    public ShelterPostArchiveCustomRepositoryImpl(JPAQueryFactory jpaQueryFactory) {
+        super(ShelterPostArchive.class);
+        this.jpaQueryFactory = jpaQueryFactory;
+    }
+
+    @Override
+    public Page<ShelterPostArchive> findAllWithFetch(Pageable pageable, PostSearchParam postSearchParam) {
+        JPAQuery<ShelterPostArchive> query = jpaQueryFactory.select(shelterPostArchive)
+            .from(shelterPostArchive)
+            .innerJoin(shelterPostArchive.animalKind, animalKind).fetchJoin()
+            .innerJoin(animalKind.animal, animal).fetchJoin()
+            .innerJoin(shelterPostArchive.town, town).fetchJoin()
+            .innerJoin(town.city, city).fetchJoin()
+            .where(
+                eqTown(postSearchParam.getTown()),
+                eqCity(postSearchParam.getCity()),
+                eqAnimal(postSearchParam.getAnimal()),
+                eqAnimalKind(postSearchParam.getAnimalKind()),
+                eqSexType(postSearchParam.getSex()),
+                goeFoundDate(postSearchParam.getStart()),
+                loeFoundDate(postSearchParam.getEnd()));
+        QueryResults<ShelterPostArchive> queryResults = Objects.requireNonNull(getQuerydsl())
+            .applyPagination(getPageable(pageable, Objects.nonNull(postSearchParam.getStart())), query)
+            .fetchResults();
+
+        return new PageImpl<>(queryResults.getResults(), pageable, queryResults.getTotal());
+    }
+
+    private Pageable getPageable(Pageable pageable, boolean hasStartFilter) {
+        if (hasStartFilter) {
+            return PageRequest.of(
+                pageable.getPageNumber(),
+                pageable.getPageSize(),
+                Sort.by(START_FILTER_FIELD_NAME).ascending()
+            );
+        }
+        return pageable;
+    }
+
+    private BooleanExpression eqTown(Long townId) {
+        if (Objects.isNull(townId)) {
+            return null;
+        }
+        return shelterPostArchive.town.id.eq(townId);
+    }
+
+    private BooleanExpression eqCity(Long cityId) {
+        if (Objects.isNull(cityId)) {
+            return null;
+        }
+        return shelterPostArchive.town.city.id.eq(cityId);
+    }
+
+    private BooleanExpression eqAnimalKind(Long animalKindId) {
+        if (Objects.isNull(animalKindId)) {
+            return null;
+        }
+        return shelterPostArchive.animalKind.id.eq(animalKindId);
+    }
+
+    private BooleanExpression eqAnimal(Long animalId) {
+        if (Objects.isNull(animalId)) {
+            return null;
+        }
+        return shelterPostArchive.animalKind.animal.id.eq(animalId);
+    }
+
+    private BooleanExpression eqSexType(SexType sexType) {
+        if (Objects.isNull(sexType)) {
+            return null;
+        }
+        return shelterPostArchive.sex.eq(sexType);
+    }
+
+    private BooleanExpression goeFoundDate(LocalDate start) {
+        if (Objects.isNull(start)) {
+            return null;
+        }
+        return shelterPostArchive.foundDate.goe(start);
+    }
+
+    private BooleanExpression loeFoundDate(LocalDate end) {
+        if (Objects.isNull(end)) {
+            return null;
+        }
+        return shelterPostArchive.foundDate.loe(end);
+    }
+}
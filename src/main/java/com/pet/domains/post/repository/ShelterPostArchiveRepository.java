@@ -0,0 +1,17 @@
+package com.pet.domains.post.repository;
+
+import com.pet.domains.post.domain.ShelterPostArchive;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.EntityGraph.EntityGraphType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface ShelterPostArchiveRepository extends JpaRepository<ShelterPostArchive, Long>,
+    ShelterPostArchiveCustomRepository {
+
+    @EntityGraph(attributePaths = {"animalKind", "animalKind.animal", "town", "town.city"}, type = EntityGraphType.LOAD)
+    @Query("select spa from ShelterPostArchive spa where spa.id = :postId")
+    Optional<ShelterPostArchive> findByIdWithFetch(Long postId);
+
+}
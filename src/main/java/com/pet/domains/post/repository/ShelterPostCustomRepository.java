@@ -3,8 +3,10 @@ package com.pet.domains.post.repository;
 import com.pet.domains.account.domain.Account;
 import com.pet.domains.post.domain.ShelterPost;
 import com.pet.domains.post.dto.serach.PostSearchParam;
+import com.pet.domains.post.dto.serach.ShelterPostCursor;
 import com.pet.domains.post.repository.projection.ShelterPostWithFetch;
 import com.pet.domains.post.repository.projection.ShelterPostWithIsBookmark;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -18,5 +20,12 @@ public interface ShelterPostCustomRepository {
     Page<ShelterPostWithIsBookmark> findAllWithIsBookmark(Account account, Pageable pageable,
         PostSearchParam postSearchParam);
 
+    List<ShelterPost> findAllWithFetchByCursor(ShelterPostCursor cursor, int limit, PostSearchParam postSearchParam);
+
+    List<ShelterPostWithIsBookmark> findAllWithIsBookmarkByCursor(Account account, ShelterPostCursor cursor, int limit,
+        PostSearchParam postSearchParam);
+
+    long countBySearchParam(PostSearchParam postSearchParam);
+
     Optional<ShelterPostWithIsBookmark> findByIdWithIsBookmark(Account account, Long postId);
 }
@@ -10,16 +10,20 @@ import com.pet.domains.account.domain.Account;
 import com.pet.domains.post.domain.SexType;
 import com.pet.domains.post.domain.ShelterPost;
 import com.pet.domains.post.dto.serach.PostSearchParam;
+import com.pet.domains.post.dto.serach.ShelterPostCursor;
 import com.pet.domains.post.repository.projection.QShelterPostWithFetch;
 import com.pet.domains.post.repository.projection.QShelterPostWithIsBookmark;
 import com.pet.domains.post.repository.projection.ShelterPostWithFetch;
 import com.pet.domains.post.repository.projection.ShelterPostWithIsBookmark;
 import com.querydsl.core.QueryResults;
 import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
@@ -35,6 +39,8 @@ public class ShelterPostCustomRepositoryImpl extends QuerydslRepositorySupport i
 
     private static final String START_FILTER_FIELD_NAME = "foundDate";
 
+    private static final String ID_FIELD_NAME = "id";
+
     private static final String IS_BOOK_MARK_AS = "isBookmark";
 
     private final JPAQueryFactory jpaQueryFactory;
@@ -52,14 +58,7 @@ public class ShelterPostCustomRepositoryImpl extends QuerydslRepositorySupport i
             .innerJoin(animalKind.animal, animal).fetchJoin()
             .innerJoin(shelterPost.town, town).fetchJoin()
             .innerJoin(town.city, city).fetchJoin()
-            .where(
-                eqTown(postSearchParam.getTown()),
-                eqCity(postSearchParam.getCity()),
-                eqAnimal(postSearchParam.getAnimal()),
-                eqAnimalKind(postSearchParam.getAnimalKind()),
-                eqSexType(postSearchParam.getSex()),
-                goeFoundDate(postSearchParam.getStart()),
-                loeFoundDate(postSearchParam.getEnd()));
+            .where(getSearchFilters(postSearchParam));
         QueryResults<ShelterPost> queryResults = Objects.requireNonNull(getQuerydsl())
             .applyPagination(getPageable(pageable, hasStartFilter), query)
             .fetchResults();
@@ -81,21 +80,51 @@ public class ShelterPostCustomRepositoryImpl extends QuerydslRepositorySupport i
     public Page<ShelterPostWithIsBookmark> findAllWithIsBookmark(Account account, Pageable pageable,
         PostSearchParam postSearchParam) {
         JPAQuery<ShelterPostWithIsBookmark> query = getShelterPostWithIsBookmarkQuery(account)
-            .where(
-                eqTown(postSearchParam.getTown()),
-                eqCity(postSearchParam.getCity()),
-                eqAnimal(postSearchParam.getAnimal()),
-                eqAnimalKind(postSearchParam.getAnimalKind()),
-                eqSexType(postSearchParam.getSex()),
-                goeFoundDate(postSearchParam.getStart()),
-                loeFoundDate(postSearchParam.getEnd()));
-        QueryResults<ShelterPostWithIsBookmark>
-            queryResults = Objects.requireNonNull(getQuerydsl()).applyPagination(pageable, query)
+            .where(getSearchFilters(postSearchParam));
+        QueryResults<ShelterPostWithIsBookmark> queryResults = Objects.requireNonNull(getQuerydsl())
+            .applyPagination(getPageable(pageable, getHasStartFilter(postSearchParam.getStart())), query)
             .fetchResults();
 
         return new PageImpl<>(queryResults.getResults(), pageable, queryResults.getTotal());
     }
 
+    @Override
+    public List<ShelterPost> findAllWithFetchByCursor(ShelterPostCursor cursor, int limit,
+        PostSearchParam postSearchParam) {
+        boolean foundDateOrder = getHasStartFilter(postSearchParam.getStart());
+        return jpaQueryFactory.select(shelterPost)
+            .from(shelterPost)
+            .innerJoin(shelterPost.animalKind, animalKind).fetchJoin()
+            .innerJoin(animalKind.animal, animal).fetchJoin()
+            .innerJoin(shelterPost.town, town).fetchJoin()
+            .innerJoin(town.city, city).fetchJoin()
+            .where(getSearchFilters(postSearchParam))
+            .where(afterCursor(cursor, foundDateOrder))
+            .orderBy(getCursorOrders(foundDateOrder))
+            .limit(limit)
+            .fetch();
+    }
+
+    @Override
+    public List<ShelterPostWithIsBookmark> findAllWithIsBookmarkByCursor(Account account, ShelterPostCursor cursor,
+        int limit, PostSearchParam postSearchParam) {
+        boolean foundDateOrder = getHasStartFilter(postSearchParam.getStart());
+        return getShelterPostWithIsBookmarkQuery(account)
+            .where(getSearchFilters(postSearchParam))
+            .where(afterCursor(cursor, foundDateOrder))
+            .orderBy(getCursorOrders(foundDateOrder))
+            .limit(limit)
+            .fetch();
+    }
+
+    @Override
+    public long countBySearchParam(PostSearchParam postSearchParam) {
+        return Objects.requireNonNullElse(jpaQueryFactory.select(shelterPost.count())
+            .from(shelterPost)
+            .where(getSearchFilters(postSearchParam))
+            .fetchOne(), 0L);
+    }
+
     @Override
     public Optional<ShelterPostWithIsBookmark> findByIdWithIsBookmark(Account account, Long postId) {
         ShelterPostWithIsBookmark result = getShelterPostWithIsBookmarkQuery(account)
@@ -114,7 +143,7 @@ public class ShelterPostCustomRepositoryImpl extends QuerydslRepositorySupport i
             return PageRequest.of(
                 pageable.getPageNumber(),
                 pageable.getPageSize(),
-                Sort.by(START_FILTER_FIELD_NAME).ascending()
+                Sort.by(START_FILTER_FIELD_NAME, ID_FIELD_NAME).ascending()
             );
         }
         return pageable;
@@ -157,6 +186,37 @@ public class ShelterPostCustomRepositoryImpl extends QuerydslRepositorySupport i
                 .and(shelterPostBookmark.account.id.eq(account.getId())));
     }
 
+    private Predicate[] getSearchFilters(PostSearchParam postSearchParam) {
+        return new Predicate[] {
+            eqTown(postSearchParam.getTown()),
+            eqCity(postSearchParam.getCity()),
+            eqAnimal(postSearchParam.getAnimal()),
+            eqAnimalKind(postSearchParam.getAnimalKind()),
+            eqSexType(postSearchParam.getSex()),
+            goeFoundDate(postSearchParam.getStart()),
+            loeFoundDate(postSearchParam.getEnd())
+        };
+    }
+
+    // OFFSET 없이 마지막으로 내려준 행 다음부터 읽는다. (found_date, id) 인덱스를 그대로 탄다.
+    private BooleanExpression afterCursor(ShelterPostCursor cursor, boolean foundDateOrder) {
+        if (cursor.isFirst()) {
+            return null;
+        }
+        if (foundDateOrder) {
+            return shelterPost.foundDate.gt(cursor.getFoundDate())
+                .or(shelterPost.foundDate.eq(cursor.getFoundDate()).and(shelterPost.id.gt(cursor.getId())));
+        }
+        return shelterPost.id.lt(cursor.getId());
+    }
+
+    private OrderSpecifier<?>[] getCursorOrders(boolean foundDateOrder) {
+        if (foundDateOrder) {
+            return new OrderSpecifier<?>[] {shelterPost.foundDate.asc(), shelterPost.id.asc()};
+        }
+        return new OrderSpecifier<?>[] {shelterPost.id.desc()};
+    }
+
     private BooleanExpression eqTown(Long townId) {
         if (Objects.isNull(townId)) {
             return null;
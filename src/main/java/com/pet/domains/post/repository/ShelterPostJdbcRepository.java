@@ -0,0 +1,179 @@
+package com.pet.domains.post.repository;
+
+import com.pet.domains.post.domain.NeuteredType;
+import com.pet.domains.post.domain.SexType;
+import com.pet.domains.post.domain.ShelterPost;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@RequiredArgsConstructor
+@Repository
+public class ShelterPostJdbcRepository {
+
+    private static final List<String> INSERT_COLUMNS = List.of(
+        "created_at", "updated_at", "age", "address", "shelter_place", "shelter_name", "shelter_tel_number",
+        "manager", "color", "desertion_number", "image", "thumbnail", "found_date", "found_place", "neutered",
+        "start_date", "end_date", "manager_tel_number", "post_status", "sex", "feature", "weight", "notice_number",
+        "town_id", "animal_kind_id", "content_hash"
+    );
+
+    // 공고 번호가 같은 게시글이 다시 들어오면 최초 등록 시각과 키는 유지하고 나머지 컬럼만 갱신한다.
+    private static final Set<String> NON_UPDATABLE_COLUMNS = Set.of("created_at", "desertion_number");
+
+    private static final String INSERT_SQL = "INSERT INTO shelter_post (" + String.join(", ", INSERT_COLUMNS) + ")"
+        + " VALUES ";
+
+    private static final String ROW_PLACEHOLDER = "(" + String.join(", ", Collections.nCopies(INSERT_COLUMNS.size(),
+        "?")) + ")";
+
+    private static final String ON_DUPLICATE_KEY_UPDATE_SQL = " ON DUPLICATE KEY UPDATE " + INSERT_COLUMNS.stream()
+        .filter(column -> !NON_UPDATABLE_COLUMNS.contains(column))
+        .map(column -> String.format("%s = VALUES(%s)", column, column))
+        .collect(Collectors.joining(", "));
+
+    private static final List<String> UPDATE_COLUMNS = INSERT_COLUMNS.stream()
+        .filter(column -> !NON_UPDATABLE_COLUMNS.contains(column))
+        .collect(Collectors.toList());
+
+    private static final String UPDATE_SQL = "UPDATE shelter_post SET " + UPDATE_COLUMNS.stream()
+        .map(column -> column + " = ?")
+        .collect(Collectors.joining(", ")) + " WHERE desertion_number = ?";
+
+    private static final String ARCHIVE_COLUMNS = "id, " + String.join(", ", INSERT_COLUMNS);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int upsertAll(List<ShelterPost> shelterPosts) {
+        if (shelterPosts.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Object> args = new ArrayList<>(shelterPosts.size() * INSERT_COLUMNS.size());
+        shelterPosts.forEach(shelterPost -> args.addAll(toArgs(shelterPost, now)));
+        return jdbcTemplate.update(getUpsertSql(shelterPosts.size()), args.toArray());
+    }
+
+    public Map<String, String> findContentHashesByDesertionNumbers(Collection<String> desertionNumbers) {
+        if (desertionNumbers.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        String sql = "SELECT desertion_number, content_hash FROM shelter_post WHERE desertion_number IN ("
+            + String.join(", ", Collections.nCopies(desertionNumbers.size(), "?")) + ")";
+        Map<String, String> contentHashes = new HashMap<>();
+        jdbcTemplate.query(sql, resultSet -> {
+            contentHashes.put(resultSet.getString("desertion_number"), resultSet.getString("content_hash"));
+        }, desertionNumbers.toArray());
+        return contentHashes;
+    }
+
+    // 공고 번호로 찾아 내용 컬럼만 JDBC batch 로 갱신한다.
+    public int updateAll(List<ShelterPost> shelterPosts) {
+        if (shelterPosts.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> batchArgs = shelterPosts.stream()
+            .map(shelterPost -> toUpdateArgs(shelterPost, now))
+            .collect(Collectors.toList());
+        return Arrays.stream(jdbcTemplate.batchUpdate(UPDATE_SQL, batchArgs))
+            .map(affectedRows -> Math.max(affectedRows, 0))
+            .sum();
+    }
+
+    // 공고 종료일이 지났고 북마크가 없는 게시글만 보관 대상이다. 북마크된 게시글은 계속 조회할 수 있게 남긴다.
+    public List<Long> findArchivableIds(LocalDate endDateBefore, int limit) {
+        String sql = "SELECT sp.id FROM shelter_post sp WHERE sp.end_date < ?"
+            + " AND NOT EXISTS (SELECT 1 FROM shelter_post_bookmark spb WHERE spb.shelter_post_id = sp.id)"
+            + " ORDER BY sp.id LIMIT ?";
+        return jdbcTemplate.queryForList(sql, Long.class, endDateBefore, limit);
+    }
+
+    // 같은 트랜잭션 안에서 보관 테이블로 복사한 뒤 원본을 지운다.
+    public int archiveAll(List<Long> shelterPostIds) {
+        if (shelterPostIds.isEmpty()) {
+            return 0;
+        }
+        String idPlaceholders = String.join(", ", Collections.nCopies(shelterPostIds.size(), "?"));
+        jdbcTemplate.update("INSERT INTO shelter_post_archive (" + ARCHIVE_COLUMNS + ", archived_at)"
+            + " SELECT " + ARCHIVE_COLUMNS + ", CURRENT_TIMESTAMP FROM shelter_post WHERE id IN (" + idPlaceholders
+            + ")", shelterPostIds.toArray());
+        return jdbcTemplate.update("DELETE FROM shelter_post WHERE id IN (" + idPlaceholders + ")",
+            shelterPostIds.toArray());
+    }
+
+    private String getUpsertSql(int rowCount) {
+        return INSERT_SQL + String.join(", ", Collections.nCopies(rowCount, ROW_PLACEHOLDER))
+            + ON_DUPLICATE_KEY_UPDATE_SQL;
+    }
+
+    private List<Object> toArgs(ShelterPost shelterPost, LocalDateTime now) {
+        return Arrays.asList(
+            now,
+            now,
+            shelterPost.getAge(),
+            shelterPost.getAddress(),
+            shelterPost.getShelterPlace(),
+            shelterPost.getShelterName(),
+            shelterPost.getShelterTelNumber(),
+            shelterPost.getManager(),
+            shelterPost.getColor(),
+            shelterPost.getDesertionNumber(),
+            shelterPost.getImage(),
+            shelterPost.getThumbnail(),
+            shelterPost.getFoundDate(),
+            shelterPost.getFoundPlace(),
+            getNeuteredName(shelterPost.getNeutered()),
+            shelterPost.getStartDate(),
+            shelterPost.getEndDate(),
+            shelterPost.getManagerTelNumber(),
+            shelterPost.getPostStatus(),
+            getSexOrdinal(shelterPost.getSex()),
+            shelterPost.getFeature(),
+            shelterPost.getWeight(),
+            shelterPost.getNoticeNumber(),
+            shelterPost.getTown().getId(),
+            shelterPost.getAnimalKind().getId(),
+            shelterPost.calculateContentHash()
+        );
+    }
+
+    private Object[] toUpdateArgs(ShelterPost shelterPost, LocalDateTime now) {
+        List<Object> insertArgs = toArgs(shelterPost, now);
+        List<Object> updateArgs = new ArrayList<>(UPDATE_COLUMNS.size() + 1);
+        for (int index = 0; index < INSERT_COLUMNS.size(); index++) {
+            if (!NON_UPDATABLE_COLUMNS.contains(INSERT_COLUMNS.get(index))) {
+                updateArgs.add(insertArgs.get(index));
+            }
+        }
+        updateArgs.add(shelterPost.getDesertionNumber());
+        return updateArgs.toArray();
+    }
+
+    private String getNeuteredName(NeuteredType neutered) {
+        if (Objects.isNull(neutered)) {
+            return null;
+        }
+        return neutered.name();
+    }
+
+    private Integer getSexOrdinal(SexType sex) {
+        // ShelterPost.sex 는 @Enumerated 지정이 없어 ORDINAL 로 저장된다.
+        if (Objects.isNull(sex)) {
+            return null;
+        }
+        return sex.ordinal();
+    }
+}
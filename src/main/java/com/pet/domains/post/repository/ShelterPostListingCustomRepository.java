@@ -0,0 +1,11 @@
+package com.pet.domains.post.repository;
+
+import com.pet.domains.post.domain.ShelterPostListing;
+import com.pet.domains.post.dto.serach.PostSearchParam;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface ShelterPostListingCustomRepository {
+
+    Page<ShelterPostListing> findAllBySearchParam(Pageable pageable, PostSearchParam postSearchParam);
+}
@@ -0,0 +1,114 @@
+package com.pet.domains.post.repository;
+
+import static com.pet.domains.post.domain.QShelterPostListing.shelterPostListing;
+import com.pet.domains.post.domain.SexType;
+import com.pet.domains.post.domain.ShelterPostListing;
+import com.pet.domains.post.dto.serach.PostSearchParam;
+import com.querydsl.core.QueryResults;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDate;
+import java.util.Objects;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+import org.springframework.stereotype.Repository;
+
+// 조인 없이 shelter_post_listing 한 테이블만 읽는다. 필터마다 (컬럼, id) 인덱스가 있다.
+@Repository
+public class ShelterPostListingCustomRepositoryImpl extends QuerydslRepositorySupport
+    implements ShelterPostListingCustomRepository {
+
+    private static final String START_FILTER_FIELD_NAME = "foundDate";
+
+    private static final String ID_FIELD_NAME = "id";
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    public ShelterPostListingCustomRepositoryImpl(JPAQueryFactory jpaQueryFactory) {
+        super(ShelterPostListing.class);
+        this.jpaQueryFactory = jpaQueryFactory;
+    }
+
+    @Override
+    public Page<ShelterPostListing> findAllBySearchParam(Pageable pageable, PostSearchParam postSearchParam) {
+        JPAQuery<ShelterPostListing> query = jpaQueryFactory.selectFrom(shelterPostListing)
+            .where(
+                eqTown(postSearchParam.getTown()),
+                eqCity(postSearchParam.getCity()),
+                eqAnimal(postSearchParam.getAnimal()),
+                eqAnimalKind(postSearchParam.getAnimalKind()),
+                eqSexType(postSearchParam.getSex()),
+                goeFoundDate(postSearchParam.getStart()),
+                loeFoundDate(postSearchParam.getEnd()));
+        QueryResults<ShelterPostListing> queryResults = Objects.requireNonNull(getQuerydsl())
+            .applyPagination(getPageable(pageable, Objects.nonNull(postSearchParam.getStart())), query)
+            .fetchResults();
+
+        return new PageImpl<>(queryResults.getResults(), pageable, queryResults.getTotal());
+    }
+
+    private Pageable getPageable(Pageable pageable, boolean hasStartFilter) {
+        if (hasStartFilter) {
+            return PageRequest.of(
+                pageable.getPageNumber(),
+                pageable.getPageSize(),
+                Sort.by(START_FILTER_FIELD_NAME, ID_FIELD_NAME).ascending()
+            );
+        }
+        return pageable;
+    }
+
+    private BooleanExpression eqTown(Long townId) {
+        if (Objects.isNull(townId)) {
+            return null;
+        }
+        return shelterPostListing.townId.eq(townId);
+    }
+
+    private BooleanExpression eqCity(Long cityId) {
+        if (Objects.isNull(cityId)) {
+            return null;
+        }
+        return shelterPostListing.cityId.eq(cityId);
+    }
+
+    private BooleanExpression eqAnimalKind(Long animalKindId) {
+        if (Objects.isNull(animalKindId)) {
+            return null;
+        }
+        return shelterPostListing.animalKindId.eq(animalKindId);
+    }
+
+    private BooleanExpression eqAnimal(Long animalId) {
+        if (Objects.isNull(animalId)) {
+            return null;
+        }
+        return shelterPostListing.animalId.eq(animalId);
+    }
+
+    private BooleanExpression eqSexType(SexType sexType) {
+        if (Objects.isNull(sexType)) {
+            return null;
+        }
+        return shelterPostListing.sex.eq(sexType);
+    }
+
+    private BooleanExpression goeFoundDate(LocalDate start) {
+        if (Objects.isNull(start)) {
+            return null;
+        }
+        return shelterPostListing.foundDate.goe(start);
+    }
+
+    private BooleanExpression loeFoundDate(LocalDate end) {
+        if (Objects.isNull(end)) {
+            return null;
+        }
+        return shelterPostListing.foundDate.loe(end);
+    }
+}
@@ -0,0 +1,96 @@
+package com.pet.domains.post.repository;
+
+import com.pet.domains.post.domain.SexType;
+import com.pet.domains.statistics.domain.FacetDeltas;
+import com.pet.domains.statistics.domain.FacetDimension;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@RequiredArgsConstructor
+@Repository
+public class ShelterPostListingJdbcRepository {
+
+    private static final String INSERT_SELECT_SQL = "INSERT INTO shelter_post_listing (id, city_id, city_name,"
+        + " town_id, town_name, animal_id, animal_name, animal_kind_id, animal_kind_name, age, sex, thumbnail,"
+        + " found_date, bookmark_count, source_updated_at)"
+        + " SELECT sp.id, c.id, c.name, t.id, t.name, a.id, a.name, ak.id, ak.name, sp.age, sp.sex, sp.thumbnail,"
+        + " sp.found_date,"
+        + " (SELECT COUNT(*) FROM shelter_post_bookmark spb WHERE spb.shelter_post_id = sp.id), sp.updated_at"
+        + " FROM shelter_post sp"
+        + " INNER JOIN town t ON t.id = sp.town_id"
+        + " INNER JOIN city c ON c.id = t.city_id"
+        + " INNER JOIN animal_kind ak ON ak.id = sp.animal_kind_id"
+        + " INNER JOIN animal a ON a.id = ak.animal_id";
+
+    private static final String FACET_SQL = "SELECT city_id, animal_id, sex, COUNT(*) AS post_count"
+        + " FROM shelter_post_listing";
+
+    private static final String FACET_GROUP_BY_SQL = " GROUP BY city_id, animal_id, sex";
+
+    private static final String UPDATED_SINCE_CONDITION = " WHERE id IN"
+        + " (SELECT sp.id FROM shelter_post sp WHERE sp.updated_at >= ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public LocalDateTime findLastSourceUpdatedAt() {
+        return jdbcTemplate.queryForObject("SELECT MAX(source_updated_at) FROM shelter_post_listing",
+            LocalDateTime.class);
+    }
+
+    // updatedSince 이후에 저장된 게시글의 행을 지우고 다시 만든다. null 이면 전체를 다시 만든다.
+    public int rebuildUpdatedSince(LocalDateTime updatedSince) {
+        if (Objects.isNull(updatedSince)) {
+            jdbcTemplate.update("DELETE FROM shelter_post_listing");
+            return jdbcTemplate.update(INSERT_SELECT_SQL);
+        }
+        jdbcTemplate.update("DELETE FROM shelter_post_listing" + UPDATED_SINCE_CONDITION, updatedSince);
+        return jdbcTemplate.update(INSERT_SELECT_SQL + " WHERE sp.updated_at >= ?", updatedSince);
+    }
+
+    public int deleteAllByIds(List<Long> shelterPostIds) {
+        if (shelterPostIds.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update("DELETE FROM shelter_post_listing WHERE id IN ("
+            + String.join(", ", Collections.nCopies(shelterPostIds.size(), "?")) + ")", shelterPostIds.toArray());
+    }
+
+    // rebuildUpdatedSince 가 다시 만드는 행의 필터 값별 개수에 sign 을 곱해 더한다.
+    public void collectFacetsUpdatedSince(FacetDeltas facetDeltas, long sign, LocalDateTime updatedSince) {
+        if (Objects.isNull(updatedSince)) {
+            collectFacets(facetDeltas, sign, "");
+            return;
+        }
+        collectFacets(facetDeltas, sign, UPDATED_SINCE_CONDITION, updatedSince);
+    }
+
+    public void collectFacetsByIds(FacetDeltas facetDeltas, long sign, List<Long> shelterPostIds) {
+        if (shelterPostIds.isEmpty()) {
+            return;
+        }
+        collectFacets(facetDeltas, sign, " WHERE id IN ("
+            + String.join(", ", Collections.nCopies(shelterPostIds.size(), "?")) + ")", shelterPostIds.toArray());
+    }
+
+    public int addBookmarkCount(Long shelterPostId, long delta) {
+        return jdbcTemplate.update("UPDATE shelter_post_listing SET bookmark_count = GREATEST(bookmark_count + ?, 0)"
+            + " WHERE id = ?", delta, shelterPostId);
+    }
+
+    private void collectFacets(FacetDeltas facetDeltas, long sign, String condition, Object... args) {
+        jdbcTemplate.query(FACET_SQL + condition + FACET_GROUP_BY_SQL, resultSet -> {
+            long delta = sign * resultSet.getLong("post_count");
+            Integer sexOrdinal = resultSet.getObject("sex", Integer.class);
+            facetDeltas.add(FacetDimension.CITY, resultSet.getLong("city_id"), delta)
+                .add(FacetDimension.ANIMAL, resultSet.getLong("animal_id"), delta)
+                // shelter_post_listing.sex 는 shelter_post 와 같이 ORDINAL 로 저장된다.
+                .add(FacetDimension.SEX, Objects.isNull(sexOrdinal) ? null : SexType.values()[sexOrdinal].name(),
+                    delta);
+        }, args);
+    }
+}
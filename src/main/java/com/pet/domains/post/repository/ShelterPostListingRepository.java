@@ -0,0 +1,9 @@
+package com.pet.domains.post.repository;
+
+import com.pet.domains.post.domain.ShelterPostListing;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ShelterPostListingRepository extends JpaRepository<ShelterPostListing, Long>,
+    ShelterPostListingCustomRepository {
+
+}
@@ -0,0 +1,17 @@
+package com.pet.domains.post.repository;
+
+import com.pet.domains.post.domain.ShelterSyncState;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ShelterSyncStateRepository extends JpaRepository<ShelterSyncState, Long> {
+
+    Optional<ShelterSyncState> findBySyncDateAndPageNumber(LocalDate syncDate, long pageNumber);
+
+    List<ShelterSyncState> findAllBySyncDate(LocalDate syncDate);
+
+    List<ShelterSyncState> findAllBySyncDateBetween(LocalDate start, LocalDate end);
+
+}
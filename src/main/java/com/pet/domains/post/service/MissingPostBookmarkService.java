@@ -1,6 +1,8 @@
 package com.pet.domains.post.service;
 
 import com.pet.common.exception.ExceptionMessage;
+import com.pet.common.version.DataResource;
+import com.pet.common.version.DataVersionRegistry;
 import com.pet.domains.account.domain.Account;
 import com.pet.domains.post.domain.MissingPost;
 import com.pet.domains.post.domain.MissingPostBookmark;
@@ -19,6 +21,8 @@ public class MissingPostBookmarkService {
 
     private final MissingPostBookmarkRepository missingPostBookmarkRepository;
 
+    private final DataVersionRegistry dataVersionRegistry;
+
     @Transactional
     public void createMissingPostBookmark(Long postId, Account account) {
         MissingPost getMissingPost = missingPostRepository.findById(postId)
@@ -30,12 +34,13 @@ public class MissingPostBookmarkService {
                 .missingPost(getMissingPost)
                 .build()
         );
+        dataVersionRegistry.bumpAfterCommit(DataResource.MISSING_POST, String.valueOf(account.getId()));
     }
 
     @Transactional
     public void deleteMissingPostBookmark(Long postId, Account account) {
         missingPostBookmarkRepository.deleteByAccountAndMissingPostId(account, postId);
-
+        dataVersionRegistry.bumpAfterCommit(DataResource.MISSING_POST, String.valueOf(account.getId()));
     }
 
 }
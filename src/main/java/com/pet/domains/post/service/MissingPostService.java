@@ -1,6 +1,8 @@
 package com.pet.domains.post.service;
 
 import com.pet.common.exception.ExceptionMessage;
+import com.pet.common.version.DataResource;
+import com.pet.common.version.DataVersionRegistry;
 import com.pet.domains.account.domain.Account;
 import com.pet.domains.account.dto.response.AccountBookmarkPostPageResults;
 import com.pet.domains.account.service.NotificationAsyncService;
@@ -25,6 +27,9 @@ import com.pet.domains.post.mapper.MissingPostReadResultMapper;
 import com.pet.domains.post.repository.MissingPostRepository;
 import com.pet.domains.post.repository.projection.MissingPostWithFetch;
 import com.pet.domains.post.repository.projection.MissingPostWithIsBookmark;
+import com.pet.domains.statistics.domain.FacetDeltas;
+import com.pet.domains.statistics.domain.FacetTarget;
+import com.pet.domains.statistics.service.PostFacetService;
 import com.pet.domains.tag.domain.PostTag;
 import com.pet.domains.tag.domain.Tag;
 import com.pet.domains.tag.repository.PostTagRepository;
@@ -78,6 +83,10 @@ public class MissingPostService {
 
     private final MissingPostReadResultMapper missingPostReadResultMapper;
 
+    private final PostFacetService postFacetService;
+
+    private final DataVersionRegistry dataVersionRegistry;
+
     @Transactional
     public Long createMissingPost(MissingPostCreateParam missingPostCreateParam, List<MultipartFile> multipartFiles,
         Account account) {
@@ -97,6 +106,8 @@ public class MissingPostService {
         createPostImage(imageFiles, newMissingPost);
 
         MissingPost savedMissingPost = missingPostRepository.save(newMissingPost);
+        postFacetService.apply(FacetTarget.MISSING_POST, new FacetDeltas().addMissingPost(savedMissingPost, 1));
+        dataVersionRegistry.bumpAfterCommit(DataResource.MISSING_POST);
         notificationAsyncService.createNotifications(savedMissingPost, account.getId());
         log.debug("complete create missing post");
 
@@ -118,6 +129,8 @@ public class MissingPostService {
         MissingPost getMissingPost = checkPostAccount(postId, account);
         commentRepository.deleteAllByMissingPostId(getMissingPost.getId());
         missingPostRepository.deleteById(getMissingPost.getId());
+        postFacetService.apply(FacetTarget.MISSING_POST, new FacetDeltas().addMissingPost(getMissingPost, -1));
+        dataVersionRegistry.bumpAfterCommit(DataResource.MISSING_POST);
     }
 
     private MissingPost checkPostAccount(Long postId, Account account) {
@@ -241,9 +254,12 @@ public class MissingPostService {
             townRepository.findById(param.getTownId()).orElseThrow(ExceptionMessage.NOT_FOUND_TOWN::getException);
         AnimalKind getAnimalKind = animalKindService.getOrCreateAnimalKind(param.getAnimalId(),
             param.getAnimalKindName());
+        FacetDeltas facetDeltas = new FacetDeltas().addMissingPost(getMissingPost, -1);
         getMissingPost.changeInfo(param.getStatus(), param.getDate(), getTown, param.getDetailAddress(),
             param.getTelNumber(), getAnimalKind, param.getAge(), param.getSex(), param.getChipNumber(),
             param.getContent(), thumbnail);
+        postFacetService.apply(FacetTarget.MISSING_POST, facetDeltas.addMissingPost(getMissingPost, 1));
+        dataVersionRegistry.bumpAfterCommit(DataResource.MISSING_POST);
 
         log.debug("complete update missing post");
         return getMissingPost.getId();
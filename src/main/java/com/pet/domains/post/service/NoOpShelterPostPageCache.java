@@ -0,0 +1,37 @@
+package com.pet.domains.post.service;
+
+import com.pet.domains.post.dto.response.ShelterPostPageResults;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+// redis 없이 띄우는 환경에서는 캐시하지 않는다.
+@Component
+@Profile({"local", "default", "rds"})
+public class NoOpShelterPostPageCache implements ShelterPostPageCache {
+
+    @Override
+    public Optional<ShelterPostPageResults> find(String version, ShelterPostPageKey pageKey) {
+        return Optional.empty();
+    }
+
+    @Override
+    public void put(String version, ShelterPostPageKey pageKey, ShelterPostPageResults shelterPostPageResults) {
+    }
+
+    @Override
+    public void putAll(String version, Map<ShelterPostPageKey, ShelterPostPageResults> shelterPostPageResults) {
+    }
+
+    @Override
+    public void recordRequest(ShelterPostPageKey pageKey) {
+    }
+
+    @Override
+    public List<ShelterPostPageKey> findTopRequested(int limit) {
+        return Collections.emptyList();
+    }
+}
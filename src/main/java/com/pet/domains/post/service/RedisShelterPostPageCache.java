@@ -0,0 +1,115 @@
+package com.pet.domains.post.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pet.domains.post.dto.response.ShelterPostPageResults;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.stereotype.Component;
+
+// 키에 데이터 버전이 들어가므로 게시글이 바뀌면 이전 키는 읽히지 않고 TTL 로 사라진다.
+// 요청된 필터 조합은 날짜별 sorted set 에 횟수를 세어 두고 다음 날 warm-up 에 쓴다.
+@Component
+@Profile({"dev", "prod"})
+public class RedisShelterPostPageCache implements ShelterPostPageCache {
+
+    private static final String PAGE_KEY_PREFIX = "shelter-posts::";
+
+    private static final String REQUEST_KEY_PREFIX = "shelter-posts:requests:";
+
+    private static final Duration PAGE_TTL = Duration.ofHours(6);
+
+    private static final Duration REQUEST_TTL = Duration.ofDays(2);
+
+    private static final DateTimeFormatter REQUEST_DATE_FORMATTER = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final Jackson2JsonRedisSerializer<ShelterPostPageResults> pageSerializer;
+
+    public RedisShelterPostPageCache(StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.pageSerializer = new Jackson2JsonRedisSerializer<>(ShelterPostPageResults.class);
+        this.pageSerializer.setObjectMapper(objectMapper);
+    }
+
+    @Override
+    public Optional<ShelterPostPageResults> find(String version, ShelterPostPageKey pageKey) {
+        byte[] value = stringRedisTemplate.execute((RedisCallback<byte[]>) connection ->
+            connection.stringCommands().get(toRawPageKey(version, pageKey)));
+        return Optional.ofNullable(value).map(pageSerializer::deserialize);
+    }
+
+    @Override
+    public void put(String version, ShelterPostPageKey pageKey, ShelterPostPageResults shelterPostPageResults) {
+        stringRedisTemplate.execute((RedisCallback<Boolean>) connection -> setPage(connection.stringCommands(),
+            version, pageKey, shelterPostPageResults));
+    }
+
+    @Override
+    public void putAll(String version, Map<ShelterPostPageKey, ShelterPostPageResults> shelterPostPageResults) {
+        if (shelterPostPageResults.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            shelterPostPageResults.forEach((pageKey, pageResults) -> setPage(connection.stringCommands(), version,
+                pageKey, pageResults));
+            return null;
+        });
+    }
+
+    @Override
+    public void recordRequest(ShelterPostPageKey pageKey) {
+        byte[] requestKey = StringRedisSerializer.UTF_8.serialize(toRequestKey(LocalDate.now()));
+        byte[] member = StringRedisSerializer.UTF_8.serialize(pageKey.getValue());
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.zSetCommands().zIncrBy(Objects.requireNonNull(requestKey), 1, Objects.requireNonNull(member));
+            connection.keyCommands().expire(requestKey, REQUEST_TTL.getSeconds());
+            return null;
+        });
+    }
+
+    @Override
+    public List<ShelterPostPageKey> findTopRequested(int limit) {
+        Set<String> values = stringRedisTemplate.opsForZSet()
+            .reverseRange(toRequestKey(LocalDate.now().minusDays(1)), 0, limit - 1L);
+        if (Objects.isNull(values)) {
+            return List.of();
+        }
+        return values.stream()
+            .map(ShelterPostPageKey::parse)
+            .flatMap(Optional::stream)
+            .collect(Collectors.toList());
+    }
+
+    private Boolean setPage(
+        RedisStringCommands stringCommands,
+        String version,
+        ShelterPostPageKey pageKey,
+        ShelterPostPageResults shelterPostPageResults
+    ) {
+        return stringCommands.set(toRawPageKey(version, pageKey), pageSerializer.serialize(shelterPostPageResults),
+            Expiration.from(PAGE_TTL), RedisStringCommands.SetOption.upsert());
+    }
+
+    private byte[] toRawPageKey(String version, ShelterPostPageKey pageKey) {
+        return StringRedisSerializer.UTF_8.serialize(PAGE_KEY_PREFIX + version + ":" + pageKey.getValue());
+    }
+
+    private String toRequestKey(LocalDate requestDate) {
+        return REQUEST_KEY_PREFIX + requestDate.format(REQUEST_DATE_FORMATTER);
+    }
+}
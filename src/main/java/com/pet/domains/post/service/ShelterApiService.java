@@ -5,32 +5,26 @@ import com.pet.domains.animal.dto.request.AnimalKindCreateParams;
 import com.pet.domains.animal.dto.response.AnimalKindApiPageResults;
 import com.pet.domains.animal.service.AnimalKindService;
 import com.pet.domains.area.dto.request.CityCreateParams;
-import com.pet.domains.area.dto.request.CityCreateParams.City;
 import com.pet.domains.area.dto.request.TownCreateParams;
 import com.pet.domains.area.dto.response.CityApiPageResults;
 import com.pet.domains.area.dto.response.TownApiPageResults;
 import com.pet.domains.area.service.CityService;
 import com.pet.domains.area.service.TownService;
-import com.pet.domains.post.dto.response.ShelterApiPageResult;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.HashMap;
+import com.pet.domains.post.dto.response.ShelterApiPageChunk;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.LongStream;
 import javax.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.MediaType;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -47,20 +41,20 @@ public class ShelterApiService {
 
     private static final List<String> animalKindCodes = List.of("417000", "422400", "429900");
 
-    private static final long NUM_OF_ROWS = 100;
+    static final long NUM_OF_ROWS = 100;
 
     private final ShelterProperties shelterProperties;
 
     private final WebClient.Builder webClientBuilder;
 
-    private final ShelterPostService shelterPostService;
-
     private final AnimalKindService animalKindService;
 
     private final CityService cityService;
 
     private final TownService townService;
 
+    private final ShelterPostXmlDecoder shelterPostXmlDecoder;
+
     private WebClient webClient;
 
     @PostConstruct
@@ -74,52 +68,13 @@ public class ShelterApiService {
             .build();
     }
 
-    @Scheduled(cron = "0 0 5 * * *")
-    public void shelterPostDailyCronJob() {
-        LocalDateTime now = LocalDateTime.now();
-        log.info("shelterPostDailyCronJob() start at {}, ", now);
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd");
-        String yesterday = now.minusDays(1).format(formatter);
-
-        ShelterApiPageResult firstPageResult = getShelterApiPageResults(yesterday, yesterday, 1).block();
-
-        long totalCount = insertShelterPostFromFirstPageResults(firstPageResult);
-
-        List<Long> remainingPageNums = LongStream.rangeClosed(2, getLastPageNumber(totalCount))
-            .boxed()
-            .collect(Collectors.toList());
-        insertShelterPostFromRemainingPageResults(yesterday, yesterday, remainingPageNums);
-    }
-
-    public long insertShelterPostFromFirstPageResults(ShelterApiPageResult result) {
-        log.info("보호소 동물 게시글 api 첫번째 페이지 응답 데이터 테이블에 삽입 시작");
-        Objects.requireNonNull(result, "보호소 게시글 api 응답이 널입니다.");
-        shelterPostService.bulkCreateShelterPost(result.getBodyItems());
-        return result.getBody().getTotalCount();
-    }
-
-    public void insertShelterPostFromRemainingPageResults(String start, String end, List<Long> pageNumbersForRequest) {
-        log.info("보호소 동물 게시글 api 나머지 페이지들의 응답 데이터 테이블에 삽입 시작");
-        getShelterApiRemainingPageResults(start, end, pageNumbersForRequest)
-            .subscribe(response -> {
-                shelterPostService.bulkCreateShelterPost(response.getBodyItems());
-                log.info("Get shelter post api response async");
-            });
-    }
-
-    public Flux<ShelterApiPageResult> getShelterApiRemainingPageResults(String start, String end,
-        List<Long> pageNumbers) {
-        return Flux.fromIterable(pageNumbers)
-            .flatMap(pageNumber -> getShelterApiPageResults(start, end, pageNumber))
-            .doOnComplete(() -> log.info("보호소 동물 게시글 api 나머지 페이지들의 응답 데이터 complete"));
-    }
-
-    public Mono<ShelterApiPageResult> getShelterApiPageResults(
+    // 페이지 전체를 객체로 만들지 않고 item 을 decodeChunkSize 만큼씩 읽어 내보낸다.
+    public Flux<ShelterApiPageChunk> getShelterApiPageChunks(
         String start,
         String end,
         long pageNumber
     ) {
-        return webClient.get()
+        Flux<DataBuffer> dataBuffers = webClient.get()
             .uri(uriBuilder -> uriBuilder
                 .path(SHELTER_POST_PATH)
                 .queryParam("serviceKey", shelterProperties.getKey())
@@ -130,23 +85,43 @@ public class ShelterApiService {
                 .build())
             .accept(MediaType.APPLICATION_XML)
             .retrieve()
-            .bodyToMono(ShelterApiPageResult.class);
+            .bodyToFlux(DataBuffer.class);
+        return shelterPostXmlDecoder.decode(dataBuffers, shelterProperties.getDecodeChunkSize());
     }
 
     public void saveAllAnimalKinds() {
-        Map<String, AnimalKindCreateParams> createParams = getAllAnimalKindCreateParams();
-        createParams.forEach(animalKindService::bulkCreateAnimalKind);
+        log.info("saveAllAnimalKinds() cron task start");
+        Map<String, AnimalKindCreateParams> createParams = Flux.fromIterable(animalKindCodes)
+            .flatMap(animalCode -> getAnimalKindApiResults(animalCode)
+                .map(results -> Tuples.of(animalCode, results.getBodyItems())), shelterProperties.getConcurrency())
+            .filter(params -> params.getT2().getAnimalKinds() != null)
+            .collectMap(Tuple2::getT1, Tuple2::getT2)
+            .block();
+        int changedCount = animalKindService.syncAnimalKinds(createParams);
+        log.info("saveAllAnimalKinds() complete, changed rows: {}", changedCount);
     }
 
-    public Map<String, AnimalKindCreateParams> getAllAnimalKindCreateParams() {
-        return animalKindCodes.stream()
-            .collect(Collectors.toMap(
-                kindCode -> kindCode,
-                kindCode -> getAnimalKindApiResults(kindCode).getBodyItems())
-            );
+    public void saveAllCities() {
+        log.info("saveAllCities() cron task start");
+        CityCreateParams createParams = getCityApiPageResults().block().getBodyItems();
+        int changedCount = cityService.syncCities(createParams);
+        log.info("saveAllCities() complete, changed rows: {}", changedCount);
+    }
+
+    // 시도 목록은 api 를 다시 부르지 않고 저장된 시도 코드로 시군구를 동시에 받아온다.
+    public void saveAllTowns() {
+        log.info("saveAllTowns() cron task start");
+        Map<String, TownCreateParams> createParams = Flux.fromIterable(cityService.getCityCodes())
+            .flatMap(cityCode -> getTownApiPageResults(cityCode)
+                .map(results -> Tuples.of(cityCode, results.getBodyItems())), shelterProperties.getConcurrency())
+            .filter(params -> params.getT2().getTowns() != null)
+            .collectMap(Tuple2::getT1, Tuple2::getT2)
+            .block();
+        int changedCount = townService.syncTowns(createParams);
+        log.info("saveAllTowns() complete, changed rows: {}", changedCount);
     }
 
-    public AnimalKindApiPageResults getAnimalKindApiResults(String kind) {
+    private Mono<AnimalKindApiPageResults> getAnimalKindApiResults(String kind) {
         return webClient.get()
             .uri(uriBuilder -> uriBuilder
                 .path(ANIMAL_KIND_PATH)
@@ -155,21 +130,10 @@ public class ShelterApiService {
                 .build())
             .accept(MediaType.APPLICATION_XML)
             .retrieve()
-            .bodyToMono(AnimalKindApiPageResults.class)
-            .block();
-    }
-
-    public void saveAllCities() {
-        log.info("saveAllCities() cron task start");
-        CityCreateParams createParams = getCityCreateParams();
-        cityService.createCites(createParams);
+            .bodyToMono(AnimalKindApiPageResults.class);
     }
 
-    public CityCreateParams getCityCreateParams() {
-        return getCityApiPageResults().getBodyItems();
-    }
-
-    public CityApiPageResults getCityApiPageResults() {
+    private Mono<CityApiPageResults> getCityApiPageResults() {
         return webClient.get()
             .uri(uriBuilder -> uriBuilder
                 .path(CITY_PATH)
@@ -178,35 +142,10 @@ public class ShelterApiService {
                 .build())
             .accept(MediaType.APPLICATION_XML)
             .retrieve()
-            .bodyToMono(CityApiPageResults.class)
-            .block();
+            .bodyToMono(CityApiPageResults.class);
     }
 
-    public void saveAllTowns() {
-        log.info("saveAllTowns() cron task start");
-        Map<String, TownCreateParams> createParams = getAllTownCreateParams();
-        createParams.forEach(townService::bulkCreateTowns);
-    }
-
-    public Map<String, TownCreateParams> getAllTownCreateParams() {
-        Map<String, TownCreateParams> paramsMap = new HashMap<>();
-        getCityCodes().forEach(cityCode -> {
-            TownCreateParams createParams = getTownApiPageResults(cityCode).getBodyItems();
-            if (createParams.getTowns() != null) {
-                paramsMap.put(cityCode, createParams);
-            }
-        });
-        return paramsMap;
-    }
-
-    public Set<String> getCityCodes() {
-        CityCreateParams bodyItems = getCityApiPageResults().getBodyItems();
-        return bodyItems.getCities().stream()
-            .map(City::getCode)
-            .collect(Collectors.toSet());
-    }
-
-    public TownApiPageResults getTownApiPageResults(String cityCode) {
+    private Mono<TownApiPageResults> getTownApiPageResults(String cityCode) {
         return webClient.get()
             .uri(uriBuilder -> uriBuilder
                 .path(TOWN_PATH)
@@ -215,19 +154,6 @@ public class ShelterApiService {
                 .build())
             .accept(MediaType.APPLICATION_XML)
             .retrieve()
-            .bodyToMono(TownApiPageResults.class)
-            .block();
-    }
-
-    private long getLastPageNumber(long totalCount) {
-        long lastPageNumber = (totalCount / NUM_OF_ROWS);
-        if (hasRemainder(totalCount)) {
-            lastPageNumber++;
-        }
-        return lastPageNumber;
-    }
-
-    private boolean hasRemainder(long divided) {
-        return (divided % NUM_OF_ROWS) != 0;
+            .bodyToMono(TownApiPageResults.class);
     }
 }
@@ -0,0 +1,41 @@
+package com.pet.domains.post.service;
+
+import com.pet.common.property.ShelterProperties;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ShelterPostArchiveService {
+
+    // 갱신 작업(공고 시작일 기준 30일)이 다시 받아 올 수 없을 만큼 지난 게시글만 옮긴다.
+    public static final long ARCHIVE_AFTER_DAYS = 60;
+
+    private final ShelterPostBatchWriter shelterPostBatchWriter;
+
+    private final ShelterProperties shelterProperties;
+
+    @Scheduled(cron = "0 0 4 * * *")
+    public void archiveExpiredShelterPostsCronJob() {
+        LocalDate endDateBefore = LocalDate.now().minusDays(ARCHIVE_AFTER_DAYS);
+        log.info("archiveExpiredShelterPostsCronJob() start, end date before: {}", endDateBefore);
+        int archivedRows = archiveExpiredShelterPosts(endDateBefore);
+        log.info("shelter post archive complete, archived rows: {}", archivedRows);
+    }
+
+    // 청크마다 커밋하므로 중간에 실패해도 옮긴 만큼은 남고, 다음 실행에서 나머지를 옮긴다.
+    public int archiveExpiredShelterPosts(LocalDate endDateBefore) {
+        int chunkSize = shelterProperties.getChunkSize();
+        int archivedRows = 0;
+        int movedRows;
+        do {
+            movedRows = shelterPostBatchWriter.archiveChunk(endDateBefore);
+            archivedRows += movedRows;
+        } while (movedRows == chunkSize);
+        return archivedRows;
+    }
+}
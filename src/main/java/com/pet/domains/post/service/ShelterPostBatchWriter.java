@@ -0,0 +1,99 @@
+package com.pet.domains.post.service;
+
+import com.pet.common.property.ShelterProperties;
+import com.pet.common.version.DataResource;
+import com.pet.common.version.DataVersionRegistry;
+import com.pet.domains.post.domain.ShelterPost;
+import com.pet.domains.post.repository.ShelterPostJdbcRepository;
+import com.pet.domains.post.repository.ShelterPostListingJdbcRepository;
+import com.pet.domains.statistics.domain.FacetDeltas;
+import com.pet.domains.statistics.domain.FacetTarget;
+import com.pet.domains.statistics.service.PostFacetService;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.Validate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ShelterPostBatchWriter {
+
+    private final ShelterPostJdbcRepository shelterPostJdbcRepository;
+
+    private final ShelterPostListingJdbcRepository shelterPostListingJdbcRepository;
+
+    private final PostFacetService postFacetService;
+
+    private final DataVersionRegistry dataVersionRegistry;
+
+    private final ShelterProperties shelterProperties;
+
+    private final EntityManager entityManager;
+
+    @Transactional
+    public int write(List<ShelterPost> shelterPosts) {
+        int chunkSize = shelterProperties.getChunkSize();
+        Validate.isTrue(chunkSize > 0, "chunkSize must be positive");
+
+        int affectedRows = 0;
+        for (int fromIndex = 0; fromIndex < shelterPosts.size(); fromIndex += chunkSize) {
+            List<ShelterPost> chunk = shelterPosts.subList(fromIndex,
+                Math.min(fromIndex + chunkSize, shelterPosts.size()));
+            affectedRows += shelterPostJdbcRepository.upsertAll(chunk);
+            // 청크마다 영속성 컨텍스트를 비워 조회한 품종, 지역 엔티티가 커밋 시점까지 쌓이지 않게 한다.
+            entityManager.clear();
+        }
+        log.debug("write shelter posts size: {}, chunkSize: {}, affected rows: {}", shelterPosts.size(), chunkSize,
+            affectedRows);
+        return affectedRows;
+    }
+
+    // 이미 있는 게시글 중 내용 해시가 달라진 것만 갱신한다. 없는 게시글은 건너뛴다.
+    @Transactional
+    public int updateChanged(List<ShelterPost> shelterPosts) {
+        int chunkSize = shelterProperties.getChunkSize();
+        Validate.isTrue(chunkSize > 0, "chunkSize must be positive");
+
+        int updatedRows = 0;
+        for (int fromIndex = 0; fromIndex < shelterPosts.size(); fromIndex += chunkSize) {
+            List<ShelterPost> chunk = shelterPosts.subList(fromIndex,
+                Math.min(fromIndex + chunkSize, shelterPosts.size()));
+            Map<String, String> contentHashes = shelterPostJdbcRepository.findContentHashesByDesertionNumbers(
+                chunk.stream().map(ShelterPost::getDesertionNumber).collect(Collectors.toList()));
+            List<ShelterPost> changedShelterPosts = chunk.stream()
+                .filter(shelterPost -> contentHashes.containsKey(shelterPost.getDesertionNumber()))
+                .filter(shelterPost -> !shelterPost.calculateContentHash()
+                    .equals(contentHashes.get(shelterPost.getDesertionNumber())))
+                .collect(Collectors.toList());
+            updatedRows += shelterPostJdbcRepository.updateAll(changedShelterPosts);
+            entityManager.clear();
+        }
+        log.debug("refresh shelter posts size: {}, updated rows: {}", shelterPosts.size(), updatedRows);
+        return updatedRows;
+    }
+
+    // 보관 대상 게시글을 chunkSize 만큼 보관 테이블로 옮기고 옮긴 행 수를 돌려준다.
+    @Transactional
+    public int archiveChunk(LocalDate endDateBefore) {
+        int chunkSize = shelterProperties.getChunkSize();
+        Validate.isTrue(chunkSize > 0, "chunkSize must be positive");
+
+        List<Long> archivableIds = shelterPostJdbcRepository.findArchivableIds(endDateBefore, chunkSize);
+        FacetDeltas facetDeltas = new FacetDeltas();
+        shelterPostListingJdbcRepository.collectFacetsByIds(facetDeltas, -1, archivableIds);
+        postFacetService.apply(FacetTarget.SHELTER_POST, facetDeltas);
+        shelterPostListingJdbcRepository.deleteAllByIds(archivableIds);
+        int archivedCount = shelterPostJdbcRepository.archiveAll(archivableIds);
+        if (archivedCount > 0) {
+            dataVersionRegistry.bumpAfterCommit(DataResource.SHELTER_POST);
+        }
+        return archivedCount;
+    }
+}
@@ -1,10 +1,13 @@
 package com.pet.domains.post.service;
 
 import com.pet.common.exception.ExceptionMessage;
+import com.pet.common.version.DataResource;
+import com.pet.common.version.DataVersionRegistry;
 import com.pet.domains.account.domain.Account;
 import com.pet.domains.post.domain.ShelterPost;
 import com.pet.domains.post.domain.ShelterPostBookmark;
 import com.pet.domains.post.repository.ShelterPostBookmarkRepository;
+import com.pet.domains.post.repository.ShelterPostListingJdbcRepository;
 import com.pet.domains.post.repository.ShelterPostRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -19,6 +22,10 @@ public class ShelterPostBookmarkService {
 
     private final ShelterPostRepository shelterPostRepository;
 
+    private final ShelterPostListingJdbcRepository shelterPostListingJdbcRepository;
+
+    private final DataVersionRegistry dataVersionRegistry;
+
     @Transactional
     public void createPostBookmark(Long postId, Account account) {
         ShelterPost foundPost = shelterPostRepository.findById(postId)
@@ -29,11 +36,17 @@ public class ShelterPostBookmarkService {
                 .account(account)
                 .build()
         );
+        shelterPostListingJdbcRepository.addBookmarkCount(postId, 1);
+        dataVersionRegistry.bumpAfterCommit(DataResource.SHELTER_POST, String.valueOf(account.getId()));
     }
 
     @Transactional
     public void deletePostBookmark(Long postId, Account account) {
-        shelterPostBookmarkRepository.deleteByShelterPostIdAndAccount(postId, account);
+        Long deletedCount = shelterPostBookmarkRepository.deleteByShelterPostIdAndAccount(postId, account);
+        if (deletedCount > 0) {
+            shelterPostListingJdbcRepository.addBookmarkCount(postId, -deletedCount);
+            dataVersionRegistry.bumpAfterCommit(DataResource.SHELTER_POST, String.valueOf(account.getId()));
+        }
     }
 
 }
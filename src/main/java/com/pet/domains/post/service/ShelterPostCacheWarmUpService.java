@@ -0,0 +1,65 @@
+package com.pet.domains.post.service;
+
+import com.pet.common.version.DataResource;
+import com.pet.common.version.DataVersionRegistry;
+import com.pet.domains.animal.repository.AnimalRepository;
+import com.pet.domains.area.repository.CityRepository;
+import com.pet.domains.post.dto.response.ShelterPostPageResults;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ShelterPostCacheWarmUpService {
+
+    private static final int TOP_REQUESTED_LIMIT = 50;
+
+    private static final int BATCH_SIZE = 20;
+
+    private final ShelterPostService shelterPostService;
+
+    private final ShelterPostPageCache shelterPostPageCache;
+
+    private final DataVersionRegistry dataVersionRegistry;
+
+    private final CityRepository cityRepository;
+
+    private final AnimalRepository animalRepository;
+
+    // 어제 많이 요청된 필터 조합과 전체, 시도별, 동물별 첫 페이지를 미리 조회해 캐시에 넣는다.
+    // BATCH_SIZE 페이지씩 조회한 뒤 파이프라인 한 번으로 저장하고, 걸린 시간(ms)을 돌려준다.
+    public long warmUp() {
+        long startedAt = System.nanoTime();
+        String version = dataVersionRegistry.getVersion(DataResource.SHELTER_POST);
+        List<ShelterPostPageKey> pageKeys = getWarmUpPageKeys();
+        for (int from = 0; from < pageKeys.size(); from += BATCH_SIZE) {
+            Map<ShelterPostPageKey, ShelterPostPageResults> shelterPostPageResults = new LinkedHashMap<>();
+            for (ShelterPostPageKey pageKey : pageKeys.subList(from, Math.min(from + BATCH_SIZE, pageKeys.size()))) {
+                shelterPostPageResults.put(pageKey, shelterPostService.loadShelterPostsPage(pageKey.toPageable(),
+                    pageKey.toPostSearchParam()));
+            }
+            shelterPostPageCache.putAll(version, shelterPostPageResults);
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        log.info("shelter post cache warm-up complete, pages: {}, elapsed: {}ms", pageKeys.size(), elapsedMillis);
+        return elapsedMillis;
+    }
+
+    private List<ShelterPostPageKey> getWarmUpPageKeys() {
+        Set<ShelterPostPageKey> pageKeys = new LinkedHashSet<>();
+        pageKeys.add(ShelterPostPageKey.firstPage(null, null));
+        pageKeys.addAll(shelterPostPageCache.findTopRequested(TOP_REQUESTED_LIMIT));
+        cityRepository.findAllIds().forEach(cityId -> pageKeys.add(ShelterPostPageKey.firstPage(cityId, null)));
+        animalRepository.findAllIds().forEach(animalId -> pageKeys.add(ShelterPostPageKey.firstPage(null, animalId)));
+        return new ArrayList<>(pageKeys);
+    }
+}
@@ -0,0 +1,60 @@
+package com.pet.domains.post.service;
+
+import com.pet.common.version.DataResource;
+import com.pet.common.version.DataVersionRegistry;
+import com.pet.domains.post.repository.ShelterPostListingJdbcRepository;
+import com.pet.domains.statistics.domain.FacetDeltas;
+import com.pet.domains.statistics.domain.FacetTarget;
+import com.pet.domains.statistics.service.PostFacetService;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ShelterPostListingService {
+
+    private final ShelterPostListingJdbcRepository shelterPostListingJdbcRepository;
+
+    private final PostFacetService postFacetService;
+
+    private final DataVersionRegistry dataVersionRegistry;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    // 두 번의 반영이 같은 기준 시각으로 겹치면 카운터가 두 번 더해지므로 한 번에 하나씩만 반영한다.
+    // 다음 반영이 앞선 반영의 결과를 읽도록 잠금은 트랜잭션 밖에서 잡고 커밋 뒤에 푼다.
+    public int refresh() {
+        refreshLock.lock();
+        try {
+            Integer rebuiltRows = transactionTemplate.execute(status -> refreshListing());
+            return Objects.isNull(rebuiltRows) ? 0 : rebuiltRows;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    // 마지막으로 반영한 시각 이후에 저장된 게시글만 다시 만든다. 목록 테이블이 비어 있으면 전체를 만든다.
+    // 다시 만들기 전후 행의 필터 값별 개수 차이만 카운터에 더한다.
+    private int refreshListing() {
+        LocalDateTime lastSourceUpdatedAt = shelterPostListingJdbcRepository.findLastSourceUpdatedAt();
+        FacetDeltas facetDeltas = new FacetDeltas();
+        shelterPostListingJdbcRepository.collectFacetsUpdatedSince(facetDeltas, -1, lastSourceUpdatedAt);
+        int rebuiltRows = shelterPostListingJdbcRepository.rebuildUpdatedSince(lastSourceUpdatedAt);
+        shelterPostListingJdbcRepository.collectFacetsUpdatedSince(facetDeltas, 1, lastSourceUpdatedAt);
+        postFacetService.apply(FacetTarget.SHELTER_POST, facetDeltas);
+        if (rebuiltRows > 0) {
+            dataVersionRegistry.bumpAfterCommit(DataResource.SHELTER_POST);
+        }
+        log.info("shelter post listing refresh complete, updated since: {}, rebuilt rows: {}", lastSourceUpdatedAt,
+            rebuiltRows);
+        return rebuiltRows;
+    }
+}
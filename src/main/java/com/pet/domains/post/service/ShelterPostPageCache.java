@@ -0,0 +1,22 @@
+package com.pet.domains.post.service;
+
+import com.pet.domains.post.dto.response.ShelterPostPageResults;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// 비로그인 보호소 게시글 목록 페이지 캐시, version 은 DataVersionRegistry 의 보호소 게시글 버전이다.
+public interface ShelterPostPageCache {
+
+    Optional<ShelterPostPageResults> find(String version, ShelterPostPageKey pageKey);
+
+    void put(String version, ShelterPostPageKey pageKey, ShelterPostPageResults shelterPostPageResults);
+
+    // 한 번의 왕복으로 모두 저장한다.
+    void putAll(String version, Map<ShelterPostPageKey, ShelterPostPageResults> shelterPostPageResults);
+
+    void recordRequest(ShelterPostPageKey pageKey);
+
+    // 어제 많이 요청된 순서로 돌려준다.
+    List<ShelterPostPageKey> findTopRequested(int limit);
+}
@@ -0,0 +1,139 @@
+package com.pet.domains.post.service;
+
+import com.pet.domains.post.domain.SexType;
+import com.pet.domains.post.dto.serach.PostSearchParam;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.StringJoiner;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+// 비로그인 보호소 게시글 목록 한 페이지를 가리키는 캐시 키, "city=1,sex=MALE,page=0,size=20" 처럼 문자열로 바꿔 쓴다.
+@Getter
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ShelterPostPageKey {
+
+    // 정렬 파라미터가 없을 때 CustomPageableConfiguration 이 넣는 정렬
+    public static final Sort DEFAULT_SORT = Sort.by("id").descending();
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private static final String DELIMITER = ",";
+
+    private static final String ASSIGNMENT = "=";
+
+    private final Long city;
+
+    private final Long town;
+
+    private final Long animal;
+
+    private final Long animalKind;
+
+    private final SexType sex;
+
+    private final LocalDate start;
+
+    private final LocalDate end;
+
+    private final int page;
+
+    private final int size;
+
+    // 보관 게시글, 기본 정렬이 아닌 요청, 너무 큰 페이지는 캐시하지 않는다.
+    public static Optional<ShelterPostPageKey> of(Pageable pageable, PostSearchParam postSearchParam) {
+        if (postSearchParam.isArchived()
+            || !DEFAULT_SORT.equals(pageable.getSort())
+            || pageable.getPageSize() > MAX_PAGE_SIZE) {
+            return Optional.empty();
+        }
+        return Optional.of(new ShelterPostPageKey(postSearchParam.getCity(), postSearchParam.getTown(),
+            postSearchParam.getAnimal(), postSearchParam.getAnimalKind(), postSearchParam.getSex(),
+            postSearchParam.getStart(), postSearchParam.getEnd(), pageable.getPageNumber(), pageable.getPageSize()));
+    }
+
+    public static ShelterPostPageKey firstPage(Long city, Long animal) {
+        return new ShelterPostPageKey(city, null, animal, null, null, null, null, 0, DEFAULT_PAGE_SIZE);
+    }
+
+    // 요청 기록에서 읽은 값이라 형식이 맞지 않으면 비어 있는 값을 돌려준다.
+    public static Optional<ShelterPostPageKey> parse(String value) {
+        Map<String, String> fields = new HashMap<>();
+        for (String field : value.split(DELIMITER)) {
+            String[] nameAndValue = field.split(ASSIGNMENT, 2);
+            if (nameAndValue.length != 2) {
+                return Optional.empty();
+            }
+            fields.put(nameAndValue[0], nameAndValue[1]);
+        }
+        try {
+            return Optional.of(new ShelterPostPageKey(
+                toLong(fields.get("city")),
+                toLong(fields.get("town")),
+                toLong(fields.get("animal")),
+                toLong(fields.get("animalKind")),
+                Objects.isNull(fields.get("sex")) ? null : SexType.valueOf(fields.get("sex")),
+                toLocalDate(fields.get("start")),
+                toLocalDate(fields.get("end")),
+                Integer.parseInt(fields.get("page")),
+                Integer.parseInt(fields.get("size"))));
+        } catch (RuntimeException exception) {
+            return Optional.empty();
+        }
+    }
+
+    public String getValue() {
+        StringJoiner stringJoiner = new StringJoiner(DELIMITER);
+        addField(stringJoiner, "city", city);
+        addField(stringJoiner, "town", town);
+        addField(stringJoiner, "animal", animal);
+        addField(stringJoiner, "animalKind", animalKind);
+        addField(stringJoiner, "sex", sex);
+        addField(stringJoiner, "start", start);
+        addField(stringJoiner, "end", end);
+        addField(stringJoiner, "page", page);
+        addField(stringJoiner, "size", size);
+        return stringJoiner.toString();
+    }
+
+    public Pageable toPageable() {
+        return PageRequest.of(page, size, DEFAULT_SORT);
+    }
+
+    public PostSearchParam toPostSearchParam() {
+        return PostSearchParam.builder()
+            .city(city)
+            .town(town)
+            .animal(animal)
+            .animalKind(animalKind)
+            .sex(sex)
+            .start(start)
+            .end(end)
+            .build();
+    }
+
+    private static void addField(StringJoiner stringJoiner, String name, Object value) {
+        if (Objects.nonNull(value)) {
+            stringJoiner.add(name + ASSIGNMENT + value);
+        }
+    }
+
+    private static Long toLong(String value) {
+        return Objects.isNull(value) ? null : Long.valueOf(value);
+    }
+
+    private static LocalDate toLocalDate(String value) {
+        return Objects.isNull(value) ? null : LocalDate.parse(value);
+    }
+}
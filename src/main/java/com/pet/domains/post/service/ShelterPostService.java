@@ -1,21 +1,33 @@
 package com.pet.domains.post.service;
 
 import com.pet.common.exception.ExceptionMessage;
+import com.pet.common.version.DataResource;
+import com.pet.common.version.DataVersionRegistry;
 import com.pet.domains.account.domain.Account;
 import com.pet.domains.account.dto.response.AccountBookmarkPostPageResults;
-import com.pet.domains.animal.domain.AnimalKind;
+import com.pet.domains.animal.service.AnimalKindDictionary;
 import com.pet.domains.animal.service.AnimalKindService;
-import com.pet.domains.area.domain.Town;
-import com.pet.domains.area.service.TownService;
+import com.pet.domains.area.service.TownAddressResolver;
 import com.pet.domains.post.domain.ShelterPost;
+import com.pet.domains.post.domain.ShelterPostArchive;
+import com.pet.domains.post.domain.ShelterPostListing;
 import com.pet.domains.post.dto.request.ShelterPostCreateParams;
 import com.pet.domains.post.dto.response.ShelterPostPageResults;
 import com.pet.domains.post.dto.response.ShelterPostReadResult;
 import com.pet.domains.post.dto.serach.PostSearchParam;
+import com.pet.domains.post.dto.serach.ShelterPostCursor;
 import com.pet.domains.post.mapper.ShelterPostMapper;
+import com.pet.domains.post.repository.ShelterPostArchiveRepository;
+import com.pet.domains.post.repository.ShelterPostListingRepository;
 import com.pet.domains.post.repository.ShelterPostRepository;
 import com.pet.domains.post.repository.projection.ShelterPostWithFetch;
 import com.pet.domains.post.repository.projection.ShelterPostWithIsBookmark;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -32,12 +44,22 @@ public class ShelterPostService {
 
     private final ShelterPostRepository shelterPostRepository;
 
+    private final ShelterPostArchiveRepository shelterPostArchiveRepository;
+
+    private final ShelterPostListingRepository shelterPostListingRepository;
+
+    private final ShelterPostBatchWriter shelterPostBatchWriter;
+
     private final AnimalKindService animalKindService;
 
-    private final TownService townService;
+    private final TownAddressResolver townAddressResolver;
 
     private final ShelterPostMapper shelterPostMapper;
 
+    private final ShelterPostPageCache shelterPostPageCache;
+
+    private final DataVersionRegistry dataVersionRegistry;
+
     public ShelterPostPageResults getShelterPostsPageWithAccount(
         Account account,
         Pageable pageable,
@@ -48,52 +70,152 @@ public class ShelterPostService {
         return shelterPostMapper.toShelterPostPageResultsWithAccount(pageResult);
     }
 
+    // 기본 정렬의 비로그인 목록은 데이터 버전별로 캐시하고, 요청된 필터 조합을 warm-up 용으로 기록한다.
     public ShelterPostPageResults getShelterPostsPage(Pageable pageable, PostSearchParam postSearchParam) {
-        Page<ShelterPost> pageResult = shelterPostRepository.findAllWithFetch(pageable, postSearchParam);
-        return shelterPostMapper.toShelterPostPageResults(pageResult);
+        Optional<ShelterPostPageKey> pageKey = ShelterPostPageKey.of(pageable, postSearchParam);
+        if (pageKey.isEmpty()) {
+            return loadShelterPostsPage(pageable, postSearchParam);
+        }
+        shelterPostPageCache.recordRequest(pageKey.get());
+        String version = dataVersionRegistry.getVersion(DataResource.SHELTER_POST);
+        return shelterPostPageCache.find(version, pageKey.get())
+            .orElseGet(() -> {
+                ShelterPostPageResults shelterPostPageResults = loadShelterPostsPage(pageable, postSearchParam);
+                shelterPostPageCache.put(version, pageKey.get(), shelterPostPageResults);
+                return shelterPostPageResults;
+            });
     }
 
-    public ShelterPostReadResult getShelterPostReadResultWithAccount(Account account, Long postId) {
-        ShelterPostWithIsBookmark postWithIsBookmark = shelterPostRepository.findByIdWithIsBookmark(account, postId)
-            .orElseThrow(ExceptionMessage.NOT_FOUND_SHELTER_POST::getException);
+    // 비로그인 목록은 조인 없이 shelter_post_listing 에서 읽는다. 동기화가 끝난 뒤에 반영되므로 잠깐 늦을 수 있다.
+    public ShelterPostPageResults loadShelterPostsPage(Pageable pageable, PostSearchParam postSearchParam) {
+        Page<ShelterPostListing> pageResult = shelterPostListingRepository.findAllBySearchParam(pageable,
+            postSearchParam);
+        return shelterPostMapper.toShelterPostListingPageResults(pageResult);
+    }
 
-        return shelterPostMapper.toShelterPostReadResult(
-            postWithIsBookmark.getShelterPost(),
-            postWithIsBookmark.getAnimalKind(),
-            postWithIsBookmark.getAnimal(),
-            postWithIsBookmark.getTown(),
-            postWithIsBookmark.getCity(),
-            postWithIsBookmark.isBookmark()
-        );
+    // 첫 페이지에서만 전체 개수를 세고, 이후 페이지는 커서에 담긴 값을 그대로 쓴다.
+    public ShelterPostPageResults getShelterPostsByCursor(
+        Account account,
+        String cursor,
+        int size,
+        PostSearchParam postSearchParam
+    ) {
+        boolean foundDateOrder = Objects.nonNull(postSearchParam.getStart());
+        ShelterPostCursor shelterPostCursor = ShelterPostCursor.decode(cursor, foundDateOrder);
+        long totalElements = shelterPostCursor.isFirst()
+            ? shelterPostRepository.countBySearchParam(postSearchParam)
+            : shelterPostCursor.getTotalElements();
+
+        List<ShelterPostPageResults.ShelterPost> shelterPosts = getShelterPostsAfterCursor(account, shelterPostCursor,
+            size + 1, postSearchParam);
+        boolean last = shelterPosts.size() <= size;
+        if (!last) {
+            shelterPosts = shelterPosts.subList(0, size);
+        }
+        String nextCursor = last ? null : ShelterPostCursor.next(
+            shelterPosts.get(size - 1).getId(),
+            foundDateOrder ? shelterPosts.get(size - 1).getFoundDate() : null,
+            totalElements
+        ).encode();
+        return ShelterPostPageResults.of(shelterPosts, totalElements, last, size, nextCursor);
     }
 
-    public ShelterPostReadResult getShelterPostReadResult(Long postId) {
-        return shelterPostMapper.toShelterPostReadResult(getShelterPostWithFetch(postId));
+    private List<ShelterPostPageResults.ShelterPost> getShelterPostsAfterCursor(
+        Account account,
+        ShelterPostCursor shelterPostCursor,
+        int limit,
+        PostSearchParam postSearchParam
+    ) {
+        if (Objects.nonNull(account)) {
+            return shelterPostRepository.findAllWithIsBookmarkByCursor(account, shelterPostCursor, limit,
+                    postSearchParam).stream()
+                .map(postWithIsBookmark -> shelterPostMapper.toShelterPagePostDto(
+                    postWithIsBookmark.getShelterPost(),
+                    postWithIsBookmark.getAnimalKind(),
+                    postWithIsBookmark.getAnimal(),
+                    postWithIsBookmark.getTown(),
+                    postWithIsBookmark.getCity(),
+                    postWithIsBookmark.isBookmark()))
+                .collect(Collectors.toList());
+        }
+        return shelterPostRepository.findAllWithFetchByCursor(shelterPostCursor, limit, postSearchParam).stream()
+            .map(shelterPostMapper::toShelterPagePostDto)
+            .collect(Collectors.toList());
     }
 
-    @Transactional
-    public void bulkCreateShelterPost(ShelterPostCreateParams shelterPostCreateParams) {
-        shelterPostRepository.saveAll(shelterPostCreateParams.getShelterPosts().stream()
-            .map(createParam -> shelterPostMapper.toEntity(
-                createParam,
-                getAnimalKind(createParam.getAnimalKindNameFromKindCd()),
-                getTown(createParam.getCityNameFromAddress(), createParam.getTownNameFromAddress())
-            )).collect(Collectors.toList()));
+    public ShelterPostPageResults getArchivedShelterPostsPage(Pageable pageable, PostSearchParam postSearchParam) {
+        Page<ShelterPostArchive> pageResult = shelterPostArchiveRepository.findAllWithFetch(pageable,
+            postSearchParam);
+        return shelterPostMapper.toShelterPostArchivePageResults(pageResult);
+    }
+
+    public ShelterPostReadResult getShelterPostReadResultWithAccount(Account account, Long postId) {
+        return shelterPostRepository.findByIdWithIsBookmark(account, postId)
+            .map(postWithIsBookmark -> shelterPostMapper.toShelterPostReadResult(
+                postWithIsBookmark.getShelterPost(),
+                postWithIsBookmark.getAnimalKind(),
+                postWithIsBookmark.getAnimal(),
+                postWithIsBookmark.getTown(),
+                postWithIsBookmark.getCity(),
+                postWithIsBookmark.isBookmark()
+            ))
+            .orElseGet(() -> getArchivedShelterPostReadResult(postId));
     }
 
-    private ShelterPost getShelterPostWithFetch(Long postId) {
+    public ShelterPostReadResult getShelterPostReadResult(Long postId) {
         return shelterPostRepository.findByIdWithFetch(postId)
+            .map(shelterPostMapper::toShelterPostReadResult)
+            .orElseGet(() -> getArchivedShelterPostReadResult(postId));
+    }
+
+    // 목록에서 빠진 보관 게시글도 상세 링크로는 계속 볼 수 있게 한다. 보관 게시글은 북마크가 없다.
+    private ShelterPostReadResult getArchivedShelterPostReadResult(Long postId) {
+        return shelterPostArchiveRepository.findByIdWithFetch(postId)
+            .map(shelterPostMapper::toShelterPostArchiveReadResult)
             .orElseThrow(ExceptionMessage.NOT_FOUND_SHELTER_POST::getException);
     }
 
-    private AnimalKind getAnimalKind(String animalKindName) {
-        log.debug("animalKindName: {}", animalKindName);
-        return animalKindService.getOrCreateAnimalKindByEtcAnimal(animalKindName);
+    @Transactional
+    public void bulkCreateShelterPost(
+        List<ShelterPostCreateParams.ShelterPost> createParams,
+        AnimalKindDictionary animalKindDictionary
+    ) {
+        shelterPostBatchWriter.write(toShelterPosts(createParams, animalKindDictionary));
     }
 
-    private Town getTown(String cityName, String townName) {
-        log.debug("cityName: {}, townName: {}", cityName, townName);
-        return townService.getOrCreateTownByName(cityName, townName);
+    @Transactional
+    public int refreshShelterPosts(
+        List<ShelterPostCreateParams.ShelterPost> createParams,
+        AnimalKindDictionary animalKindDictionary
+    ) {
+        return shelterPostBatchWriter.updateChanged(toShelterPosts(createParams, animalKindDictionary));
+    }
+
+    private List<ShelterPost> toShelterPosts(
+        List<ShelterPostCreateParams.ShelterPost> createParams,
+        AnimalKindDictionary animalKindDictionary
+    ) {
+        animalKindService.createMissingAnimalKindsByEtcAnimal(animalKindDictionary, createParams.stream()
+            .map(ShelterPostCreateParams.ShelterPost::getAnimalKindNameFromKindCd)
+            .collect(Collectors.toSet()));
+
+        List<ShelterPost> shelterPosts = new ArrayList<>(createParams.size());
+        Set<String> unresolvedAddresses = new LinkedHashSet<>();
+        createParams.forEach(createParam -> townAddressResolver.resolve(createParam.getAddress())
+            .ifPresentOrElse(
+                town -> shelterPosts.add(shelterPostMapper.toEntity(
+                    createParam,
+                    animalKindDictionary.getByName(createParam.getAnimalKindNameFromKindCd()),
+                    town
+                )),
+                () -> unresolvedAddresses.add(createParam.getAddress())
+            ));
+        if (!unresolvedAddresses.isEmpty()) {
+            // 지역을 찾지 못한 게시글은 임의의 시/군/구를 만들지 않고 건너뛴다.
+            log.warn("skip shelter posts with unresolved address, skipped: {}, addresses: {}",
+                createParams.size() - shelterPosts.size(), unresolvedAddresses);
+        }
+        return shelterPosts;
     }
 
     public AccountBookmarkPostPageResults getBookmarksThumbnailsByAccount(Account account, Pageable pageable) {
@@ -0,0 +1,254 @@
+package com.pet.domains.post.service;
+
+import com.pet.common.exception.ExceptionMessage;
+import com.pet.common.property.ShelterProperties;
+import com.pet.domains.animal.service.AnimalKindDictionary;
+import com.pet.domains.animal.service.AnimalKindService;
+import com.pet.domains.post.dto.response.ShelterApiPageChunk;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ShelterPostSyncService {
+
+    private static final DateTimeFormatter API_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private static final long FIRST_PAGE_NUMBER = 1;
+
+    private static final long RESUME_DAYS = 7;
+
+    private static final long MAX_BACKFILL_DAYS = 31;
+
+    private static final long REFRESH_WINDOW_DAYS = 30;
+
+    private final ShelterApiService shelterApiService;
+
+    private final ShelterPostService shelterPostService;
+
+    private final ShelterSyncStateService shelterSyncStateService;
+
+    private final ShelterPostListingService shelterPostListingService;
+
+    private final ShelterPostCacheWarmUpService shelterPostCacheWarmUpService;
+
+    private final AnimalKindService animalKindService;
+
+    private final ShelterProperties shelterProperties;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Scheduled(cron = "0 0 5 * * *")
+    public void shelterPostDailyCronJob() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        log.info("shelterPostDailyCronJob() start, sync date: {}", yesterday);
+
+        List<LocalDate> syncDates = getDailySyncDates(yesterday);
+        sync(syncDates).subscribe(null, exception -> log.error("shelter post sync failed, dates: {} ~ {}",
+            syncDates.get(0), yesterday, exception));
+    }
+
+    // 지난 실행에서 끝내지 못한 날짜는 남은 페이지부터 이어서 받는다.
+    // 진행 기록을 하나도 남기지 못하고 실패한 날짜도 다시 받도록 기간 안의 날짜를 모두 본다.
+    List<LocalDate> getDailySyncDates(LocalDate yesterday) {
+        Map<LocalDate, ShelterSyncProgress> progressesBySyncDate = shelterSyncStateService
+            .getProgresses(yesterday.minusDays(RESUME_DAYS), yesterday.minusDays(1)).stream()
+            .collect(Collectors.toMap(ShelterSyncProgress::getSyncDate, Function.identity()));
+        return yesterday.minusDays(RESUME_DAYS).datesUntil(yesterday.plusDays(1))
+            .filter(syncDate -> syncDate.equals(yesterday) || !isFinished(progressesBySyncDate.get(syncDate)))
+            .collect(Collectors.toList());
+    }
+
+    public void backfill(LocalDate start, LocalDate end) {
+        validateBackfillPeriod(start, end);
+        if (!running.compareAndSet(false, true)) {
+            throw ExceptionMessage.SHELTER_SYNC_ALREADY_RUNNING.getException();
+        }
+        log.info("shelter post backfill start, {} ~ {}", start, end);
+        syncDates(start.datesUntil(end.plusDays(1)).collect(Collectors.toList()))
+            .doFinally(signal -> running.set(false))
+            .subscribe(null, exception -> log.error("shelter post backfill failed, {} ~ {}", start, end, exception));
+    }
+
+    public Mono<Void> sync(List<LocalDate> syncDates) {
+        return runExclusively("shelter post sync", () -> syncDates(syncDates));
+    }
+
+    // 날짜마다 첫 페이지를 먼저 받아 전체 페이지 수를 알아낸 뒤 나머지 페이지를 한꺼번에 받는다.
+    // 두 단계 모두 shelter.batch.concurrency 만큼만 동시에 요청한다.
+    private Mono<Void> syncDates(List<LocalDate> syncDates) {
+        return Mono.defer(() -> {
+            AnimalKindDictionary animalKindDictionary = animalKindService.getAnimalKindDictionary();
+            int concurrency = shelterProperties.getConcurrency();
+            return Flux.fromIterable(syncDates)
+                .flatMap(syncDate -> getRemainingPages(syncDate, animalKindDictionary), concurrency)
+                .collectList()
+                .flatMapMany(Flux::fromIterable)
+                .flatMap(page -> syncPage(page.getT1(), page.getT2(), animalKindDictionary), concurrency)
+                .then(refreshListing())
+                .then(warmUpCache())
+                .doOnSuccess(ignored -> log.info("shelter post sync complete, dates: {}", syncDates))
+                .doFinally(signal -> animalKindService.evictAnimalsCacheIfChanged(animalKindDictionary));
+        });
+    }
+
+    // 공고가 아직 유효할 수 있는 기간을 다시 받아 입양, 반환, 공고 종료 등 바뀐 게시글만 갱신한다.
+    @Scheduled(cron = "0 30 */6 * * *")
+    public void refreshActiveShelterPosts() {
+        LocalDate end = LocalDate.now();
+        LocalDate start = end.minusDays(REFRESH_WINDOW_DAYS);
+        log.info("refreshActiveShelterPosts() start, {} ~ {}", start, end);
+        refresh(start, end).subscribe(
+            updatedRows -> log.info("shelter post refresh complete, updated rows: {}", updatedRows),
+            exception -> log.error("shelter post refresh failed, {} ~ {}", start, end, exception));
+    }
+
+    public Mono<Integer> refresh(LocalDate start, LocalDate end) {
+        return runExclusively("shelter post refresh", () -> {
+            AnimalKindDictionary animalKindDictionary = animalKindService.getAnimalKindDictionary();
+            String startDate = start.format(API_DATE_FORMATTER);
+            String endDate = end.format(API_DATE_FORMATTER);
+            return refreshPage(startDate, endDate, FIRST_PAGE_NUMBER, animalKindDictionary)
+                .flatMap(firstPage -> Flux.fromStream(
+                        LongStream.rangeClosed(FIRST_PAGE_NUMBER + 1, getLastPageNumber(firstPage.getT1())).boxed())
+                    .flatMap(pageNumber -> refreshPage(startDate, endDate, pageNumber, animalKindDictionary),
+                        shelterProperties.getConcurrency())
+                    .map(Tuple2::getT2)
+                    .reduce(firstPage.getT2(), Integer::sum))
+                .flatMap(updatedRows -> refreshListing().then(warmUpCache()).thenReturn(updatedRows))
+                .doFinally(signal -> animalKindService.evictAnimalsCacheIfChanged(animalKindDictionary));
+        });
+    }
+
+    // 동기화, 갱신, 백필은 서버마다 한 번에 하나만 돌려 보호소 API 로 나가는 동시 요청이 concurrency 를 넘지 않게 한다.
+    // 겹쳐 들어온 예약 작업은 기다리지 않고 건너뛴다.
+    private <T> Mono<T> runExclusively(String jobName, Supplier<Mono<T>> job) {
+        return Mono.defer(() -> {
+            if (!running.compareAndSet(false, true)) {
+                log.warn("{} skipped, another shelter post sync is running", jobName);
+                return Mono.empty();
+            }
+            return Mono.defer(job).doFinally(signal -> running.set(false));
+        });
+    }
+
+    // 페이지 저장이 모두 끝난 뒤 한 번만 목록 테이블에 반영한다.
+    private Mono<Void> refreshListing() {
+        return Mono.fromRunnable(shelterPostListingService::refresh)
+            .subscribeOn(Schedulers.boundedElastic())
+            .onErrorResume(exception -> {
+                log.warn("shelter post listing refresh failed", exception);
+                return Mono.empty();
+            })
+            .then();
+    }
+
+    // 목록 테이블이 바뀌면 데이터 버전도 바뀌어 캐시가 비므로, 첫 사용자 대신 많이 쓰는 페이지를 미리 채운다.
+    private Mono<Void> warmUpCache() {
+        return Mono.fromRunnable(shelterPostCacheWarmUpService::warmUp)
+            .subscribeOn(Schedulers.boundedElastic())
+            .onErrorResume(exception -> {
+                log.warn("shelter post cache warm-up failed", exception);
+                return Mono.empty();
+            })
+            .then();
+    }
+
+    // (totalCount, 갱신된 행 수)
+    private Mono<Tuple2<Long, Integer>> refreshPage(
+        String start,
+        String end,
+        long pageNumber,
+        AnimalKindDictionary animalKindDictionary
+    ) {
+        return shelterApiService.getShelterApiPageChunks(start, end, pageNumber)
+            .publishOn(Schedulers.boundedElastic())
+            .map(chunk -> Tuples.of(
+                Objects.requireNonNullElse(chunk.getTotalCount(), 0L),
+                shelterPostService.refreshShelterPosts(chunk.getShelterPosts(), animalKindDictionary)))
+            .reduce((previous, next) -> Tuples.of(next.getT1(), previous.getT2() + next.getT2()))
+            .onErrorResume(exception -> {
+                log.warn("shelter post refresh failed, {} ~ {}, page: {}", start, end, pageNumber, exception);
+                return Mono.empty();
+            });
+    }
+
+    private Flux<Tuple2<LocalDate, Long>> getRemainingPages(
+        LocalDate syncDate,
+        AnimalKindDictionary animalKindDictionary
+    ) {
+        return Mono.fromCallable(() -> shelterSyncStateService.getProgress(syncDate))
+            .subscribeOn(Schedulers.boundedElastic())
+            .flatMapMany(progress -> progress.findTotalCount()
+                .map(Mono::just)
+                .orElseGet(() -> syncPage(syncDate, FIRST_PAGE_NUMBER, animalKindDictionary))
+                .flatMapMany(totalCount -> Flux.fromStream(
+                    LongStream.rangeClosed(FIRST_PAGE_NUMBER + 1, getLastPageNumber(totalCount)).boxed()))
+                .filter(pageNumber -> !progress.isCompleted(pageNumber))
+                .map(pageNumber -> Tuples.of(syncDate, pageNumber)));
+    }
+
+    // 페이지를 모두 저장한 뒤에 체크포인트를 남기므로, 중간에 죽으면 그 페이지는 다음 실행에서 다시 upsert 된다.
+    private Mono<Long> syncPage(LocalDate syncDate, long pageNumber, AnimalKindDictionary animalKindDictionary) {
+        String date = syncDate.format(API_DATE_FORMATTER);
+        return shelterApiService.getShelterApiPageChunks(date, date, pageNumber)
+            .publishOn(Schedulers.boundedElastic())
+            .doOnNext(chunk -> shelterPostService.bulkCreateShelterPost(chunk.getShelterPosts(), animalKindDictionary))
+            .last()
+            .map(ShelterApiPageChunk::getTotalCount)
+            .doOnNext(totalCount -> shelterSyncStateService.complete(syncDate, pageNumber, totalCount))
+            .onErrorResume(exception -> {
+                log.warn("shelter post sync failed, date: {}, page: {}", syncDate, pageNumber, exception);
+                shelterSyncStateService.fail(syncDate, pageNumber);
+                return Mono.empty();
+            });
+    }
+
+    // 보관 기준일보다 전에 접수된 게시글은 이미 보관 테이블로 옮겨졌을 수 있어 다시 받지 않는다.
+    // 공고 종료일은 접수일보다 늦으므로 기준일 이후 접수된 게시글은 아직 보관되지 않았다.
+    private void validateBackfillPeriod(LocalDate start, LocalDate end) {
+        LocalDate today = LocalDate.now();
+        if (start.isAfter(end)
+            || !end.isBefore(today)
+            || start.isBefore(today.minusDays(ShelterPostArchiveService.ARCHIVE_AFTER_DAYS))
+            || ChronoUnit.DAYS.between(start, end) >= MAX_BACKFILL_DAYS) {
+            throw ExceptionMessage.INVALID_SHELTER_SYNC_PERIOD.getException();
+        }
+    }
+
+    private boolean isFinished(ShelterSyncProgress progress) {
+        return Objects.nonNull(progress)
+            && progress.isFinished(getLastPageNumber(progress.findTotalCount().orElse(0L)));
+    }
+
+    private long getLastPageNumber(long totalCount) {
+        long lastPageNumber = (totalCount / ShelterApiService.NUM_OF_ROWS);
+        if (hasRemainder(totalCount) || lastPageNumber == 0) {
+            lastPageNumber++;
+        }
+        return lastPageNumber;
+    }
+
+    private boolean hasRemainder(long divided) {
+        return (divided % ShelterApiService.NUM_OF_ROWS) != 0;
+    }
+}
@@ -0,0 +1,146 @@
+package com.pet.domains.post.service;
+
+import com.pet.domains.post.dto.request.ShelterPostCreateParams;
+import com.pet.domains.post.dto.response.ShelterApiPageChunk;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.events.XMLEvent;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.codec.xml.XmlEventDecoder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.xml.StaxUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SynchronousSink;
+
+// 보호소 게시글 api 응답을 item 단위로 읽어 chunkSize 만큼씩 내보낸다.
+// aalto-xml 이 있으면 XmlEventDecoder 가 DataBuffer 를 이어 붙이지 않고 들어오는 대로 파싱한다.
+@Component
+public class ShelterPostXmlDecoder {
+
+    private static final String ITEM = "item";
+
+    private static final String TOTAL_COUNT = "totalCount";
+
+    private final XmlEventDecoder xmlEventDecoder = new XmlEventDecoder();
+
+    private final JAXBContext jaxbContext;
+
+    public ShelterPostXmlDecoder() {
+        try {
+            this.jaxbContext = JAXBContext.newInstance(ShelterPostCreateParams.ShelterPost.class);
+        } catch (JAXBException exception) {
+            throw new IllegalStateException("보호소 게시글 JAXBContext 생성에 실패했습니다.", exception);
+        }
+    }
+
+    public Flux<ShelterApiPageChunk> decode(Flux<DataBuffer> dataBuffers, int chunkSize) {
+        Validate.isTrue(chunkSize > 0, "chunkSize must be positive");
+
+        return Flux.defer(() -> {
+            PageSplitter pageSplitter = new PageSplitter(createUnmarshaller(), chunkSize);
+            return xmlEventDecoder
+                .decode(dataBuffers, ResolvableType.forClass(XMLEvent.class), null, Collections.emptyMap())
+                .handle(pageSplitter::next)
+                .concatWith(Mono.fromSupplier(pageSplitter::complete));
+        });
+    }
+
+    private Unmarshaller createUnmarshaller() {
+        try {
+            return jaxbContext.createUnmarshaller();
+        } catch (JAXBException exception) {
+            throw new DecodingException("보호소 게시글 Unmarshaller 생성에 실패했습니다.", exception);
+        }
+    }
+
+    // 한 번의 구독 동안만 쓰이는 상태, 이벤트는 순서대로 하나씩 들어온다.
+    private static class PageSplitter {
+
+        private final Unmarshaller unmarshaller;
+
+        private final int chunkSize;
+
+        private List<ShelterPostCreateParams.ShelterPost> shelterPosts;
+
+        private List<XMLEvent> itemEvents;
+
+        private int itemDepth;
+
+        private StringBuilder totalCount;
+
+        private Long parsedTotalCount;
+
+        PageSplitter(Unmarshaller unmarshaller, int chunkSize) {
+            this.unmarshaller = unmarshaller;
+            this.chunkSize = chunkSize;
+            this.shelterPosts = new ArrayList<>(chunkSize);
+        }
+
+        void next(XMLEvent event, SynchronousSink<ShelterApiPageChunk> sink) {
+            if (Objects.nonNull(itemEvents)) {
+                collectItemEvent(event, sink);
+                return;
+            }
+            if (event.isStartElement()) {
+                String name = event.asStartElement().getName().getLocalPart();
+                if (ITEM.equals(name)) {
+                    itemEvents = new ArrayList<>();
+                    itemDepth = 1;
+                    itemEvents.add(event);
+                } else if (TOTAL_COUNT.equals(name)) {
+                    totalCount = new StringBuilder();
+                }
+            } else if (event.isCharacters() && Objects.nonNull(totalCount)) {
+                totalCount.append(event.asCharacters().getData());
+            } else if (event.isEndElement() && Objects.nonNull(totalCount)) {
+                parsedTotalCount = Long.valueOf(StringUtils.strip(totalCount.toString()));
+                totalCount = null;
+            }
+        }
+
+        ShelterApiPageChunk complete() {
+            if (Objects.isNull(parsedTotalCount)) {
+                throw new DecodingException("보호소 게시글 api 응답에 totalCount 가 없습니다.");
+            }
+            return ShelterApiPageChunk.last(shelterPosts, parsedTotalCount);
+        }
+
+        private void collectItemEvent(XMLEvent event, SynchronousSink<ShelterApiPageChunk> sink) {
+            itemEvents.add(event);
+            if (event.isStartElement()) {
+                itemDepth++;
+            } else if (event.isEndElement()) {
+                itemDepth--;
+            }
+            if (itemDepth > 0) {
+                return;
+            }
+            shelterPosts.add(unmarshal(itemEvents));
+            itemEvents = null;
+            if (shelterPosts.size() == chunkSize) {
+                sink.next(ShelterApiPageChunk.of(shelterPosts));
+                shelterPosts = new ArrayList<>(chunkSize);
+            }
+        }
+
+        private ShelterPostCreateParams.ShelterPost unmarshal(List<XMLEvent> events) {
+            try {
+                return unmarshaller
+                    .unmarshal(StaxUtils.createXMLEventReader(events), ShelterPostCreateParams.ShelterPost.class)
+                    .getValue();
+            } catch (JAXBException exception) {
+                throw new DecodingException("보호소 게시글 item 변환에 실패했습니다.", exception);
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.pet.domains.post.service;
+
+import com.pet.domains.post.domain.ShelterSyncState;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ShelterSyncProgress {
+
+    private static final long FIRST_PAGE_NUMBER = 1;
+
+    private final LocalDate syncDate;
+
+    // 첫 페이지를 받은 뒤에만 알 수 있다.
+    private final Long totalCount;
+
+    private final Set<Long> completedPageNumbers;
+
+    public static ShelterSyncProgress of(LocalDate syncDate, List<ShelterSyncState> shelterSyncStates) {
+        Set<Long> completedPageNumbers = shelterSyncStates.stream()
+            .filter(ShelterSyncState::isCompleted)
+            .map(ShelterSyncState::getPageNumber)
+            .collect(Collectors.toSet());
+        Long totalCount = shelterSyncStates.stream()
+            .filter(ShelterSyncState::isCompleted)
+            .filter(shelterSyncState -> shelterSyncState.getPageNumber() == FIRST_PAGE_NUMBER)
+            .map(ShelterSyncState::getTotalCount)
+            .findFirst()
+            .orElse(null);
+        return new ShelterSyncProgress(syncDate, totalCount, completedPageNumbers);
+    }
+
+    public Optional<Long> findTotalCount() {
+        return Optional.ofNullable(totalCount);
+    }
+
+    public boolean isCompleted(long pageNumber) {
+        return completedPageNumbers.contains(pageNumber);
+    }
+
+    public boolean isFinished(long lastPageNumber) {
+        return Objects.nonNull(totalCount) && completedPageNumbers.size() >= lastPageNumber;
+    }
+}
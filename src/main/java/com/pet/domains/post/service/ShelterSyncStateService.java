@@ -0,0 +1,60 @@
+package com.pet.domains.post.service;
+
+import com.pet.domains.post.domain.ShelterSyncState;
+import com.pet.domains.post.domain.ShelterSyncStatus;
+import com.pet.domains.post.repository.ShelterSyncStateRepository;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Service
+public class ShelterSyncStateService {
+
+    private final ShelterSyncStateRepository shelterSyncStateRepository;
+
+    public ShelterSyncProgress getProgress(LocalDate syncDate) {
+        return ShelterSyncProgress.of(syncDate, shelterSyncStateRepository.findAllBySyncDate(syncDate));
+    }
+
+    public List<ShelterSyncProgress> getProgresses(LocalDate start, LocalDate end) {
+        return shelterSyncStateRepository.findAllBySyncDateBetween(start, end).stream()
+            .collect(Collectors.groupingBy(ShelterSyncState::getSyncDate))
+            .entrySet().stream()
+            .map(entry -> ShelterSyncProgress.of(entry.getKey(), entry.getValue()))
+            .sorted(Comparator.comparing(ShelterSyncProgress::getSyncDate))
+            .collect(Collectors.toList());
+    }
+
+    @Transactional
+    public void complete(LocalDate syncDate, long pageNumber, long totalCount) {
+        shelterSyncStateRepository.findBySyncDateAndPageNumber(syncDate, pageNumber)
+            .ifPresentOrElse(
+                shelterSyncState -> shelterSyncState.complete(totalCount),
+                () -> shelterSyncStateRepository.save(ShelterSyncState.builder()
+                    .syncDate(syncDate)
+                    .pageNumber(pageNumber)
+                    .totalCount(totalCount)
+                    .status(ShelterSyncStatus.COMPLETED)
+                    .build())
+            );
+    }
+
+    @Transactional
+    public void fail(LocalDate syncDate, long pageNumber) {
+        shelterSyncStateRepository.findBySyncDateAndPageNumber(syncDate, pageNumber)
+            .ifPresentOrElse(
+                ShelterSyncState::fail,
+                () -> shelterSyncStateRepository.save(ShelterSyncState.builder()
+                    .syncDate(syncDate)
+                    .pageNumber(pageNumber)
+                    .status(ShelterSyncStatus.FAILED)
+                    .build())
+            );
+    }
+}
@@ -0,0 +1,27 @@
+package com.pet.domains.statistics.controller;
+
+import com.pet.common.response.ApiResponse;
+import com.pet.domains.statistics.dto.response.CacheStatisticsReadResults;
+import com.pet.domains.statistics.service.CacheStatisticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/caches")
+@RestController
+public class CacheStatisticsController {
+
+    private final CacheStatisticsService cacheStatisticsService;
+
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ApiResponse<CacheStatisticsReadResults> getCacheStatistics() {
+        return ApiResponse.ok(cacheStatisticsService.getCacheStatistics());
+    }
+
+}
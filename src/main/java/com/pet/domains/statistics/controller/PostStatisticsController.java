@@ -1,7 +1,9 @@
 package com.pet.domains.statistics.controller;
 
 import com.pet.common.response.ApiResponse;
+import com.pet.domains.statistics.dto.response.PostFacetReadResults;
 import com.pet.domains.statistics.dto.response.PostStatisticsReadResult;
+import com.pet.domains.statistics.service.PostFacetService;
 import com.pet.domains.statistics.service.PostStatisticsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -18,10 +20,18 @@ public class PostStatisticsController {
 
     private final PostStatisticsService postStatisticsService;
 
+    private final PostFacetService postFacetService;
+
     @ResponseStatus(HttpStatus.OK)
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     public ApiResponse<PostStatisticsReadResult> getPostStatistics() {
         return ApiResponse.ok(postStatisticsService.getPostStatistics());
     }
 
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping(value = "/facets", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ApiResponse<PostFacetReadResults> getPostFacets() {
+        return ApiResponse.ok(postFacetService.getPostFacets());
+    }
+
 }
@@ -0,0 +1,42 @@
+package com.pet.domains.statistics.domain;
+
+import com.pet.domains.post.domain.MissingPost;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+// 필터 값별 게시글 수 증감을 모은다. 합이 0 이 된 값은 지워서 바뀐 값만 남긴다.
+public class FacetDeltas {
+
+    private final Map<FacetDimension, Map<String, Long>> deltas = new EnumMap<>(FacetDimension.class);
+
+    public FacetDeltas add(FacetDimension dimension, Object facetValue, long delta) {
+        if (Objects.isNull(facetValue) || delta == 0) {
+            return this;
+        }
+        deltas.computeIfAbsent(dimension, key -> new HashMap<>())
+            .merge(String.valueOf(facetValue), delta, (previous, next) -> nullIfZero(previous + next));
+        return this;
+    }
+
+    public FacetDeltas addMissingPost(MissingPost missingPost, long delta) {
+        return add(FacetDimension.CITY, missingPost.getTown().getCity().getId(), delta)
+            .add(FacetDimension.ANIMAL, missingPost.getAnimalKind().getAnimal().getId(), delta)
+            .add(FacetDimension.SEX, missingPost.getSexType().name(), delta)
+            .add(FacetDimension.STATUS, missingPost.getStatus().name(), delta);
+    }
+
+    public Map<String, Long> get(FacetDimension dimension) {
+        return Collections.unmodifiableMap(deltas.getOrDefault(dimension, Collections.emptyMap()));
+    }
+
+    public boolean isEmpty() {
+        return deltas.values().stream().allMatch(Map::isEmpty);
+    }
+
+    private Long nullIfZero(long delta) {
+        return delta == 0 ? null : delta;
+    }
+}
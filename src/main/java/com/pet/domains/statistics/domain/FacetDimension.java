@@ -0,0 +1,26 @@
+package com.pet.domains.statistics.domain;
+
+import com.pet.domains.EnumType;
+
+public enum FacetDimension implements EnumType {
+    CITY("시도"),
+    ANIMAL("동물"),
+    SEX("성별"),
+    STATUS("게시글 상태");
+
+    private final String text;
+
+    FacetDimension(String text) {
+        this.text = text;
+    }
+
+    @Override
+    public String getName() {
+        return this.name();
+    }
+
+    @Override
+    public String getText() {
+        return text;
+    }
+}
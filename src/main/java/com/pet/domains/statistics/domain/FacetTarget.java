@@ -0,0 +1,24 @@
+package com.pet.domains.statistics.domain;
+
+import com.pet.domains.EnumType;
+
+public enum FacetTarget implements EnumType {
+    SHELTER_POST("보호소 게시글"),
+    MISSING_POST("실종/목격 게시글");
+
+    private final String text;
+
+    FacetTarget(String text) {
+        this.text = text;
+    }
+
+    @Override
+    public String getName() {
+        return this.name();
+    }
+
+    @Override
+    public String getText() {
+        return text;
+    }
+}
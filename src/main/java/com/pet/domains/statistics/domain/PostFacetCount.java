@@ -0,0 +1,51 @@
+package com.pet.domains.statistics.domain;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+// 필터 값마다 게시글 수를 세어 둔 카운터, 값은 PostFacetCountJdbcRepository 가 증감으로만 바꾼다.
+// facetValue 는 시도, 동물이면 id, 성별, 상태면 enum 이름이다.
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Immutable
+@Entity
+@Table(
+    name = "post_facet_count",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uni_post_facet_count_target_dimension_value",
+        columnNames = {"target", "dimension", "facet_value"}
+    )
+)
+public class PostFacetCount {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target", length = 20, nullable = false)
+    private FacetTarget target;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "dimension", length = 20, nullable = false)
+    private FacetDimension dimension;
+
+    @Column(name = "facet_value", length = 30, nullable = false)
+    private String facetValue;
+
+    @Column(name = "post_count", columnDefinition = "BIGINT default 0", nullable = false)
+    private long postCount;
+
+}
@@ -0,0 +1,89 @@
+package com.pet.domains.statistics.dto.response;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class CacheStatisticsReadResults {
+
+    private final List<CacheStatisticsReadResults.Cache> caches;
+
+    private final List<CacheStatisticsReadResults.Region> regions;
+
+    private CacheStatisticsReadResults(List<CacheStatisticsReadResults.Cache> caches,
+        List<CacheStatisticsReadResults.Region> regions) {
+        this.caches = caches;
+        this.regions = regions;
+    }
+
+    public static CacheStatisticsReadResults of(List<CacheStatisticsReadResults.Cache> caches,
+        List<CacheStatisticsReadResults.Region> regions) {
+        return new CacheStatisticsReadResults(caches, regions);
+    }
+
+    @Getter
+    public static class Cache {
+
+        private final String name;
+
+        private final long hitCount;
+
+        private final long missCount;
+
+        private final double hitRatio;
+
+        private final long putCount;
+
+        private final long evictionCount;
+
+        private final long loadCount;
+
+        private final double loadMeanMillis;
+
+        private final double loadMaxMillis;
+
+        private final double size;
+
+        private final double entrySizeMeanBytes;
+
+        @Builder
+        private Cache(String name, long hitCount, long missCount, double hitRatio, long putCount, long evictionCount,
+            long loadCount, double loadMeanMillis, double loadMaxMillis, double size, double entrySizeMeanBytes) {
+            this.name = name;
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.hitRatio = hitRatio;
+            this.putCount = putCount;
+            this.evictionCount = evictionCount;
+            this.loadCount = loadCount;
+            this.loadMeanMillis = loadMeanMillis;
+            this.loadMaxMillis = loadMaxMillis;
+            this.size = size;
+            this.entrySizeMeanBytes = entrySizeMeanBytes;
+        }
+    }
+
+    @Getter
+    public static class Region {
+
+        private final String name;
+
+        private final long hitCount;
+
+        private final long missCount;
+
+        private final double hitRatio;
+
+        private final long size;
+
+        @Builder
+        private Region(String name, long hitCount, long missCount, double hitRatio, long size) {
+            this.name = name;
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.hitRatio = hitRatio;
+            this.size = size;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.pet.domains.statistics.dto.response;
+
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+public class PostFacetReadResults {
+
+    private final PostFacetReadResults.Facets shelterPost;
+
+    private final PostFacetReadResults.Facets missingPost;
+
+    private PostFacetReadResults(PostFacetReadResults.Facets shelterPost, PostFacetReadResults.Facets missingPost) {
+        this.shelterPost = shelterPost;
+        this.missingPost = missingPost;
+    }
+
+    public static PostFacetReadResults of(PostFacetReadResults.Facets shelterPost,
+        PostFacetReadResults.Facets missingPost) {
+        return new PostFacetReadResults(shelterPost, missingPost);
+    }
+
+    @Getter
+    public static class Facets {
+
+        private final List<PostFacetReadResults.Facet> cities;
+
+        private final List<PostFacetReadResults.Facet> animals;
+
+        private final List<PostFacetReadResults.Facet> sexes;
+
+        private final List<PostFacetReadResults.Facet> statuses;
+
+        private Facets(List<PostFacetReadResults.Facet> cities, List<PostFacetReadResults.Facet> animals,
+            List<PostFacetReadResults.Facet> sexes, List<PostFacetReadResults.Facet> statuses) {
+            this.cities = cities;
+            this.animals = animals;
+            this.sexes = sexes;
+            this.statuses = statuses;
+        }
+
+        public static Facets of(List<PostFacetReadResults.Facet> cities, List<PostFacetReadResults.Facet> animals,
+            List<PostFacetReadResults.Facet> sexes, List<PostFacetReadResults.Facet> statuses) {
+            return new Facets(cities, animals, sexes, statuses);
+        }
+    }
+
+    @Getter
+    public static class Facet {
+
+        private final String value;
+
+        private final long count;
+
+        private Facet(String value, long count) {
+            this.value = value;
+            this.count = count;
+        }
+
+        public static Facet of(String value, long count) {
+            return new Facet(value, count);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.pet.domains.statistics.repository;
+
+import com.pet.domains.statistics.domain.FacetDeltas;
+import com.pet.domains.statistics.domain.FacetDimension;
+import com.pet.domains.statistics.domain.FacetTarget;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@RequiredArgsConstructor
+@Repository
+public class PostFacetCountJdbcRepository {
+
+    private static final String UPSERT_SQL = "INSERT INTO post_facet_count (target, dimension, facet_value,"
+        + " post_count) VALUES (?, ?, ?, ?) ON DUPLICATE KEY UPDATE post_count = post_count + VALUES(post_count)";
+
+    private static final String MISSING_POST_FACET_SQL = "SELECT t.city_id, ak.animal_id, mp.sex_type,"
+        + " mp.post_status, COUNT(*) AS post_count FROM missing_post mp"
+        + " INNER JOIN town t ON t.id = mp.town_id"
+        + " INNER JOIN animal_kind ak ON ak.id = mp.animal_kind_id"
+        + " WHERE mp.deleted = false"
+        + " GROUP BY t.city_id, ak.animal_id, mp.sex_type, mp.post_status";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int addAll(FacetTarget target, FacetDeltas facetDeltas) {
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (FacetDimension dimension : FacetDimension.values()) {
+            facetDeltas.get(dimension).forEach((facetValue, delta) -> batchArgs.add(
+                new Object[] {target.name(), dimension.name(), facetValue, delta}));
+        }
+        if (batchArgs.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.batchUpdate(UPSERT_SQL, batchArgs).length;
+    }
+
+    public int deleteAllByTarget(FacetTarget target) {
+        return jdbcTemplate.update("DELETE FROM post_facet_count WHERE target = ?", target.name());
+    }
+
+    // 삭제되지 않은 실종/목격 게시글을 처음부터 다시 센다.
+    public FacetDeltas countMissingPostFacets() {
+        FacetDeltas facetDeltas = new FacetDeltas();
+        jdbcTemplate.query(MISSING_POST_FACET_SQL, resultSet -> {
+            long postCount = resultSet.getLong("post_count");
+            facetDeltas.add(FacetDimension.CITY, resultSet.getLong("city_id"), postCount)
+                .add(FacetDimension.ANIMAL, resultSet.getLong("animal_id"), postCount)
+                .add(FacetDimension.SEX, resultSet.getString("sex_type"), postCount)
+                .add(FacetDimension.STATUS, resultSet.getString("post_status"), postCount);
+        });
+        return facetDeltas;
+    }
+}
@@ -0,0 +1,11 @@
+package com.pet.domains.statistics.repository;
+
+import com.pet.domains.statistics.domain.PostFacetCount;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PostFacetCountRepository extends JpaRepository<PostFacetCount, Long> {
+
+    List<PostFacetCount> findAllByPostCountGreaterThan(long postCount);
+
+}
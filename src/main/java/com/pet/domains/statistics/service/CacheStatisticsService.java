@@ -0,0 +1,109 @@
+package com.pet.domains.statistics.service;
+
+import com.pet.common.cache.InstrumentedCache;
+import com.pet.common.cache.MeteredRedisSerializer;
+import com.pet.common.cache.SecondLevelCacheStatistics;
+import com.pet.domains.statistics.dto.response.CacheStatisticsReadResults;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+// 캐시 지표를 관리자 화면에서 한 번에 볼 수 있게 모은다. 값은 이 서버가 뜬 뒤부터 누적된 값이다.
+@RequiredArgsConstructor
+@Service
+public class CacheStatisticsService {
+
+    private final ObjectProvider<CacheManager> cacheManagerProvider;
+
+    private final MeterRegistry meterRegistry;
+
+    private final SecondLevelCacheStatistics secondLevelCacheStatistics;
+
+    public CacheStatisticsReadResults getCacheStatistics() {
+        return CacheStatisticsReadResults.of(getCaches(), getRegions());
+    }
+
+    private List<CacheStatisticsReadResults.Cache> getCaches() {
+        CacheManager cacheManager = cacheManagerProvider.getIfAvailable();
+        if (Objects.isNull(cacheManager)) {
+            return List.of();
+        }
+        return cacheManager.getCacheNames().stream()
+            .sorted()
+            .map(this::toCache)
+            .collect(Collectors.toList());
+    }
+
+    private CacheStatisticsReadResults.Cache toCache(String cacheName) {
+        long hitCount = count(InstrumentedCache.GETS, cacheName, "hit");
+        long missCount = count(InstrumentedCache.GETS, cacheName, "miss");
+        Timer loads = meterRegistry.find(InstrumentedCache.LOADS)
+            .tags(InstrumentedCache.CACHE_TAG, cacheName, InstrumentedCache.RESULT_TAG, "success")
+            .timer();
+        Gauge size = meterRegistry.find(InstrumentedCache.SIZE).tags(InstrumentedCache.CACHE_TAG, cacheName).gauge();
+        DistributionSummary entrySize = meterRegistry.find(MeteredRedisSerializer.ENTRY_SIZE)
+            .tags(InstrumentedCache.CACHE_TAG, cacheName)
+            .summary();
+        return CacheStatisticsReadResults.Cache.builder()
+            .name(cacheName)
+            .hitCount(hitCount)
+            .missCount(missCount)
+            .hitRatio(SecondLevelCacheStatistics.getHitRatio(hitCount, missCount))
+            .putCount(count(InstrumentedCache.PUTS, cacheName, null))
+            .evictionCount(count(InstrumentedCache.EVICTIONS, cacheName, null))
+            .loadCount(Objects.isNull(loads) ? 0 : loads.count())
+            .loadMeanMillis(Objects.isNull(loads) ? 0 : loads.mean(TimeUnit.MILLISECONDS))
+            .loadMaxMillis(Objects.isNull(loads) ? 0 : loads.max(TimeUnit.MILLISECONDS))
+            .size(Objects.isNull(size) ? Double.NaN : size.value())
+            .entrySizeMeanBytes(Objects.isNull(entrySize) ? 0 : entrySize.mean())
+            .build();
+    }
+
+    private long count(String meterName, String cacheName, String result) {
+        Counter counter = Objects.isNull(result)
+            ? meterRegistry.find(meterName).tags(InstrumentedCache.CACHE_TAG, cacheName).counter()
+            : meterRegistry.find(meterName)
+                .tags(InstrumentedCache.CACHE_TAG, cacheName, InstrumentedCache.RESULT_TAG, result)
+                .counter();
+        return Objects.isNull(counter) ? 0 : (long) counter.count();
+    }
+
+    private List<CacheStatisticsReadResults.Region> getRegions() {
+        Statistics statistics = secondLevelCacheStatistics.getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            return List.of();
+        }
+        return Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+            .sorted()
+            .map(regionName -> toRegion(regionName, statistics.getCacheRegionStatistics(regionName)))
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
+    private CacheStatisticsReadResults.Region toRegion(String regionName, CacheRegionStatistics regionStatistics) {
+        if (Objects.isNull(regionStatistics)) {
+            return null;
+        }
+        return CacheStatisticsReadResults.Region.builder()
+            .name(regionName)
+            .hitCount(regionStatistics.getHitCount())
+            .missCount(regionStatistics.getMissCount())
+            .hitRatio(SecondLevelCacheStatistics.getHitRatio(regionStatistics.getHitCount(),
+                regionStatistics.getMissCount()))
+            .size(regionStatistics.getElementCountInMemory())
+            .build();
+    }
+}
@@ -0,0 +1,83 @@
+package com.pet.domains.statistics.service;
+
+import com.pet.domains.post.repository.ShelterPostListingJdbcRepository;
+import com.pet.domains.statistics.domain.FacetDeltas;
+import com.pet.domains.statistics.domain.FacetDimension;
+import com.pet.domains.statistics.domain.FacetTarget;
+import com.pet.domains.statistics.domain.PostFacetCount;
+import com.pet.domains.statistics.dto.response.PostFacetReadResults;
+import com.pet.domains.statistics.repository.PostFacetCountJdbcRepository;
+import com.pet.domains.statistics.repository.PostFacetCountRepository;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Service
+public class PostFacetService {
+
+    private final PostFacetCountRepository postFacetCountRepository;
+
+    private final PostFacetCountJdbcRepository postFacetCountJdbcRepository;
+
+    private final ShelterPostListingJdbcRepository shelterPostListingJdbcRepository;
+
+    // 카운터 테이블 한 번만 읽어 두 게시판의 필터 값별 게시글 수를 모두 돌려준다.
+    public PostFacetReadResults getPostFacets() {
+        Map<FacetTarget, List<PostFacetCount>> facetCounts = postFacetCountRepository.findAllByPostCountGreaterThan(0)
+            .stream()
+            .collect(Collectors.groupingBy(PostFacetCount::getTarget));
+        return PostFacetReadResults.of(
+            toFacets(facetCounts.getOrDefault(FacetTarget.SHELTER_POST, List.of())),
+            toFacets(facetCounts.getOrDefault(FacetTarget.MISSING_POST, List.of()))
+        );
+    }
+
+    // 게시글을 쓰는 트랜잭션 안에서 호출해 카운터도 함께 커밋되게 한다.
+    @Transactional
+    public void apply(FacetTarget target, FacetDeltas facetDeltas) {
+        if (facetDeltas.isEmpty()) {
+            return;
+        }
+        postFacetCountJdbcRepository.addAll(target, facetDeltas);
+    }
+
+    // 증감만으로 유지하는 카운터가 어긋나도 하루 한 번 원본에서 다시 센 값으로 맞춘다. 처음 배포할 때 채우는 역할도 한다.
+    @Scheduled(cron = "0 30 4 * * *")
+    @Transactional
+    public void reconcilePostFacets() {
+        FacetDeltas shelterPostFacets = new FacetDeltas();
+        shelterPostListingJdbcRepository.collectFacetsUpdatedSince(shelterPostFacets, 1, null);
+        postFacetCountJdbcRepository.deleteAllByTarget(FacetTarget.SHELTER_POST);
+        postFacetCountJdbcRepository.addAll(FacetTarget.SHELTER_POST, shelterPostFacets);
+
+        postFacetCountJdbcRepository.deleteAllByTarget(FacetTarget.MISSING_POST);
+        postFacetCountJdbcRepository.addAll(FacetTarget.MISSING_POST,
+            postFacetCountJdbcRepository.countMissingPostFacets());
+        log.info("post facet counts reconciled");
+    }
+
+    private PostFacetReadResults.Facets toFacets(List<PostFacetCount> facetCounts) {
+        Map<FacetDimension, List<PostFacetReadResults.Facet>> facets = facetCounts.stream()
+            .sorted(Comparator.comparingLong(PostFacetCount::getPostCount).reversed())
+            .collect(Collectors.groupingBy(
+                PostFacetCount::getDimension,
+                Collectors.mapping(facetCount -> PostFacetReadResults.Facet.of(facetCount.getFacetValue(),
+                    facetCount.getPostCount()), Collectors.toList())
+            ));
+        return PostFacetReadResults.Facets.of(
+            facets.getOrDefault(FacetDimension.CITY, List.of()),
+            facets.getOrDefault(FacetDimension.ANIMAL, List.of()),
+            facets.getOrDefault(FacetDimension.SEX, List.of()),
+            facets.getOrDefault(FacetDimension.STATUS, List.of())
+        );
+    }
+}
@@ -1,6 +1,7 @@
 package com.pet.domains.tag.domain;
 
 import com.pet.domains.BaseEntity;
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
@@ -13,10 +14,14 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.apache.commons.lang3.ObjectUtils;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.Formula;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "tag")
 @Entity
 @Table(name = "tag", indexes = @Index(name = "idx_name", columnList = "name"))
 public class Tag extends BaseEntity {
@@ -29,6 +34,7 @@ public class Tag extends BaseEntity {
     @Column(name = "name", nullable = false, unique = true)
     private String name;
 
+    // 2차 캐시에 담긴 값이라 최신 개수가 아닐 수 있다.
     @Formula("(select count(*) from post_tag pt where pt.tag_id = id)")
     private long count;
 
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface TagRepository extends JpaRepository<Tag, Long> {
 
+    // 조회 후 없으면 만드는 경로라 다른 노드가 만든 행을 놓치지 않도록 쿼리 캐시를 쓰지 않는다.
     Optional<Tag> findTagByName(String name);
 
 }
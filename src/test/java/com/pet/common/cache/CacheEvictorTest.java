@@ -0,0 +1,76 @@
+package com.pet.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import com.pet.domains.animal.dto.response.AnimalReadResults;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@DisplayName("캐시 비우기 테스트")
+class CacheEvictorTest {
+
+    private Cache animalsCache;
+
+    private CacheEvictor cacheEvictor;
+
+    @BeforeEach
+    void setUp() {
+        CacheManager cacheManager = new ConcurrentMapCacheManager("animals");
+        animalsCache = cacheManager.getCache("animals");
+        cacheEvictor = new CacheEvictor(
+            new StaticListableBeanFactory(Map.of("cacheManager", cacheManager)).getBeanProvider(CacheManager.class));
+        animalsCache.put(SimpleKey.EMPTY, AnimalReadResults.of(List.of(AnimalReadResults.Animal.builder()
+            .id(1L)
+            .name("개")
+            .kinds(List.of(AnimalReadResults.Animal.AnimalKind.builder().id(10L).name("믹스견").build()))
+            .build())));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋된 뒤에 캐시를 비움")
+    void evictAfterCommitTest() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        cacheEvictor.evictAfterCommit("animals", SimpleKey.EMPTY);
+        Cache.ValueWrapper cachedBeforeCommit = animalsCache.get(SimpleKey.EMPTY);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // then
+        assertThat(cachedBeforeCommit).isNotNull();
+        assertThat(animalsCache.get(SimpleKey.EMPTY)).isNull();
+    }
+
+    @Test
+    @DisplayName("롤백되면 캐시를 그대로 둠")
+    void evictAfterRollbackTest() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        cacheEvictor.evictAfterCommit("animals", SimpleKey.EMPTY);
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // then
+        assertThat(animalsCache.get(SimpleKey.EMPTY)).isNotNull();
+    }
+}
@@ -0,0 +1,104 @@
+package com.pet.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import com.pet.common.version.DataResource;
+import com.pet.common.version.LocalDataVersionRegistry;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("캐시 미리 갱신 테스트")
+class CacheRefresherTest {
+
+    private Cache citiesCache;
+
+    private CacheLoadLock cacheLoadLock;
+
+    private LocalDataVersionRegistry dataVersionRegistry;
+
+    private CacheRefresher cacheRefresher;
+
+    @BeforeEach
+    void setUp() {
+        CacheManager cacheManager = new ConcurrentMapCacheManager("cities");
+        citiesCache = cacheManager.getCache("cities");
+        citiesCache.put(SimpleKey.EMPTY, "old");
+        cacheLoadLock = mock(CacheLoadLock.class);
+        dataVersionRegistry = new LocalDataVersionRegistry();
+        cacheRefresher = new CacheRefresher(
+            new StaticListableBeanFactory(Map.of("cacheManager", cacheManager)).getBeanProvider(CacheManager.class),
+            cacheLoadLock, dataVersionRegistry);
+        ReflectionTestUtils.setField(cacheRefresher, "refreshLockTtl", Duration.ofMinutes(45));
+    }
+
+    @Test
+    @DisplayName("잠금을 잡으면 새 값으로 덮어씀")
+    void refreshTest() {
+        // given
+        given(cacheLoadLock.tryLock("refresh:cities::" + SimpleKey.EMPTY, Duration.ofMinutes(45))).willReturn(true);
+
+        // when
+        cacheRefresher.refresh("cities", SimpleKey.EMPTY, DataResource.CITY, () -> "new");
+
+        // then
+        assertThat(citiesCache.get(SimpleKey.EMPTY, String.class)).isEqualTo("new");
+    }
+
+    @Test
+    @DisplayName("다른 서버가 갱신 중이면 건너뜀")
+    void skipRefreshTest() {
+        // given
+        given(cacheLoadLock.tryLock(anyString(), any())).willReturn(false);
+
+        // when
+        cacheRefresher.refresh("cities", SimpleKey.EMPTY, DataResource.CITY, () -> "new");
+
+        // then
+        assertThat(citiesCache.get(SimpleKey.EMPTY, String.class)).isEqualTo("old");
+    }
+
+    @Test
+    @DisplayName("불러오는 사이 버전이 바뀌면 이전 값으로 덮어쓰지 않음")
+    void changedWhileLoadingTest() {
+        // given
+        given(cacheLoadLock.tryLock(anyString(), any())).willReturn(true);
+
+        // when
+        cacheRefresher.refresh("cities", SimpleKey.EMPTY, DataResource.CITY, () -> {
+            dataVersionRegistry.bump(DataResource.CITY);
+            return "loaded before change";
+        });
+
+        // then
+        assertThat(citiesCache.get(SimpleKey.EMPTY, String.class)).isEqualTo("old");
+    }
+
+    @Test
+    @DisplayName("불러오다 실패하면 잠금을 풀고 기존 값을 유지함")
+    void refreshFailTest() {
+        // given
+        given(cacheLoadLock.tryLock(anyString(), any())).willReturn(true);
+
+        // when
+        cacheRefresher.refresh("cities", SimpleKey.EMPTY, DataResource.CITY, () -> {
+            throw new IllegalStateException("db down");
+        });
+
+        // then
+        assertThat(citiesCache.get(SimpleKey.EMPTY, String.class)).isEqualTo("old");
+        verify(cacheLoadLock).unlock("refresh:cities::" + SimpleKey.EMPTY);
+    }
+}
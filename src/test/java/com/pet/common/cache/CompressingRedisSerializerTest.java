@@ -0,0 +1,60 @@
+package com.pet.common.cache;
+
+import com.pet.domains.area.dto.response.CityReadResults;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("캐시 값 압축 테스트")
+class CompressingRedisSerializerTest {
+
+    private final CompressingRedisSerializer compressingRedisSerializer =
+        new CompressingRedisSerializer(CacheValueCodec.SMILE.createSerializer(), 1024);
+
+    @Test
+    @DisplayName("기준 크기 이상인 값은 압축하고 그대로 복원")
+    void compressedRoundTripTest() {
+        // given
+        CityReadResults cityReadResults = getCityReadResults(100);
+
+        // when
+        byte[] bytes = compressingRedisSerializer.serialize(cityReadResults);
+        CityReadResults result = (CityReadResults) compressingRedisSerializer.deserialize(bytes);
+
+        // then
+        SoftAssertions.assertSoftly(softAssertions -> {
+            softAssertions.assertThat(bytes[0]).isEqualTo((byte) 1);
+            softAssertions.assertThat(result.getCities().get(0).getTowns())
+                .extracting(CityReadResults.City.Town::getName)
+                .hasSize(100)
+                .startsWith("구0", "구1");
+        });
+    }
+
+    @Test
+    @DisplayName("기준 크기보다 작은 값은 압축하지 않음")
+    void plainRoundTripTest() {
+        // given
+        CityReadResults cityReadResults = getCityReadResults(1);
+
+        // when
+        byte[] bytes = compressingRedisSerializer.serialize(cityReadResults);
+        CityReadResults result = (CityReadResults) compressingRedisSerializer.deserialize(bytes);
+
+        // then
+        SoftAssertions.assertSoftly(softAssertions -> {
+            softAssertions.assertThat(bytes[0]).isEqualTo((byte) 0);
+            softAssertions.assertThat(result.getCities().get(0).getName()).isEqualTo("서울특별시");
+        });
+    }
+
+    private CityReadResults getCityReadResults(int townCount) {
+        List<CityReadResults.City.Town> towns = LongStream.range(0, townCount)
+            .mapToObj(id -> CityReadResults.City.Town.of(id, "구" + id))
+            .collect(Collectors.toList());
+        return CityReadResults.of(List.of(CityReadResults.City.of(1L, "서울특별시", towns)));
+    }
+}
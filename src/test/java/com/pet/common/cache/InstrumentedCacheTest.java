@@ -0,0 +1,61 @@
+package com.pet.common.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+@DisplayName("캐시 지표 테스트")
+class InstrumentedCacheTest {
+
+    private MeterRegistry meterRegistry;
+
+    private InstrumentedCache instrumentedCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        instrumentedCache = new InstrumentedCache(new ConcurrentMapCache("cities"), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("값을 불러오면 미스와 적재 시간, 다시 조회하면 적중으로 남김")
+    void getWithValueLoaderTest() {
+        // when
+        instrumentedCache.get(1L, () -> "서울특별시");
+        instrumentedCache.get(1L, () -> "서울특별시");
+
+        // then
+        SoftAssertions.assertSoftly(softAssertions -> {
+            softAssertions.assertThat(count("hit")).isEqualTo(1);
+            softAssertions.assertThat(count("miss")).isEqualTo(1);
+            softAssertions.assertThat(meterRegistry.get(InstrumentedCache.LOADS).tag("cache", "cities").timer()
+                .count()).isEqualTo(1);
+            softAssertions.assertThat(meterRegistry.get(InstrumentedCache.SIZE).tag("cache", "cities").gauge()
+                .value()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    @DisplayName("삭제 수를 남김")
+    void evictTest() {
+        // given
+        instrumentedCache.put(1L, "서울특별시");
+
+        // when
+        instrumentedCache.evict(1L);
+
+        // then
+        SoftAssertions.assertSoftly(softAssertions -> {
+            softAssertions.assertThat(meterRegistry.get(InstrumentedCache.PUTS).counter().count()).isEqualTo(1);
+            softAssertions.assertThat(meterRegistry.get(InstrumentedCache.EVICTIONS).counter().count()).isEqualTo(1);
+        });
+    }
+
+    private double count(String result) {
+        return meterRegistry.get(InstrumentedCache.GETS).tag("cache", "cities").tag("result", result).counter().count();
+    }
+}
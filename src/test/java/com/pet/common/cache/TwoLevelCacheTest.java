@@ -0,0 +1,173 @@
+package com.pet.common.cache;
+
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+@DisplayName("2단계 캐시 테스트")
+class TwoLevelCacheTest {
+
+    private Cache localCache;
+
+    private Cache remoteCache;
+
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    private TwoLevelCache twoLevelCache;
+
+    @BeforeEach
+    void setUp() {
+        localCache = new ConcurrentMapCache("cities");
+        remoteCache = new ConcurrentMapCache("cities");
+        cacheInvalidationBus = mock(CacheInvalidationBus.class);
+        twoLevelCache = new TwoLevelCache(localCache, remoteCache, cacheInvalidationBus, new LocalCacheLoadLock());
+    }
+
+    @Test
+    @DisplayName("로컬 캐시에 없으면 redis 값을 읽어 로컬 캐시에 채움")
+    void getFromRemoteTest() {
+        // given
+        remoteCache.put(1L, "서울특별시");
+
+        // when
+        String value = twoLevelCache.get(1L, String.class);
+
+        // then
+        SoftAssertions.assertSoftly(softAssertions -> {
+            softAssertions.assertThat(value).isEqualTo("서울특별시");
+            softAssertions.assertThat(localCache.get("1", String.class)).isEqualTo("서울특별시");
+        });
+    }
+
+    @Test
+    @DisplayName("값을 불러올 때 두 캐시에 모두 저장")
+    void getWithValueLoaderTest() {
+        // when
+        String value = twoLevelCache.get(1L, () -> "서울특별시");
+
+        // then
+        SoftAssertions.assertSoftly(softAssertions -> {
+            softAssertions.assertThat(value).isEqualTo("서울특별시");
+            softAssertions.assertThat(localCache.get("1", String.class)).isEqualTo("서울특별시");
+            softAssertions.assertThat(remoteCache.get(1L, String.class)).isEqualTo("서울특별시");
+        });
+    }
+
+    @Test
+    @DisplayName("삭제하면 두 캐시에서 지우고 다른 노드에 알림")
+    void evictTest() {
+        // given
+        twoLevelCache.put(1L, "서울특별시");
+
+        // when
+        twoLevelCache.evict(1L);
+
+        // then
+        SoftAssertions.assertSoftly(softAssertions -> {
+            softAssertions.assertThat(localCache.get("1")).isNull();
+            softAssertions.assertThat(remoteCache.get(1L)).isNull();
+        });
+        then(cacheInvalidationBus).should(times(2)).publish("cities", "1");
+    }
+
+    @Test
+    @DisplayName("전체 삭제는 키 없이 알림")
+    void clearTest() {
+        // when
+        twoLevelCache.clear();
+
+        // then
+        then(cacheInvalidationBus).should().publish("cities", null);
+    }
+
+    @Test
+    @DisplayName("같은 키를 동시에 불러오면 한 번만 불러오고 다른 키는 기다리지 않음")
+    void concurrentLoadTest() throws Exception {
+        // given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loadCount = new AtomicInteger();
+        Callable<String> slowLoader = () -> {
+            loadCount.incrementAndGet();
+            loading.countDown();
+            release.await();
+            return "서울특별시";
+        };
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+        // when
+        Future<String> first = executorService.submit(() -> twoLevelCache.get(1L, slowLoader));
+        loading.await();
+        Future<String> second = executorService.submit(() -> twoLevelCache.get(1L, slowLoader));
+        String other = twoLevelCache.get(2L, () -> "부산광역시");
+        release.countDown();
+
+        // then
+        SoftAssertions.assertSoftly(softAssertions -> {
+            softAssertions.assertThat(other).isEqualTo("부산광역시");
+            softAssertions.assertThat(getQuietly(first)).isEqualTo("서울특별시");
+            softAssertions.assertThat(getQuietly(second)).isEqualTo("서울특별시");
+            softAssertions.assertThat(loadCount).hasValue(1);
+        });
+        executorService.shutdown();
+    }
+
+    @Test
+    @DisplayName("잠금을 잡은 다른 노드가 실패해 잠금을 풀면 잠금 시간을 기다리지 않고 바로 불러옴")
+    void loadAfterOtherNodeUnlockTest() throws Exception {
+        // given
+        Set<String> lockedNames = ConcurrentHashMap.newKeySet();
+        CacheLoadLock cacheLoadLock = new CacheLoadLock() {
+            @Override
+            public boolean tryLock(String name, Duration ttl) {
+                return lockedNames.add(name);
+            }
+
+            @Override
+            public void unlock(String name) {
+                lockedNames.remove(name);
+            }
+        };
+        twoLevelCache = new TwoLevelCache(localCache, remoteCache, cacheInvalidationBus, cacheLoadLock);
+        cacheLoadLock.tryLock("cities::1", Duration.ofSeconds(10));
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        // when
+        Future<String> waiting = executorService.submit(() -> twoLevelCache.get(1L, () -> "서울특별시"));
+        Thread.sleep(200);
+        boolean loadedWhileLocked = waiting.isDone();
+        cacheLoadLock.unlock("cities::1");
+
+        // then
+        SoftAssertions.assertSoftly(softAssertions -> {
+            softAssertions.assertThat(loadedWhileLocked).isFalse();
+            softAssertions.assertThat(getQuietly(waiting)).isEqualTo("서울특별시");
+            softAssertions.assertThat(lockedNames).isEmpty();
+        });
+        executorService.shutdown();
+    }
+
+    private String getQuietly(Future<String> future) {
+        try {
+            return future.get(5, TimeUnit.SECONDS);
+        } catch (Exception exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
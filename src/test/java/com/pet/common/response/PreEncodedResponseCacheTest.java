@@ -0,0 +1,71 @@
+package com.pet.common.response;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import com.pet.common.version.DataResource;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@DisplayName("미리 만든 응답 캐시 테스트")
+class PreEncodedResponseCacheTest {
+
+    private final AtomicReference<List<String>> cachedData = new AtomicReference<>(List.of("서울특별시"));
+
+    private final PreEncodedResponseCache preEncodedResponseCache = new PreEncodedResponseCache(
+        Jackson2ObjectMapperBuilder.json().build());
+
+    @Test
+    @DisplayName("캐시에서 꺼낸 객체가 그대로면 같은 바이트와 ETag 를 내려줌")
+    void sameDataTest() {
+        // when
+        ResponseEntity<byte[]> first = preEncodedResponseCache.get(DataResource.CITY, null, cachedData::get);
+        ResponseEntity<byte[]> second = preEncodedResponseCache.get(DataResource.CITY, null, cachedData::get);
+        ResponseEntity<byte[]> gzipped = preEncodedResponseCache.get(DataResource.CITY, "gzip, deflate",
+            cachedData::get);
+
+        // then
+        SoftAssertions.assertSoftly(softAssertions -> {
+            softAssertions.assertThat(second.getBody()).isSameAs(first.getBody());
+            softAssertions.assertThat(new String(first.getBody())).contains("\"data\":[\"서울특별시\"]");
+            softAssertions.assertThat(first.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+            softAssertions.assertThat(second.getHeaders().getETag()).isEqualTo(first.getHeaders().getETag());
+            softAssertions.assertThat(gzipped.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+            softAssertions.assertThat(gzipped.getHeaders().getETag()).isNotEqualTo(first.getHeaders().getETag());
+        });
+    }
+
+    @Test
+    @DisplayName("캐시에서 꺼낸 객체가 바뀌면 응답과 ETag 를 다시 만듦")
+    void changedDataTest() {
+        // given
+        ResponseEntity<byte[]> first = preEncodedResponseCache.get(DataResource.CITY, null, cachedData::get);
+        cachedData.set(List.of("서울특별시", "부산광역시"));
+
+        // when
+        ResponseEntity<byte[]> second = preEncodedResponseCache.get(DataResource.CITY, null, cachedData::get);
+
+        // then
+        assertThat(new String(second.getBody())).contains("부산광역시");
+        assertThat(second.getHeaders().getETag()).isNotEqualTo(first.getHeaders().getETag());
+    }
+
+    @Test
+    @DisplayName("q 값이 0 인 gzip 은 받지 않는 것으로 봄")
+    void acceptsGzipTest() {
+        SoftAssertions.assertSoftly(softAssertions -> {
+            softAssertions.assertThat(PreEncodedResponseCache.acceptsGzip("gzip, deflate, br")).isTrue();
+            softAssertions.assertThat(PreEncodedResponseCache.acceptsGzip("deflate, GZIP;q=0.5")).isTrue();
+            softAssertions.assertThat(PreEncodedResponseCache.acceptsGzip("gzip;q=0")).isFalse();
+            softAssertions.assertThat(PreEncodedResponseCache.acceptsGzip("gzip;q=0.0, *;q=1")).isFalse();
+            softAssertions.assertThat(PreEncodedResponseCache.acceptsGzip("*")).isTrue();
+            softAssertions.assertThat(PreEncodedResponseCache.acceptsGzip("br, *;q=0")).isFalse();
+            softAssertions.assertThat(PreEncodedResponseCache.acceptsGzip("identity")).isFalse();
+            softAssertions.assertThat(PreEncodedResponseCache.acceptsGzip(null)).isFalse();
+        });
+    }
+}
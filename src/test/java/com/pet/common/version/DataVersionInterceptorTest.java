@@ -0,0 +1,148 @@
+package com.pet.common.version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import com.pet.common.jwt.JwtAuthentication;
+import com.pet.common.jwt.JwtAuthenticationToken;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+
+@DisplayName("데이터 버전 ETag 인터셉터 테스트")
+class DataVersionInterceptorTest {
+
+    private LocalDataVersionRegistry dataVersionRegistry;
+
+    private DataVersionInterceptor dataVersionInterceptor;
+
+    private HandlerMethod handlerMethod;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        dataVersionRegistry = new LocalDataVersionRegistry();
+        dataVersionInterceptor = new DataVersionInterceptor(dataVersionRegistry);
+        handlerMethod = new HandlerMethod(new TestController(), TestController.class.getMethod("getShelterPosts"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("비로그인 요청은 자원의 데이터 버전으로 ETag 를 만듦")
+    void anonymousETagTest() throws Exception {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        String version = dataVersionRegistry.getVersion(DataResource.SHELTER_POST);
+
+        // when
+        boolean proceed = dataVersionInterceptor.preHandle(new MockHttpServletRequest("GET", "/"), response,
+            handlerMethod);
+
+        // then
+        assertThat(proceed).isTrue();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"shelter-post-" + version + "\"");
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-cache");
+    }
+
+    @Test
+    @DisplayName("로그인 요청은 계정 id 와 그 계정의 버전도 ETag 에 넣음")
+    void accountETagTest() throws Exception {
+        // given
+        login(1L);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        String version = dataVersionRegistry.getVersion(DataResource.SHELTER_POST);
+        String accountVersion = dataVersionRegistry.getVersion(DataResource.SHELTER_POST, "1");
+
+        // when
+        dataVersionInterceptor.preHandle(new MockHttpServletRequest("GET", "/"), response, handlerMethod);
+
+        // then
+        assertThat(response.getHeader(HttpHeaders.ETAG))
+            .isEqualTo("\"shelter-post-" + version + "-1-" + accountVersion + "\"");
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-cache, private");
+    }
+
+    @Test
+    @DisplayName("If-None-Match 가 같으면 핸들러를 실행하지 않고 304 로 끝냄")
+    void notModifiedTest() throws Exception {
+        // given
+        MockHttpServletResponse firstResponse = new MockHttpServletResponse();
+        dataVersionInterceptor.preHandle(new MockHttpServletRequest("GET", "/"), firstResponse, handlerMethod);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, firstResponse.getHeader(HttpHeaders.ETAG));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        boolean proceed = dataVersionInterceptor.preHandle(request, response, handlerMethod);
+
+        // then
+        assertThat(proceed).isFalse();
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+    }
+
+    @Test
+    @DisplayName("한 계정의 버전이 바뀌어도 다른 계정과 비로그인 ETag 는 그대로임")
+    void accountBumpTest() throws Exception {
+        // given
+        String anonymousETag = getETag();
+        login(2L);
+        String otherAccountETag = getETag();
+
+        // when
+        dataVersionRegistry.bump(DataResource.SHELTER_POST, "1");
+
+        // then
+        assertThat(getETag()).isEqualTo(otherAccountETag);
+        SecurityContextHolder.clearContext();
+        assertThat(getETag()).isEqualTo(anonymousETag);
+    }
+
+    @Test
+    @DisplayName("GET 이 아니거나 @DataVersioned 가 없으면 ETag 를 만들지 않음")
+    void skipTest() throws Exception {
+        // given
+        HandlerMethod notVersioned = new HandlerMethod(new TestController(),
+            TestController.class.getMethod("getAccount"));
+        MockHttpServletResponse postResponse = new MockHttpServletResponse();
+        MockHttpServletResponse notVersionedResponse = new MockHttpServletResponse();
+
+        // when
+        dataVersionInterceptor.preHandle(new MockHttpServletRequest("POST", "/"), postResponse, handlerMethod);
+        dataVersionInterceptor.preHandle(new MockHttpServletRequest("GET", "/"), notVersionedResponse,
+            notVersioned);
+
+        // then
+        assertThat(postResponse.getHeader(HttpHeaders.ETAG)).isNull();
+        assertThat(notVersionedResponse.getHeader(HttpHeaders.ETAG)).isNull();
+    }
+
+    private String getETag() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        dataVersionInterceptor.preHandle(new MockHttpServletRequest("GET", "/"), response, handlerMethod);
+        return response.getHeader(HttpHeaders.ETAG);
+    }
+
+    private void login(Long accountId) {
+        SecurityContextHolder.getContext().setAuthentication(
+            new JwtAuthenticationToken(new JwtAuthentication("token", accountId), null, List.of()));
+    }
+
+    static class TestController {
+
+        @DataVersioned(DataResource.SHELTER_POST)
+        public void getShelterPosts() {
+        }
+
+        public void getAccount() {
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.pet.common.version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@DisplayName("로컬 데이터 버전 저장소 테스트")
+class LocalDataVersionRegistryTest {
+
+    private final LocalDataVersionRegistry localDataVersionRegistry = new LocalDataVersionRegistry();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("bump 전까지는 같은 버전을, bump 뒤에는 새 버전을 돌려줌")
+    void bumpTest() {
+        // given
+        String version = localDataVersionRegistry.getVersion(DataResource.SHELTER_POST);
+
+        // when
+        String sameVersion = localDataVersionRegistry.getVersion(DataResource.SHELTER_POST);
+        localDataVersionRegistry.bump(DataResource.SHELTER_POST);
+
+        // then
+        assertThat(sameVersion).isEqualTo(version);
+        assertThat(localDataVersionRegistry.getVersion(DataResource.SHELTER_POST)).isNotEqualTo(version);
+    }
+
+    @Test
+    @DisplayName("계정별 버전을 올려도 자원의 버전은 그대로임")
+    void scopedBumpTest() {
+        // given
+        String version = localDataVersionRegistry.getVersion(DataResource.SHELTER_POST);
+        String accountVersion = localDataVersionRegistry.getVersion(DataResource.SHELTER_POST, "1");
+
+        // when
+        localDataVersionRegistry.bump(DataResource.SHELTER_POST, "1");
+
+        // then
+        assertThat(localDataVersionRegistry.getVersion(DataResource.SHELTER_POST)).isEqualTo(version);
+        assertThat(localDataVersionRegistry.getVersion(DataResource.SHELTER_POST, "1")).isNotEqualTo(accountVersion);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋된 뒤에 버전을 올림")
+    void bumpAfterCommitTest() {
+        // given
+        String version = localDataVersionRegistry.getVersion(DataResource.SHELTER_POST);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        localDataVersionRegistry.bumpAfterCommit(DataResource.SHELTER_POST);
+        String versionBeforeCommit = localDataVersionRegistry.getVersion(DataResource.SHELTER_POST);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // then
+        assertThat(versionBeforeCommit).isEqualTo(version);
+        assertThat(localDataVersionRegistry.getVersion(DataResource.SHELTER_POST)).isNotEqualTo(version);
+    }
+
+    @Test
+    @DisplayName("롤백되면 버전을 올리지 않음")
+    void bumpAfterRollbackTest() {
+        // given
+        String version = localDataVersionRegistry.getVersion(DataResource.SHELTER_POST);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        localDataVersionRegistry.bumpAfterCommit(DataResource.SHELTER_POST);
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // then
+        assertThat(localDataVersionRegistry.getVersion(DataResource.SHELTER_POST)).isEqualTo(version);
+    }
+}
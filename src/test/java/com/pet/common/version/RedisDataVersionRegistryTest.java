@@ -0,0 +1,91 @@
+package com.pet.common.version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("redis 데이터 버전 저장소 테스트")
+class RedisDataVersionRegistryTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @InjectMocks
+    private RedisDataVersionRegistry redisDataVersionRegistry;
+
+    @BeforeEach
+    void setUp() {
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("저장된 버전이 있으면 그대로 돌려줌")
+    void getVersionTest() {
+        // given
+        given(valueOperations.get("data-version:shelter-post")).willReturn("saved");
+
+        // when
+        String version = redisDataVersionRegistry.getVersion(DataResource.SHELTER_POST);
+
+        // then
+        assertThat(version).isEqualTo("saved");
+        verify(valueOperations, never()).setIfAbsent(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("버전이 없으면 먼저 저장한 서버의 값을 돌려줌")
+    void getVersionWhenAbsentTest() {
+        // given
+        given(valueOperations.get("data-version:shelter-post")).willReturn(null, "other-node");
+
+        // when
+        String version = redisDataVersionRegistry.getVersion(DataResource.SHELTER_POST);
+
+        // then
+        assertThat(version).isEqualTo("other-node");
+        verify(valueOperations).setIfAbsent(eq("data-version:shelter-post"), anyString());
+    }
+
+    @Test
+    @DisplayName("bump 하면 새 임의 값으로 덮어씀")
+    void bumpTest() {
+        // when
+        redisDataVersionRegistry.bump(DataResource.SHELTER_POST);
+        redisDataVersionRegistry.bump(DataResource.SHELTER_POST);
+
+        // then
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations, times(2)).set(eq("data-version:shelter-post"), captor.capture());
+        assertThat(captor.getAllValues().get(0)).hasSize(32).isNotEqualTo(captor.getAllValues().get(1));
+    }
+
+    @Test
+    @DisplayName("계정별 버전은 만료 시간을 두고 자원 키 뒤에 계정 id 를 붙여 저장함")
+    void scopedBumpTest() {
+        // when
+        redisDataVersionRegistry.bump(DataResource.SHELTER_POST, "1");
+
+        // then
+        verify(valueOperations).set(eq("data-version:shelter-post:1"), anyString(), eq(Duration.ofDays(7)));
+        verify(valueOperations, never()).set(eq("data-version:shelter-post"), anyString());
+    }
+}
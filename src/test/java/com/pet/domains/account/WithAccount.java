@@ -10,4 +10,6 @@ public @interface WithAccount {
 
     String value() default "tester";
 
+    String[] roles() default "ROLE_USER";
+
 }
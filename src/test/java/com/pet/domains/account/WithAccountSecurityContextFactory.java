@@ -10,9 +10,11 @@ import com.pet.domains.account.domain.Provider;
 import com.pet.domains.account.service.AccountService;
 import com.pet.domains.account.service.LoginService;
 import com.pet.domains.auth.domain.Group;
-import java.util.List;
+import java.util.Arrays;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.test.context.support.WithSecurityContextFactory;
@@ -20,8 +22,6 @@ import org.springframework.security.test.context.support.WithSecurityContextFact
 @RequiredArgsConstructor
 public class WithAccountSecurityContextFactory implements WithSecurityContextFactory<WithAccount> {
 
-    private static final String ROLE_USER = "ROLE_USER";
-
     private final JwtAuthenticationProvider provider;
 
     private final LoginService loginService;
@@ -36,7 +36,9 @@ public class WithAccountSecurityContextFactory implements WithSecurityContextFac
 
         given(loginService.login(email, password)).willReturn(account);
         given(loginService.checkLoginAccountById(anyLong())).willReturn(account);
-        given(group.getAuthorities()).willReturn(List.of((GrantedAuthority)() -> ROLE_USER));
+        given(group.getAuthorities()).willReturn(Arrays.stream(withAccount.roles())
+            .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+            .collect(Collectors.toList()));
 
         SecurityContext context = SecurityContextHolder.createEmptyContext();
         context.setAuthentication(provider.authenticate(new JwtAuthenticationToken(email, password)));
@@ -1,15 +1,28 @@
 package com.pet.domains.account.service;
 
 import com.pet.common.exception.httpexception.NotFoundException;
+import com.pet.common.version.DataResource;
+import com.pet.common.version.DataVersionRegistry;
 import com.pet.domains.account.domain.Account;
 import com.pet.domains.account.dto.request.AccountAreaUpdateParam;
 import com.pet.domains.account.repository.AccountRepository;
+import com.pet.domains.animal.domain.Animal;
+import com.pet.domains.animal.domain.AnimalKind;
 import com.pet.domains.area.domain.City;
 import com.pet.domains.area.domain.InterestArea;
 import com.pet.domains.area.domain.Town;
 import com.pet.domains.area.mapper.InterestAreaMapper;
 import com.pet.domains.area.repository.InterestAreaRepository;
 import com.pet.domains.area.repository.TownRepository;
+import com.pet.domains.post.domain.MissingPost;
+import com.pet.domains.post.domain.SexType;
+import com.pet.domains.post.domain.Status;
+import com.pet.domains.post.repository.MissingPostRepository;
+import com.pet.domains.statistics.domain.FacetDeltas;
+import com.pet.domains.statistics.domain.FacetDimension;
+import com.pet.domains.statistics.domain.FacetTarget;
+import com.pet.domains.statistics.service.PostFacetService;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -17,9 +30,11 @@ import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
@@ -43,6 +58,15 @@ class AccountServiceTest {
     @Mock
     private TownRepository townRepository;
 
+    @Mock
+    private MissingPostRepository missingPostRepository;
+
+    @Mock
+    private PostFacetService postFacetService;
+
+    @Mock
+    private DataVersionRegistry dataVersionRegistry;
+
     @Test
     @DisplayName("지역 2개 변경 성공 테스트")
     void set2AreaTest() {
@@ -160,4 +184,59 @@ class AccountServiceTest {
         assertThat(areas.size()).isEqualTo(1);
         assertThat(areas.get(0).isSelected()).isTrue();
     }
+
+    @Test
+    @DisplayName("회원 탈퇴 시 작성한 게시글 수만큼 필터 카운트를 줄임")
+    void deleteAccountTest() {
+        Account account = mock(Account.class);
+        City city = City.builder().code("123").name("서울시").build();
+        Animal animal = Animal.builder().code("417000").name("개").build();
+        ReflectionTestUtils.setField(city, "id", 1L);
+        ReflectionTestUtils.setField(animal, "id", 2L);
+        Town town = Town.builder().name("도봉구").city(city).build();
+        AnimalKind animalKind = AnimalKind.builder().code("001").name("푸들").animal(animal).build();
+        List<MissingPost> missingPosts = List.of(
+            givenMissingPost(account, Status.MISSING, town, animalKind),
+            givenMissingPost(account, Status.DETECTION, town, animalKind));
+        given(missingPostRepository.findAllByAccount(account)).willReturn(missingPosts);
+
+        accountService.deleteAccount(account);
+
+        ArgumentCaptor<FacetDeltas> facetDeltasCaptor = ArgumentCaptor.forClass(FacetDeltas.class);
+        verify(missingPostRepository).deleteAll(missingPosts);
+        verify(postFacetService).apply(eq(FacetTarget.MISSING_POST), facetDeltasCaptor.capture());
+        verify(dataVersionRegistry).bumpAfterCommit(DataResource.MISSING_POST);
+        verify(accountRepository).delete(account);
+        FacetDeltas facetDeltas = facetDeltasCaptor.getValue();
+        assertThat(facetDeltas.get(FacetDimension.CITY)).containsExactly(entry("1", -2L));
+        assertThat(facetDeltas.get(FacetDimension.ANIMAL)).containsExactly(entry("2", -2L));
+        assertThat(facetDeltas.get(FacetDimension.SEX)).containsExactly(entry("MALE", -2L));
+        assertThat(facetDeltas.get(FacetDimension.STATUS))
+            .containsOnly(entry("MISSING", -1L), entry("DETECTION", -1L));
+    }
+
+    @Test
+    @DisplayName("작성한 게시글이 없는 회원이 탈퇴하면 게시글 버전을 올리지 않음")
+    void deleteAccountWithoutMissingPostTest() {
+        Account account = mock(Account.class);
+        given(missingPostRepository.findAllByAccount(account)).willReturn(List.of());
+
+        accountService.deleteAccount(account);
+
+        verify(dataVersionRegistry, never()).bumpAfterCommit(any());
+        verify(accountRepository).delete(account);
+    }
+
+    private MissingPost givenMissingPost(Account account, Status status, Town town, AnimalKind animalKind) {
+        return MissingPost.builder()
+            .status(status)
+            .date(LocalDate.now())
+            .sexType(SexType.MALE)
+            .content("content")
+            .telNumber("01033342231")
+            .account(account)
+            .town(town)
+            .animalKind(animalKind)
+            .build();
+    }
 }
@@ -0,0 +1,48 @@
+package com.pet.domains.animal.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import com.pet.domains.animal.domain.Animal;
+import com.pet.domains.animal.domain.AnimalKind;
+import com.pet.domains.animal.repository.AnimalKindRepository;
+import com.pet.domains.animal.repository.AnimalRepository;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("기타 품종 생성 서비스 테스트")
+class AnimalKindCreateServiceTest {
+
+    @Mock
+    private AnimalKindRepository animalKindRepository;
+
+    @Mock
+    private AnimalRepository animalRepository;
+
+    @InjectMocks
+    private AnimalKindCreateService animalKindCreateService;
+
+    @Test
+    @DisplayName("기타 동물의 품종으로 저장")
+    void createEtcAnimalKindsTest() {
+        // given
+        Animal etcAnimal = Animal.builder().code("429900").name("기타").build();
+        List<AnimalKind> createdAnimalKinds = List.of(AnimalKind.builder().name("페럿").animal(etcAnimal).build());
+        given(animalRepository.findByName("기타")).willReturn(Optional.of(etcAnimal));
+        given(animalKindRepository.saveAll(anyList())).willReturn(createdAnimalKinds);
+
+        // when
+        List<AnimalKind> result = animalKindCreateService.createEtcAnimalKinds(Set.of("페럿"));
+
+        // then
+        assertThat(result).isEqualTo(createdAnimalKinds);
+    }
+}
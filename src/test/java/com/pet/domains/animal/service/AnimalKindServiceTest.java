@@ -0,0 +1,185 @@
+package com.pet.domains.animal.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import com.pet.common.cache.CacheEvictor;
+import com.pet.common.version.DataResource;
+import com.pet.common.version.DataVersionRegistry;
+import com.pet.domains.animal.domain.Animal;
+import com.pet.domains.animal.domain.AnimalKind;
+import com.pet.domains.animal.dto.request.AnimalKindCreateParams;
+import com.pet.domains.animal.repository.AnimalKindRepository;
+import com.pet.domains.animal.repository.AnimalRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.interceptor.SimpleKey;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("품종 서비스 테스트")
+class AnimalKindServiceTest {
+
+    @Mock
+    private AnimalKindRepository animalKindRepository;
+
+    @Mock
+    private AnimalRepository animalRepository;
+
+    @Mock
+    private DataVersionRegistry dataVersionRegistry;
+
+    @Mock
+    private CacheEvictor cacheEvictor;
+
+    @Mock
+    private AnimalKindCreateService animalKindCreateService;
+
+    @InjectMocks
+    private AnimalKindService animalKindService;
+
+    @Test
+    @DisplayName("없는 품종만 한 번에 생성하여 사전에 추가")
+    void createMissingAnimalKindsByEtcAnimalTest() {
+        // given
+        Animal etcAnimal = Animal.builder().code("429900").name("기타").build();
+        given(animalKindRepository.findAll())
+            .willReturn(List.of(AnimalKind.builder().name("믹스견").animal(etcAnimal).build()));
+        given(animalKindCreateService.createEtcAnimalKinds(Set.of("페럿")))
+            .willReturn(List.of(AnimalKind.builder().name("페럿").animal(etcAnimal).build()));
+        AnimalKindDictionary animalKindDictionary = animalKindService.getAnimalKindDictionary();
+
+        // when
+        animalKindService.createMissingAnimalKindsByEtcAnimal(animalKindDictionary, Set.of("믹스견", "페럿"));
+        animalKindService.createMissingAnimalKindsByEtcAnimal(animalKindDictionary, Set.of("믹스견", "페럿"));
+
+        // then
+        verify(animalKindCreateService, times(1)).createEtcAnimalKinds(Set.of("페럿"));
+        assertThat(animalKindDictionary.getByName("페럿").getName()).isEqualTo("페럿");
+        assertThat(animalKindDictionary.isChanged()).isTrue();
+    }
+
+    @Test
+    @DisplayName("모든 품종이 있으면 생성하지 않음")
+    void createMissingAnimalKindsByEtcAnimalWithoutMissingTest() {
+        // given
+        given(animalKindRepository.findAll())
+            .willReturn(List.of(AnimalKind.builder().name("믹스견").build()));
+        AnimalKindDictionary animalKindDictionary = animalKindService.getAnimalKindDictionary();
+
+        // when
+        animalKindService.createMissingAnimalKindsByEtcAnimal(animalKindDictionary, Set.of("믹스견"));
+
+        // then
+        verify(animalKindCreateService, never()).createEtcAnimalKinds(anySet());
+        assertThat(animalKindDictionary.size()).isEqualTo(1);
+        assertThat(animalKindDictionary.isChanged()).isFalse();
+    }
+
+    @Test
+    @DisplayName("사전에 새 품종이 들어간 실행이 끝나면 버전을 올린 뒤 캐시를 비움")
+    void evictAnimalsCacheIfChangedTest() {
+        // given
+        AnimalKindDictionary animalKindDictionary = new AnimalKindDictionary(List.of());
+        animalKindDictionary.addAll(List.of(AnimalKind.builder().name("페럿").build()));
+
+        // when
+        animalKindService.evictAnimalsCacheIfChanged(animalKindDictionary);
+
+        // then
+        InOrder inOrder = inOrder(dataVersionRegistry, cacheEvictor);
+        inOrder.verify(dataVersionRegistry).bumpAfterCommit(DataResource.ANIMAL);
+        inOrder.verify(cacheEvictor).evictAfterCommit("animals", SimpleKey.EMPTY);
+    }
+
+    @Test
+    @DisplayName("여러 청크에서 새 품종을 만들어도 실행이 끝날 때 한 번만 캐시를 비움")
+    void createInSeveralChunksEvictOnceTest() {
+        // given
+        given(animalKindRepository.findAll()).willReturn(List.of());
+        given(animalKindCreateService.createEtcAnimalKinds(Set.of("페럿")))
+            .willReturn(List.of(AnimalKind.builder().name("페럿").build()));
+        given(animalKindCreateService.createEtcAnimalKinds(Set.of("햄스터")))
+            .willReturn(List.of(AnimalKind.builder().name("햄스터").build()));
+        AnimalKindDictionary animalKindDictionary = animalKindService.getAnimalKindDictionary();
+        animalKindService.createMissingAnimalKindsByEtcAnimal(animalKindDictionary, Set.of("페럿"));
+        animalKindService.createMissingAnimalKindsByEtcAnimal(animalKindDictionary, Set.of("햄스터"));
+
+        // when
+        animalKindService.evictAnimalsCacheIfChanged(animalKindDictionary);
+
+        // then
+        verify(dataVersionRegistry, times(1)).bumpAfterCommit(DataResource.ANIMAL);
+        verify(cacheEvictor, times(1)).evictAfterCommit("animals", SimpleKey.EMPTY);
+    }
+
+    @Test
+    @DisplayName("새 품종이 없으면 캐시와 버전을 건드리지 않음")
+    void evictAnimalsCacheIfNotChangedTest() {
+        // when
+        animalKindService.evictAnimalsCacheIfChanged(new AnimalKindDictionary(List.of()));
+
+        // then
+        verify(dataVersionRegistry, never()).bumpAfterCommit(DataResource.ANIMAL);
+        verify(cacheEvictor, never()).evictAfterCommit(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("코드 기준으로 새 품종은 추가하고 이름이 바뀐 품종만 수정")
+    void syncAnimalKindsTest() {
+        // given
+        Animal dog = mock(Animal.class);
+        given(dog.getId()).willReturn(1L);
+        given(dog.getCode()).willReturn("417000");
+        AnimalKind mixed = AnimalKind.builder().name("믹스견").code("000114").animal(dog).build();
+        AnimalKind jindo = AnimalKind.builder().name("진도").code("000054").animal(dog).build();
+        given(animalRepository.findAllByCodeIn(Set.of("417000"))).willReturn(List.of(dog));
+        given(animalKindRepository.findAllByAnimalIn(List.of(dog))).willReturn(List.of(mixed, jindo));
+
+        AnimalKindCreateParams createParams = mock(AnimalKindCreateParams.class);
+        given(createParams.getAnimalKinds()).willReturn(List.of(
+            getAnimalKindParam("믹스견", "000114"),
+            getAnimalKindParam("진도견", "000054"),
+            getAnimalKindParam("포메라니안", "000171")
+        ));
+
+        // when
+        int changedCount = animalKindService.syncAnimalKinds(Map.of("417000", createParams));
+
+        // then
+        ArgumentCaptor<List<AnimalKind>> captor = ArgumentCaptor.forClass(List.class);
+        verify(animalKindRepository).saveAll(captor.capture());
+        InOrder inOrder = inOrder(dataVersionRegistry, cacheEvictor);
+        inOrder.verify(dataVersionRegistry).bumpAfterCommit(DataResource.ANIMAL);
+        inOrder.verify(cacheEvictor).evictAfterCommit("animals", SimpleKey.EMPTY);
+        SoftAssertions.assertSoftly(softAssertions -> {
+            softAssertions.assertThat(changedCount).isEqualTo(2);
+            softAssertions.assertThat(jindo.getName()).isEqualTo("진도견");
+            softAssertions.assertThat(captor.getValue()).extracting(AnimalKind::getName).containsExactly("포메라니안");
+        });
+    }
+
+    private AnimalKindCreateParams.AnimalKind getAnimalKindParam(String name, String code) {
+        AnimalKindCreateParams.AnimalKind animalKindParam = mock(AnimalKindCreateParams.AnimalKind.class);
+        given(animalKindParam.getName()).willReturn(name);
+        given(animalKindParam.getCode()).willReturn(code);
+        return animalKindParam;
+    }
+
+}
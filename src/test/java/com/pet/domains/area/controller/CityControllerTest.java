@@ -71,7 +71,9 @@ class CityControllerTest extends BaseDocumentationTest {
                     headerWithName(HttpHeaders.ACCEPT).description(MediaType.APPLICATION_JSON_VALUE)
                 ),
                 responseHeaders(
-                    headerWithName(HttpHeaders.CONTENT_TYPE).description(MediaType.APPLICATION_JSON_VALUE)
+                    headerWithName(HttpHeaders.CONTENT_TYPE).description(MediaType.APPLICATION_JSON_VALUE),
+                    headerWithName(HttpHeaders.ETAG).description("응답 본문의 해시"),
+                    headerWithName(HttpHeaders.CACHE_CONTROL).description("캐시 정책")
                 ),
                 responseFields(
                     fieldWithPath("data").type(OBJECT).description("응답 데이터"),
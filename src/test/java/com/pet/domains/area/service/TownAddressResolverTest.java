@@ -0,0 +1,97 @@
+package com.pet.domains.area.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import com.pet.domains.area.domain.City;
+import com.pet.domains.area.domain.Town;
+import com.pet.domains.area.repository.CityRepository;
+import java.util.List;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("주소 -> 시/군/구 변환 테스트")
+class TownAddressResolverTest {
+
+    @Mock
+    private CityRepository cityRepository;
+
+    @InjectMocks
+    private TownAddressResolver townAddressResolver;
+
+    private City seoul;
+
+    private City gyeonggi;
+
+    @BeforeEach
+    void setUp() {
+        seoul = City.builder().code("6110000").name("서울특별시").build();
+        addTown(seoul, "광진구");
+        addTown(seoul, "전체");
+        gyeonggi = City.builder().code("6410000").name("경기도").build();
+        addTown(gyeonggi, "수원시");
+        addTown(gyeonggi, "수원시 권선구");
+    }
+
+    @Test
+    @DisplayName("주소를 시/군/구로 변환 성공")
+    void resolveTest() {
+        // given
+        given(cityRepository.findAll()).willReturn(List.of(seoul, gyeonggi));
+
+        // when // then
+        SoftAssertions.assertSoftly(softAssertions -> {
+            softAssertions.assertThat(townAddressResolver.resolve("서울특별시 광진구"))
+                .hasValueSatisfying(town -> assertThat(town.getName()).isEqualTo("광진구"));
+            softAssertions.assertThat(townAddressResolver.resolve("서울특별시"))
+                .hasValueSatisfying(town -> assertThat(town.getName()).isEqualTo("전체"));
+            softAssertions.assertThat(townAddressResolver.resolve("경기도 수원시 권선구"))
+                .hasValueSatisfying(town -> assertThat(town.getName()).isEqualTo("수원시 권선구"));
+            softAssertions.assertThat(townAddressResolver.resolve("경기도 수원시 장안구"))
+                .hasValueSatisfying(town -> assertThat(town.getName()).isEqualTo("수원시"));
+        });
+        verify(cityRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("찾을 수 없는 주소는 빈 값 반환")
+    void resolveUnknownAddressTest() {
+        // given
+        given(cityRepository.findAll()).willReturn(List.of(seoul, gyeonggi));
+
+        // when // then
+        SoftAssertions.assertSoftly(softAssertions -> {
+            softAssertions.assertThat(townAddressResolver.resolve("서울특별시 노원구")).isEmpty();
+            softAssertions.assertThat(townAddressResolver.resolve("경기도")).isEmpty();
+            softAssertions.assertThat(townAddressResolver.resolve("부산광역시 해운대구")).isEmpty();
+        });
+    }
+
+    @Test
+    @DisplayName("지역이 바뀌면 다시 읽어온다")
+    void invalidateTest() {
+        // given
+        given(cityRepository.findAll()).willReturn(List.of(seoul));
+        townAddressResolver.resolve("서울특별시 광진구");
+        addTown(seoul, "노원구");
+
+        // when
+        townAddressResolver.invalidate();
+
+        // then
+        assertThat(townAddressResolver.resolve("서울특별시 노원구")).isPresent();
+        verify(cityRepository, times(2)).findAll();
+    }
+
+    private void addTown(City city, String townName) {
+        city.getTowns().add(Town.builder().city(city).name(townName).build());
+    }
+}
@@ -0,0 +1,72 @@
+package com.pet.domains.comment.mapper;
+
+import com.pet.domains.comment.domain.Comment;
+import com.pet.domains.comment.dto.response.CommentPageResults;
+import com.pet.domains.comment.repository.projection.CommentRow;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+@DisplayName("댓글 매퍼 테스트")
+class CommentMapperTest {
+
+    private final CommentMapper commentMapper = Mappers.getMapper(CommentMapper.class);
+
+    @Test
+    @DisplayName("대댓글을 부모 댓글별로 묶고 조회 순서를 유지")
+    void toCommentPageResultsTest() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        List<CommentRow> parentCommentRows = List.of(
+            new CommentRow(2L, null, "부모 댓글2", false, now, 1L, "nickname", "image.jpg"),
+            new CommentRow(1L, null, "부모 댓글1", true, now, 1L, "nickname", "image.jpg"));
+        List<CommentRow> childCommentRows = List.of(
+            new CommentRow(3L, 1L, "부모1의 대댓글 1", false, now, 2L, "child", null),
+            new CommentRow(4L, 2L, "부모2의 대댓글 1", false, now, 2L, "child", null),
+            new CommentRow(5L, 1L, "부모1의 대댓글 2", false, now, null, null, null));
+
+        // when
+        CommentPageResults commentPageResults = commentMapper.toCommentPageResults(
+            new PageImpl<>(parentCommentRows, PageRequest.of(0, 10), 2), childCommentRows);
+
+        // then
+        List<CommentPageResults.Comment> comments = commentPageResults.getComments();
+        SoftAssertions.assertSoftly(softAssertions -> {
+            softAssertions.assertThat(commentPageResults.getTotalElements()).isEqualTo(2);
+            softAssertions.assertThat(commentPageResults.isLast()).isTrue();
+            softAssertions.assertThat(comments).extracting(CommentPageResults.Comment::getId)
+                .containsExactly(2L, 1L);
+            softAssertions.assertThat(comments.get(0).getChildComments())
+                .extracting(CommentPageResults.Comment.ChildComment::getId)
+                .containsExactly(4L);
+            softAssertions.assertThat(comments.get(1).getChildComments())
+                .extracting(CommentPageResults.Comment.ChildComment::getId)
+                .containsExactly(3L, 5L);
+            softAssertions.assertThat(comments.get(1).getContent()).isEqualTo(Comment.COMMENT_DELETED_MESSAGE);
+            softAssertions.assertThat(comments.get(1).getChildComments().get(1).getAccount()).isNull();
+        });
+    }
+
+    @Test
+    @DisplayName("대댓글이 없는 부모 댓글은 빈 목록")
+    void toCommentReadResultsWithoutChildTest() {
+        // given
+        List<CommentRow> parentCommentRows = List.of(
+            new CommentRow(1L, null, "부모 댓글", false, LocalDateTime.now(), 1L, "nickname", null));
+
+        // when
+        List<CommentPageResults.Comment> comments = commentMapper.toCommentReadResults(parentCommentRows, List.of());
+
+        // then
+        SoftAssertions.assertSoftly(softAssertions -> {
+            softAssertions.assertThat(comments).hasSize(1);
+            softAssertions.assertThat(comments.get(0).getChildComments()).isEmpty();
+            softAssertions.assertThat(comments.get(0).getAccount().getNickname()).isEqualTo("nickname");
+        });
+    }
+}
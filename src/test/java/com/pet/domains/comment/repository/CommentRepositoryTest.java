@@ -11,11 +11,14 @@ import com.pet.domains.auth.domain.Group;
 import com.pet.domains.auth.domain.GroupPermission;
 import com.pet.domains.auth.domain.Permission;
 import com.pet.domains.comment.domain.Comment;
+import com.pet.domains.comment.dto.request.CommentCursor;
+import com.pet.domains.comment.repository.projection.CommentRow;
 import com.pet.domains.post.domain.MissingPost;
 import com.pet.domains.post.domain.SexType;
 import com.pet.domains.post.domain.Status;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,6 +32,7 @@ import org.springframework.context.annotation.ComponentScan.Filter;
 import org.springframework.context.annotation.FilterType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @DataJpaTest(includeFilters = @Filter(
@@ -196,8 +200,8 @@ class CommentRepositoryTest {
     }
 
     @Test
-    @DisplayName("댓글 목록 조회 테스트")
-    void findAllWithFetchTest() {
+    @DisplayName("댓글 목록 프로젝션 조회 테스트")
+    void findCommentRowsTest() {
         // given
         Comment parentComment = Comment.builder()
             .missingPost(missingPost)
@@ -233,16 +237,90 @@ class CommentRepositoryTest {
 
         // when
         commentRepository.deleteById(parentComment2.getId());
-        Page<Comment> comments = commentRepository.findAllByMissingPostId(missingPost.getId(), PageRequest.of(0, 10));
+        Page<CommentRow> parentCommentRows = commentRepository.findParentCommentRowsByMissingPostId(
+            missingPost.getId(), PageRequest.of(0, 10, Sort.by("id")));
+        List<CommentRow> childCommentRows = commentRepository.findChildCommentRowsByParentCommentIds(
+            List.of(parentComment.getId(), parentComment2.getId()));
 
         // then
         SoftAssertions.assertSoftly(softAssertions -> {
-                softAssertions.assertThat(comments.getTotalElements()).isEqualTo(2);
-                softAssertions.assertThat(comments.isLast()).isTrue();
-                softAssertions.assertThat(comments.getSize()).isEqualTo(10);
-                softAssertions.assertThat(comments.getContent().get(0).getChildComments()).hasSize(2);
-                softAssertions.assertThat(comments.getContent().get(1).getContent())
+                softAssertions.assertThat(parentCommentRows.getTotalElements()).isEqualTo(2);
+                softAssertions.assertThat(parentCommentRows.isLast()).isTrue();
+                softAssertions.assertThat(parentCommentRows.getContent().get(0).getNickname()).isEqualTo("nickname");
+                softAssertions.assertThat(parentCommentRows.getContent().get(1).getContent())
                     .isEqualTo(Comment.COMMENT_DELETED_MESSAGE);
+                softAssertions.assertThat(childCommentRows).extracting(CommentRow::getContent)
+                    .containsExactly("부모1의 대댓글 1", "부모1의 대댓글 2");
+                softAssertions.assertThat(childCommentRows).extracting(CommentRow::getParentCommentId)
+                    .containsOnly(parentComment.getId());
+            }
+        );
+    }
+
+    @Test
+    @DisplayName("탈퇴한 회원의 댓글도 목록에 포함")
+    void findCommentRowsOfDeletedAccountTest() {
+        // given
+        Comment comment = Comment.builder()
+            .missingPost(missingPost)
+            .account(account)
+            .content("탈퇴 회원의 댓글")
+            .build();
+        entityManager.persist(comment);
+        entityManager.flush();
+        entityManager.remove(entityManager.find(Account.class, account.getId()));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        Page<CommentRow> parentCommentRows = commentRepository.findParentCommentRowsByMissingPostId(
+            missingPost.getId(), PageRequest.of(0, 10));
+
+        // then
+        SoftAssertions.assertSoftly(softAssertions -> {
+                softAssertions.assertThat(parentCommentRows.getTotalElements()).isEqualTo(1);
+                softAssertions.assertThat(parentCommentRows.getContent()).extracting(CommentRow::getContent)
+                    .containsExactly("탈퇴 회원의 댓글");
+            }
+        );
+    }
+
+    @Test
+    @DisplayName("댓글 목록 커서 조회 테스트")
+    void findParentCommentRowsAfterCursorTest() {
+        // given
+        List<Comment> parentComments = LongStream.rangeClosed(1, 3)
+            .mapToObj(idx -> Comment.builder()
+                .missingPost(missingPost)
+                .account(account)
+                .content("부모 댓글" + idx)
+                .build())
+            .collect(Collectors.toList());
+        parentComments.forEach(entityManager::persist);
+        entityManager.persist(Comment.ChildCommentBuilder()
+            .missingPost(missingPost)
+            .account(account)
+            .parentComment(parentComments.get(0))
+            .content("부모1의 대댓글 1")
+            .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<CommentRow> firstRows = commentRepository.findParentCommentRowsByMissingPostIdAfterCursor(
+            missingPost.getId(), CommentCursor.first(), 2);
+        CommentRow lastRow = firstRows.get(firstRows.size() - 1);
+        List<CommentRow> nextRows = commentRepository.findParentCommentRowsByMissingPostIdAfterCursor(
+            missingPost.getId(), CommentCursor.next(lastRow.getId(), lastRow.getCreatedAt(), 3), 2);
+
+        // then
+        SoftAssertions.assertSoftly(softAssertions -> {
+                softAssertions.assertThat(commentRepository.countParentCommentsByMissingPostId(missingPost.getId()))
+                    .isEqualTo(3);
+                softAssertions.assertThat(firstRows).extracting(CommentRow::getContent)
+                    .containsExactly("부모 댓글3", "부모 댓글2");
+                softAssertions.assertThat(nextRows).extracting(CommentRow::getContent)
+                    .containsExactly("부모 댓글1");
             }
         );
     }
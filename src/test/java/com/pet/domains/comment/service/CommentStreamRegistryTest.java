@@ -0,0 +1,139 @@
+package com.pet.domains.comment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import com.pet.common.exception.httpexception.ConflictException;
+import com.pet.common.exception.httpexception.InternalServerException;
+import com.pet.domains.comment.dto.response.CommentEvent;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@DisplayName("댓글 스트림 구독자 목록 테스트")
+class CommentStreamRegistryTest {
+
+    private static final String CLIENT_KEY = "account:1";
+
+    private static final String OTHER_CLIENT_KEY = "address:127.0.0.1";
+
+    private CommentStreamRegistry commentStreamRegistry;
+
+    @BeforeEach
+    void setUp() {
+        commentStreamRegistry = new CommentStreamRegistry();
+        ReflectionTestUtils.setField(commentStreamRegistry, "heartbeatInterval", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(commentStreamRegistry, "maxSubscribers", 3);
+        ReflectionTestUtils.setField(commentStreamRegistry, "maxSubscribersPerClient", 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        commentStreamRegistry.stopHeartbeat();
+    }
+
+    @Test
+    @DisplayName("게시글별로 구독자를 나눠 담음")
+    void subscribeTest() {
+        // when
+        commentStreamRegistry.subscribe(1L, CLIENT_KEY);
+        commentStreamRegistry.subscribe(1L, OTHER_CLIENT_KEY);
+        commentStreamRegistry.subscribe(2L, CLIENT_KEY);
+
+        // then
+        assertThat(commentStreamRegistry.getSubscriberCount(1L)).isEqualTo(2);
+        assertThat(commentStreamRegistry.getSubscriberCount(2L)).isEqualTo(1);
+        assertThat(commentStreamRegistry.getSubscriberCount(3L)).isZero();
+        assertThat(commentStreamRegistry.getSubscriberCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("한 클라이언트가 제한보다 많이 구독하면 예외")
+    void subscribeOverClientLimitTest() {
+        // given
+        commentStreamRegistry.subscribe(1L, CLIENT_KEY);
+        commentStreamRegistry.subscribe(2L, CLIENT_KEY);
+
+        // when then
+        assertThatThrownBy(() -> commentStreamRegistry.subscribe(3L, CLIENT_KEY))
+            .isInstanceOf(ConflictException.class);
+        assertThat(commentStreamRegistry.getSubscriberCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("서버 전체 구독자가 제한을 넘으면 예외")
+    void subscribeOverNodeLimitTest() {
+        // given
+        commentStreamRegistry.subscribe(1L, CLIENT_KEY);
+        commentStreamRegistry.subscribe(1L, CLIENT_KEY);
+        commentStreamRegistry.subscribe(1L, OTHER_CLIENT_KEY);
+
+        // when then
+        assertThatThrownBy(() -> commentStreamRegistry.subscribe(1L, OTHER_CLIENT_KEY))
+            .isInstanceOf(InternalServerException.class);
+        assertThat(commentStreamRegistry.getSubscriberCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("끊긴 구독은 클라이언트 구독 수에서도 빠짐")
+    void releaseClosedEmitterTest() {
+        // given
+        SseEmitter closedEmitter = commentStreamRegistry.subscribe(1L, CLIENT_KEY);
+        commentStreamRegistry.subscribe(1L, CLIENT_KEY);
+        closedEmitter.complete();
+        commentStreamRegistry.sendHeartbeat();
+
+        // when
+        commentStreamRegistry.subscribe(2L, CLIENT_KEY);
+
+        // then
+        assertThat(commentStreamRegistry.getSubscriberCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("보내지 못한 구독자는 목록에서 뺌")
+    void deliverToClosedEmitterTest() {
+        // given
+        SseEmitter closedEmitter = commentStreamRegistry.subscribe(1L, CLIENT_KEY);
+        commentStreamRegistry.subscribe(1L, OTHER_CLIENT_KEY);
+        closedEmitter.complete();
+
+        // when
+        commentStreamRegistry.deliver(CommentEvent.of(CommentEvent.Type.DELETED, 1L, 10L, null, null));
+
+        // then
+        assertThat(commentStreamRegistry.getSubscriberCount(1L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("구독자가 모두 끊기면 게시글 항목도 지움")
+    void heartbeatTest() {
+        // given
+        commentStreamRegistry.subscribe(1L, CLIENT_KEY).complete();
+
+        // when
+        commentStreamRegistry.sendHeartbeat();
+
+        // then
+        assertThat(commentStreamRegistry.getSubscriberCount(1L)).isZero();
+        assertThat(commentStreamRegistry.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("하트비트는 전용 스레드에서 주기적으로 보냄")
+    void startHeartbeatTest() throws Exception {
+        // given
+        ReflectionTestUtils.setField(commentStreamRegistry, "heartbeatInterval", Duration.ofMillis(10));
+        commentStreamRegistry.subscribe(1L, CLIENT_KEY).complete();
+
+        // when
+        commentStreamRegistry.startHeartbeat();
+        Thread.sleep(200);
+
+        // then
+        assertThat(commentStreamRegistry.getSubscriberCount(1L)).isZero();
+    }
+}
@@ -0,0 +1,64 @@
+package com.pet.domains.comment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.pet.domains.comment.dto.response.CommentEvent;
+import com.pet.domains.comment.dto.response.CommentWriteResult;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@DisplayName("redis 댓글 이벤트 발행 테스트")
+class RedisCommentEventPublisherTest {
+
+    private StringRedisTemplate stringRedisTemplate;
+
+    private CommentStreamRegistry commentStreamRegistry;
+
+    private RedisCommentEventPublisher redisCommentEventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        commentStreamRegistry = mock(CommentStreamRegistry.class);
+        redisCommentEventPublisher = new RedisCommentEventPublisher(stringRedisTemplate,
+            new ObjectMapper().registerModule(new JavaTimeModule()), commentStreamRegistry);
+    }
+
+    @Test
+    @DisplayName("발행한 이벤트를 받으면 같은 내용으로 구독자에게 보냄")
+    void publishAndReceiveTest() {
+        // given
+        CommentWriteResult commentWriteResult = new CommentWriteResult(10L, "댓글",
+            LocalDateTime.of(2021, 12, 11, 10, 30), new CommentWriteResult.Account(1L, "회원#1", "http://../.jpg"),
+            List.of(), false);
+        redisCommentEventPublisher.publish(CommentEvent.of(CommentEvent.Type.CREATED, 1L, 10L, null,
+            commentWriteResult));
+        ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate).convertAndSend(eq(RedisCommentEventPublisher.CHANNEL), messageCaptor.capture());
+
+        // when
+        redisCommentEventPublisher.onMessage(new DefaultMessage(
+            RedisCommentEventPublisher.CHANNEL.getBytes(StandardCharsets.UTF_8),
+            messageCaptor.getValue().getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        ArgumentCaptor<CommentEvent> eventCaptor = ArgumentCaptor.forClass(CommentEvent.class);
+        verify(commentStreamRegistry).deliver(eventCaptor.capture());
+        CommentEvent commentEvent = eventCaptor.getValue();
+        assertThat(commentEvent.getType()).isEqualTo(CommentEvent.Type.CREATED);
+        assertThat(commentEvent.getPostId()).isEqualTo(1L);
+        assertThat(commentEvent.getComment().getContent()).isEqualTo("댓글");
+        assertThat(commentEvent.getComment().getAccount().getNickname()).isEqualTo("회원#1");
+    }
+}
@@ -5,6 +5,8 @@ import com.pet.common.config.SecurityConfig;
 import com.pet.common.jwt.JwtAuthentication;
 import com.pet.common.property.JwtProperty;
 import com.pet.common.property.RefreshJwtProperty;
+import com.pet.common.response.PreEncodedResponseCache;
+import com.pet.common.version.DataVersionRegistry;
 import com.pet.domains.account.controller.AccountController;
 import com.pet.domains.account.controller.NotificationController;
 import com.pet.domains.account.service.AccountService;
@@ -17,15 +19,19 @@ import com.pet.domains.area.service.CityService;
 import com.pet.domains.auth.service.AuthenticationService;
 import com.pet.domains.comment.controller.CommentController;
 import com.pet.domains.comment.service.CommentService;
+import com.pet.domains.comment.service.CommentStreamRegistry;
 import com.pet.domains.docs.controller.CommonDocumentationController;
 import com.pet.domains.image.service.ImageService;
 import com.pet.domains.post.controller.MissingPostController;
 import com.pet.domains.post.controller.ShelterPostController;
+import com.pet.domains.post.controller.ShelterPostSyncController;
 import com.pet.domains.post.service.MissingPostBookmarkService;
 import com.pet.domains.post.service.MissingPostService;
 import com.pet.domains.post.service.ShelterPostBookmarkService;
 import com.pet.domains.post.service.ShelterPostService;
+import com.pet.domains.post.service.ShelterPostSyncService;
 import com.pet.domains.statistics.controller.PostStatisticsController;
+import com.pet.domains.statistics.service.PostFacetService;
 import com.pet.domains.statistics.service.PostStatisticsService;
 import org.junit.jupiter.api.Disabled;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -48,9 +54,11 @@ import org.springframework.test.web.servlet.MockMvc;
     CommentController.class,
     MissingPostController.class,
     ShelterPostController.class,
+    ShelterPostSyncController.class,
     PostStatisticsController.class},
     includeFilters = {
-        @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = SecurityConfig.class)
+        @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+            classes = {SecurityConfig.class, PreEncodedResponseCache.class})
     }
 )
 @AutoConfigureRestDocs
@@ -85,15 +93,24 @@ public abstract class BaseDocumentationTest {
     @MockBean
     protected CommentService commentService;
 
+    @MockBean
+    protected CommentStreamRegistry commentStreamRegistry;
+
     @MockBean
     protected ShelterPostService shelterPostService;
 
+    @MockBean
+    protected ShelterPostSyncService shelterPostSyncService;
+
     @MockBean
     protected MissingPostBookmarkService missingPostBookmarkService;
 
     @MockBean
     protected PostStatisticsService postStatisticsService;
 
+    @MockBean
+    protected PostFacetService postFacetService;
+
     @MockBean
     protected NotificationService notificationService;
 
@@ -103,6 +120,9 @@ public abstract class BaseDocumentationTest {
     @MockBean
     protected LoginService loginService;
 
+    @MockBean
+    protected DataVersionRegistry dataVersionRegistry;
+
     protected JwtAuthentication getAuthenticationToken() {
         return (JwtAuthentication) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
     }
@@ -4,8 +4,11 @@ import static com.pet.domains.docs.utils.ApiDocumentUtils.getDocumentRequest;
 import static com.pet.domains.docs.utils.ApiDocumentUtils.getDocumentResponse;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
@@ -29,6 +32,7 @@ import static org.springframework.restdocs.request.RequestDocumentation.requestP
 import static org.springframework.restdocs.request.RequestDocumentation.requestParts;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import com.pet.domains.account.WithAccount;
 import com.pet.domains.account.domain.Account;
@@ -59,6 +63,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @DisplayName("실종/보호 게시물 컨트롤러 테스트")
 class MissingPostControllerTest extends BaseDocumentationTest {
@@ -511,8 +516,140 @@ class MissingPostControllerTest extends BaseDocumentationTest {
                     fieldWithPath("data.totalElements").type(NUMBER).description("전체 결과 수"),
                     fieldWithPath("data.last").type(BOOLEAN).description("마지막 페이지 여부"),
                     fieldWithPath("data.size").type(NUMBER).description("페이지당 요청 수"),
+                    fieldWithPath("data.nextCursor").type(STRING).description("다음 페이지 커서, 커서 조회에서만 사용")
+                        .optional(),
                     fieldWithPath("serverDateTime").type(STRING).description("서버 응답 시간")))
             );
     }
 
+    @Test
+    @DisplayName("실종 게시글의 댓글 커서 조회 테스트")
+    void getMissingPostCommentsByCursorTest() throws Exception {
+        // given
+        CommentPageResults commentPageResults = new CommentPageResults(
+            List.of(new CommentPageResults.Comment(
+                41L,
+                "부모 댓글 #41",
+                LocalDateTime.of(2021, 12, 11, 10, 30),
+                new Comment.Account(1L, "회원#1", "http://../.jpg"),
+                List.of(new ChildComment(
+                    43L,
+                    "자식 댓글 #43",
+                    LocalDateTime.of(2021, 12, 11, 11, 0),
+                    new Comment.Account(2L, "회원#2", "http://../.jpg"))
+                ),
+                false)),
+            120,
+            false,
+            1,
+            "NDEsMjAyMS0xMi0xMVQxMDozMCwxMjA"
+        );
+        given(commentService.getMissingPostCommentsByCursor(anyLong(), anyString(), anyInt()))
+            .willReturn(commentPageResults);
+
+        // when
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/missing-posts/{postId}/comments", 1L)
+            .accept(MediaType.APPLICATION_JSON_VALUE)
+            .param("cursor", "NDIsMjAyMS0xMi0xMVQxMTozMCwxMjA")
+            .param("size", "1"));
+
+        // then
+        resultActions
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andDo(document("get-missing-post-comments-by-cursor",
+                getDocumentRequest(),
+                getDocumentResponse(),
+                requestHeaders(
+                    headerWithName(HttpHeaders.ACCEPT).description(MediaType.APPLICATION_JSON_VALUE)
+                ),
+                pathParameters(
+                    parameterWithName("postId").description("실종 게시글 아이디")
+                ),
+                requestParameters(
+                    parameterWithName("cursor").description("이전 응답의 nextCursor, 첫 페이지는 빈 값"),
+                    parameterWithName("size").description("페이지 크기")
+                ),
+                responseHeaders(
+                    headerWithName(HttpHeaders.CONTENT_TYPE).description(MediaType.APPLICATION_JSON_VALUE)
+                ),
+                responseFields(
+                    fieldWithPath("data").type(OBJECT).description("응답 데이터"),
+                    fieldWithPath("data.comments").type(ARRAY).description("댓글 목록"),
+                    fieldWithPath("data.comments[].id").type(NUMBER).description("댓글 아이디"),
+                    fieldWithPath("data.comments[].content").type(STRING).description("댓글 내용"),
+                    fieldWithPath("data.comments[].createdAt").type(STRING).description("댓글 작성날짜"),
+                    fieldWithPath("data.comments[].deleted").type(BOOLEAN).description("삭제된 댓글 여부"),
+                    fieldWithPath("data.comments[].account").type(OBJECT).description("댓글 작성자"),
+                    fieldWithPath("data.comments[].account.id").type(NUMBER).description("작성자 아이디"),
+                    fieldWithPath("data.comments[].account.nickname").type(STRING).description("작성자 닉네임"),
+                    fieldWithPath("data.comments[].account.image").type(STRING).description("작성자 프로필 사진"),
+                    fieldWithPath("data.comments[].childComments").type(ARRAY).description("댓글의 대댓글 목록"),
+                    fieldWithPath("data.comments[].childComments[].id").type(NUMBER).description("대댓글 아이디"),
+                    fieldWithPath("data.comments[].childComments[].content").type(STRING).description("대댓글 내용"),
+                    fieldWithPath("data.comments[].childComments[].createdAt").type(STRING).description("대댓글 작성날짜"),
+                    fieldWithPath("data.comments[].childComments[].account").type(OBJECT).description("대댓글 작성자"),
+                    fieldWithPath("data.comments[].childComments[].account.id").type(NUMBER).description("작성자 아이디"),
+                    fieldWithPath("data.comments[].childComments[].account.nickname").type(STRING)
+                        .description("작성자 닉네임"),
+                    fieldWithPath("data.comments[].childComments[].account.image").type(STRING)
+                        .description("작성자 프로필 사진"),
+                    fieldWithPath("data.totalElements").type(NUMBER).description("전체 결과 수"),
+                    fieldWithPath("data.last").type(BOOLEAN).description("마지막 페이지 여부"),
+                    fieldWithPath("data.size").type(NUMBER).description("페이지 크기"),
+                    fieldWithPath("data.nextCursor").type(STRING).description("다음 페이지 커서, 마지막 페이지면 null")
+                        .optional(),
+                    fieldWithPath("serverDateTime").type(STRING).description("서버 응답 시간")))
+            );
+    }
+
+    @Test
+    @DisplayName("실종 게시글의 댓글 스트림 구독 테스트")
+    void streamMissingPostCommentsTest() throws Exception {
+        // given
+        given(commentStreamRegistry.subscribe(anyLong(), anyString())).willReturn(new SseEmitter());
+
+        // when
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/missing-posts/{postId}/comments/stream", 1L)
+            .accept(MediaType.TEXT_EVENT_STREAM_VALUE));
+
+        // then
+        resultActions
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(request().asyncStarted())
+            .andDo(document("stream-missing-post-comments",
+                getDocumentRequest(),
+                getDocumentResponse(),
+                requestHeaders(
+                    headerWithName(HttpHeaders.ACCEPT).description(MediaType.TEXT_EVENT_STREAM_VALUE)
+                ),
+                pathParameters(
+                    parameterWithName("postId").description("실종 게시글 아이디")
+                ))
+            );
+        then(commentService).should().validateMissingPostExists(1L);
+        then(commentStreamRegistry).should().subscribe(1L, "address:127.0.0.1");
+    }
+
+    @Test
+    @WithAccount
+    @DisplayName("로그인한 회원은 회원별로 댓글 스트림 구독 수를 셈")
+    void streamMissingPostCommentsWithAccountTest() throws Exception {
+        // given
+        given(commentStreamRegistry.subscribe(anyLong(), anyString())).willReturn(new SseEmitter());
+
+        // when
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/missing-posts/{postId}/comments/stream", 1L)
+            .accept(MediaType.TEXT_EVENT_STREAM_VALUE)
+            .header(HttpHeaders.AUTHORIZATION, getAuthenticationToken()));
+
+        // then
+        resultActions
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(request().asyncStarted());
+        then(commentStreamRegistry).should().subscribe(1L, "account:" + getAuthenticationToken().getAccountId());
+    }
+
 }
@@ -3,8 +3,12 @@ package com.pet.domains.post.controller;
 import static com.pet.domains.docs.utils.ApiDocumentUtils.getDocumentRequest;
 import static com.pet.domains.docs.utils.ApiDocumentUtils.getDocumentResponse;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
 import static org.springframework.restdocs.headers.HeaderDocumentation.responseHeaders;
@@ -23,7 +27,9 @@ import static org.springframework.restdocs.request.RequestDocumentation.paramete
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
 import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import com.pet.common.version.DataResource;
 import com.pet.domains.account.WithAccount;
 import com.pet.domains.account.domain.Account;
 import com.pet.domains.docs.BaseDocumentationTest;
@@ -114,6 +120,84 @@ class ShelterPostControllerTest extends BaseDocumentationTest {
                     fieldWithPath("data.totalElements").type(NUMBER).description("전체 데이터수"),
                     fieldWithPath("data.last").type(BOOLEAN).description("마지막 페이지 여부"),
                     fieldWithPath("data.size").type(NUMBER).description("페이지 크기"),
+                    fieldWithPath("data.nextCursor").type(STRING).description("다음 페이지 커서, 커서 조회에서만 사용")
+                        .optional(),
+                    fieldWithPath("serverDateTime").type(STRING).description("서버 응답 시간")))
+            );
+    }
+
+    @Test
+    @WithAccount
+    @DisplayName("보호소 게시글 커서 조회 테스트")
+    void getShelterPostsByCursorTest() throws Exception {
+        // given
+        var results = ShelterPostPageResults.of(List.of(
+                ShelterPostPageResults.ShelterPost.builder()
+                    .id(41L)
+                    .city("서울특별시")
+                    .town("광진구")
+                    .age(2018L)
+                    .sex(SexType.UNKNOWN)
+                    .thumbnail("http://www.animal.go.kr/files/shelter/2021/11/202112140012452_s.jpg")
+                    .animal("개")
+                    .animalKindName("보더콜리")
+                    .foundDate(LocalDate.of(2021, 12, 11))
+                    .isBookmark(true)
+                    .bookmarkCount(13)
+                    .build()),
+            120,
+            false,
+            1,
+            "NDE6OjEyMA"
+        );
+        given(shelterPostService.getShelterPostsByCursor(any(Account.class), anyString(), anyInt(),
+            any(PostSearchParam.class)))
+            .willReturn(results);
+
+        // when
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/shelter-posts")
+            .accept(MediaType.APPLICATION_JSON_VALUE)
+            .header(HttpHeaders.AUTHORIZATION, getAuthenticationToken())
+            .param("cursor", "NDI6OjEyMA")
+            .param("size", "1"));
+
+        // then
+        resultActions
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andDo(document("get-shelter-posts-by-cursor",
+                getDocumentRequest(),
+                getDocumentResponse(),
+                requestHeaders(
+                    headerWithName(HttpHeaders.ACCEPT).description(MediaType.APPLICATION_JSON_VALUE),
+                    headerWithName(HttpHeaders.AUTHORIZATION).description("jwt token - optional").optional()
+                ),
+                requestParameters(
+                    parameterWithName("cursor").description("이전 응답의 nextCursor, 첫 페이지는 빈 값"),
+                    parameterWithName("size").description("페이지 크기")
+                ),
+                responseHeaders(
+                    headerWithName(HttpHeaders.CONTENT_TYPE).description(MediaType.APPLICATION_JSON_VALUE)
+                ),
+                responseFields(
+                    fieldWithPath("data").type(OBJECT).description("응답 데이터"),
+                    fieldWithPath("data.shelters").type(ARRAY).description("보호소 게시물 리스트"),
+                    fieldWithPath("data.shelters[].id").type(NUMBER).description("게시글 id"),
+                    fieldWithPath("data.shelters[].city").type(STRING).description("시도 이름"),
+                    fieldWithPath("data.shelters[].town").type(STRING).description("시군구 이름"),
+                    fieldWithPath("data.shelters[].age").type(NUMBER).description("동물 나이"),
+                    fieldWithPath("data.shelters[].sex").type(STRING).description("<<sexType,동물 성별>>>>"),
+                    fieldWithPath("data.shelters[].thumbnail").type(STRING).description("동물 사진"),
+                    fieldWithPath("data.shelters[].animal").type(STRING).description("동물 종류"),
+                    fieldWithPath("data.shelters[].animalKindName").type(STRING).description("동물 품종"),
+                    fieldWithPath("data.shelters[].foundDate").type(STRING).description("접수일"),
+                    fieldWithPath("data.shelters[].isBookmark").type(BOOLEAN).description("북마크 여부"),
+                    fieldWithPath("data.shelters[].bookmarkCount").type(NUMBER).description("북마크 수"),
+                    fieldWithPath("data.totalElements").type(NUMBER).description("전체 데이터수"),
+                    fieldWithPath("data.last").type(BOOLEAN).description("마지막 페이지 여부"),
+                    fieldWithPath("data.size").type(NUMBER).description("페이지 크기"),
+                    fieldWithPath("data.nextCursor").type(STRING).description("다음 페이지 커서, 마지막 페이지면 null")
+                        .optional(),
                     fieldWithPath("serverDateTime").type(STRING).description("서버 응답 시간")))
             );
     }
@@ -205,6 +289,46 @@ class ShelterPostControllerTest extends BaseDocumentationTest {
             );
     }
 
+    @Test
+    @WithAccount
+    @DisplayName("보호소 게시글 단건 조건부 조회 테스트")
+    void getShelterPostNotModifiedTest() throws Exception {
+        // given
+        Long accountId = getAuthenticationToken().getAccountId();
+        given(dataVersionRegistry.getVersion(DataResource.SHELTER_POST)).willReturn("v1");
+        given(dataVersionRegistry.getVersion(DataResource.SHELTER_POST, String.valueOf(accountId))).willReturn("a1");
+        String eTag = "\"shelter-post-v1-" + accountId + "-a1\"";
+
+        // when
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/shelter-posts/{postId}", 1L)
+            .accept(MediaType.APPLICATION_JSON_VALUE)
+            .header(HttpHeaders.IF_NONE_MATCH, eTag)
+            .header(HttpHeaders.AUTHORIZATION, getAuthenticationToken()));
+
+        // then
+        resultActions
+            .andDo(print())
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, eTag))
+            .andDo(document("get-shelter-post-not-modified",
+                getDocumentRequest(),
+                getDocumentResponse(),
+                pathParameters(
+                    parameterWithName("postId").description("게시글 아이디")
+                ),
+                requestHeaders(
+                    headerWithName(HttpHeaders.ACCEPT).description(MediaType.APPLICATION_JSON_VALUE),
+                    headerWithName(HttpHeaders.IF_NONE_MATCH).description("이전 응답의 ETag"),
+                    headerWithName(HttpHeaders.AUTHORIZATION).description("jwt token - optional").optional()
+                ),
+                responseHeaders(
+                    headerWithName(HttpHeaders.ETAG).description("데이터 버전"),
+                    headerWithName(HttpHeaders.CACHE_CONTROL).description("캐시 정책")
+                ))
+            );
+        verify(shelterPostService, never()).getShelterPostReadResultWithAccount(any(Account.class), anyLong());
+    }
+
     @Test
     @WithAccount
     @DisplayName("보호소 게시글 북마크 생성 테스트")
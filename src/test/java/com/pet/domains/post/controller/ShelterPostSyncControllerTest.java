@@ -0,0 +1,71 @@
+package com.pet.domains.post.controller;
+
+import static com.pet.domains.docs.utils.ApiDocumentUtils.getDocumentRequest;
+import static com.pet.domains.docs.utils.ApiDocumentUtils.getDocumentResponse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import com.pet.domains.account.WithAccount;
+import com.pet.domains.docs.BaseDocumentationTest;
+import java.time.LocalDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.ResultActions;
+
+@DisplayName("보호소 게시글 동기화 컨트롤러 테스트")
+class ShelterPostSyncControllerTest extends BaseDocumentationTest {
+
+    @Test
+    @WithAccount(value = "admin", roles = {"ROLE_USER", "ROLE_ADMIN"})
+    @DisplayName("관리자는 보호소 게시글 백필을 요청할 수 있음")
+    void backfillShelterPostsTest() throws Exception {
+        // when
+        ResultActions resultActions = mockMvc.perform(post("/api/v1/admin/shelter-posts/backfill")
+            .header(HttpHeaders.AUTHORIZATION, getAuthenticationToken())
+            .param("start", "2021-12-01")
+            .param("end", "2021-12-07"));
+
+        // then
+        resultActions
+            .andDo(print())
+            .andExpect(status().isAccepted())
+            .andDo(document("backfill-shelter-posts",
+                getDocumentRequest(),
+                getDocumentResponse(),
+                requestHeaders(
+                    headerWithName(HttpHeaders.AUTHORIZATION).description("관리자 jwt token")
+                ),
+                requestParameters(
+                    parameterWithName("start").description("백필 시작일, yyyy-MM-dd"),
+                    parameterWithName("end").description("백필 종료일, yyyy-MM-dd")
+                )
+            ));
+        then(shelterPostSyncService).should().backfill(LocalDate.of(2021, 12, 1), LocalDate.of(2021, 12, 7));
+    }
+
+    @Test
+    @WithAccount
+    @DisplayName("일반 회원은 보호소 게시글 백필을 요청할 수 없음")
+    void backfillShelterPostsWithoutAdminTest() throws Exception {
+        // when
+        ResultActions resultActions = mockMvc.perform(post("/api/v1/admin/shelter-posts/backfill")
+            .header(HttpHeaders.AUTHORIZATION, getAuthenticationToken())
+            .param("start", "2021-12-01")
+            .param("end", "2021-12-07"));
+
+        // then
+        resultActions
+            .andDo(print())
+            .andExpect(status().isForbidden());
+        then(shelterPostSyncService).should(never()).backfill(any(), any());
+    }
+}
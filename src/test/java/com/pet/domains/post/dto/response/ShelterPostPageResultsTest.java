@@ -0,0 +1,57 @@
+package com.pet.domains.post.dto.response;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pet.domains.post.domain.SexType;
+import java.time.LocalDate;
+import java.util.List;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@DisplayName("보호소 게시글 목록 응답 직렬화 테스트")
+class ShelterPostPageResultsTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    @DisplayName("json 으로 바꾼 목록을 다시 읽으면 북마크 여부까지 같은 값")
+    void jsonRoundTripTest() throws Exception {
+        // given
+        ShelterPostPageResults shelterPostPageResults = ShelterPostPageResults.of(List.of(
+            ShelterPostPageResults.ShelterPost.builder()
+                .id(1L)
+                .city("서울특별시")
+                .town("강남구")
+                .age(2L)
+                .thumbnail("http://thumbnail.png")
+                .animal("개")
+                .animalKindName("진돗개")
+                .foundDate(LocalDate.of(2021, 12, 1))
+                .sex(SexType.FEMALE)
+                .isBookmark(true)
+                .bookmarkCount(3)
+                .build()
+        ), 1, true, 20);
+
+        // when
+        String json = objectMapper.writeValueAsString(shelterPostPageResults);
+        ShelterPostPageResults readResults = objectMapper.readValue(json, ShelterPostPageResults.class);
+
+        // then
+        JsonNode shelterPostNode = objectMapper.readTree(json).get("shelters").get(0);
+        ShelterPostPageResults.ShelterPost readShelterPost = readResults.getShelters().get(0);
+        SoftAssertions.assertSoftly(softAssertions -> {
+            softAssertions.assertThat(shelterPostNode.has("isBookmark")).isTrue();
+            softAssertions.assertThat(shelterPostNode.has("bookmark")).isFalse();
+            softAssertions.assertThat(readShelterPost).usingRecursiveComparison()
+                .isEqualTo(shelterPostPageResults.getShelters().get(0));
+            softAssertions.assertThat(readShelterPost.getBookmark()).isTrue();
+            softAssertions.assertThat(readResults.getTotalElements()).isEqualTo(1);
+            softAssertions.assertThat(readResults.isLast()).isTrue();
+            softAssertions.assertThat(readResults.getSize()).isEqualTo(20);
+            softAssertions.assertThat(readResults.getNextCursor()).isNull();
+        });
+    }
+}
@@ -0,0 +1,236 @@
+package com.pet.domains.post.repository;
+
+import com.pet.common.config.JpaAuditingConfig;
+import com.pet.common.config.QuerydslConfig;
+import com.pet.domains.animal.domain.Animal;
+import com.pet.domains.animal.domain.AnimalKind;
+import com.pet.domains.area.domain.City;
+import com.pet.domains.area.domain.Town;
+import com.pet.domains.post.domain.NeuteredType;
+import com.pet.domains.post.domain.SexType;
+import com.pet.domains.post.domain.ShelterPost;
+import com.pet.domains.post.domain.ShelterPostListing;
+import com.pet.domains.post.dto.serach.PostSearchParam;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.ComponentScan.Filter;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest(includeFilters = @Filter(
+    type = FilterType.ASSIGNABLE_TYPE,
+    classes = {JpaAuditingConfig.class, QuerydslConfig.class, ShelterPostJdbcRepository.class,
+        ShelterPostListingJdbcRepository.class})
+)
+@DisplayName("보호소 게시글 JDBC 리포지토리 테스트")
+class ShelterPostJdbcRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ShelterPostJdbcRepository shelterPostJdbcRepository;
+
+    @Autowired
+    private ShelterPostRepository shelterPostRepository;
+
+    @Autowired
+    private ShelterPostArchiveRepository shelterPostArchiveRepository;
+
+    @Autowired
+    private ShelterPostListingJdbcRepository shelterPostListingJdbcRepository;
+
+    @Autowired
+    private ShelterPostListingRepository shelterPostListingRepository;
+
+    private AnimalKind animalKind;
+
+    private Town town;
+
+    @BeforeEach
+    void setUp() {
+        Animal animal = Animal.builder()
+            .code("111111")
+            .name("animal")
+            .build();
+        entityManager.persist(animal);
+        animalKind = AnimalKind.builder()
+            .name("animalKind")
+            .animal(animal)
+            .build();
+        entityManager.persist(animalKind);
+
+        City city = City.builder()
+            .name("city")
+            .code("111111")
+            .build();
+        entityManager.persist(city);
+        town = Town.builder()
+            .city(city)
+            .name("town")
+            .build();
+        entityManager.persist(town);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("보호소 게시글 upsert 테스트 - 공고 번호가 같으면 갱신")
+    void upsertAllTest() {
+        // given
+        shelterPostJdbcRepository.upsertAll(List.of(
+            getShelterPost("448548202100001", "보호중"),
+            getShelterPost("448548202100002", "보호중")
+        ));
+
+        // when
+        shelterPostJdbcRepository.upsertAll(List.of(
+            getShelterPost("448548202100001", "종료(입양)"),
+            getShelterPost("448548202100003", "보호중")
+        ));
+        entityManager.clear();
+
+        // then
+        List<ShelterPost> shelterPosts = shelterPostRepository.findAll();
+        SoftAssertions.assertSoftly(softAssertions -> {
+            softAssertions.assertThat(shelterPosts).hasSize(3);
+            softAssertions.assertThat(shelterPosts)
+                .filteredOn(shelterPost -> shelterPost.getDesertionNumber().equals("448548202100001"))
+                .singleElement()
+                .satisfies(shelterPost -> {
+                    softAssertions.assertThat(shelterPost.getPostStatus()).isEqualTo("종료(입양)");
+                    softAssertions.assertThat(shelterPost.getSex()).isEqualTo(SexType.FEMALE);
+                    softAssertions.assertThat(shelterPost.getNeutered()).isEqualTo(NeuteredType.Y);
+                });
+        });
+    }
+
+    @Test
+    @DisplayName("받은 게시글로 갱신하면 내용 해시도 함께 바뀐다")
+    void updateAllTest() {
+        // given
+        ShelterPost protectedPost = getShelterPost("448548202100001", "보호중");
+        shelterPostJdbcRepository.upsertAll(List.of(protectedPost, getShelterPost("448548202100002", "보호중")));
+        ShelterPost adoptedPost = getShelterPost("448548202100001", "종료(입양)");
+
+        // when
+        int updatedRows = shelterPostJdbcRepository.updateAll(List.of(adoptedPost));
+        entityManager.clear();
+
+        // then
+        Map<String, String> contentHashes = shelterPostJdbcRepository.findContentHashesByDesertionNumbers(
+            List.of("448548202100001", "448548202100002", "448548202100003"));
+        SoftAssertions.assertSoftly(softAssertions -> {
+            softAssertions.assertThat(updatedRows).isEqualTo(1);
+            softAssertions.assertThat(contentHashes).hasSize(2);
+            softAssertions.assertThat(contentHashes.get("448548202100001"))
+                .isEqualTo(adoptedPost.calculateContentHash())
+                .isNotEqualTo(protectedPost.calculateContentHash());
+            softAssertions.assertThat(shelterPostRepository.findAll())
+                .filteredOn(shelterPost -> shelterPost.getDesertionNumber().equals("448548202100001"))
+                .singleElement()
+                .satisfies(shelterPost -> softAssertions.assertThat(shelterPost.getPostStatus()).isEqualTo("종료(입양)"));
+        });
+    }
+
+    @Test
+    @DisplayName("공고 종료일이 지난 게시글만 보관 테이블로 옮긴다")
+    void archiveAllTest() {
+        // given
+        shelterPostJdbcRepository.upsertAll(List.of(
+            getShelterPost("448548202100001", LocalDate.of(2021, 12, 11)),
+            getShelterPost("448548202100002", LocalDate.of(2022, 3, 1))
+        ));
+        List<Long> archivableIds = shelterPostJdbcRepository.findArchivableIds(LocalDate.of(2022, 1, 1), 10);
+
+        // when
+        int archivedRows = shelterPostJdbcRepository.archiveAll(archivableIds);
+        entityManager.clear();
+
+        // then
+        SoftAssertions.assertSoftly(softAssertions -> {
+            softAssertions.assertThat(archivedRows).isEqualTo(1);
+            softAssertions.assertThat(shelterPostRepository.findAll())
+                .extracting(ShelterPost::getDesertionNumber)
+                .containsExactly("448548202100002");
+            softAssertions.assertThat(shelterPostArchiveRepository.findByIdWithFetch(archivableIds.get(0)))
+                .hasValueSatisfying(shelterPostArchive -> {
+                    softAssertions.assertThat(shelterPostArchive.getDesertionNumber()).isEqualTo("448548202100001");
+                    softAssertions.assertThat(shelterPostArchive.getTown().getName()).isEqualTo("town");
+                    softAssertions.assertThat(shelterPostArchive.getArchivedAt()).isNotNull();
+                });
+        });
+    }
+
+    @Test
+    @DisplayName("목록 테이블은 지역, 품종 이름을 풀어 담고 북마크 수만 따로 갱신한다")
+    void rebuildListingTest() {
+        // given
+        shelterPostJdbcRepository.upsertAll(List.of(
+            getShelterPost("448548202100001", "보호중"),
+            getShelterPost("448548202100002", "보호중")
+        ));
+        int rebuiltRows = shelterPostListingJdbcRepository.rebuildUpdatedSince(null);
+        Long shelterPostId = shelterPostRepository.findAll().get(0).getId();
+
+        // when
+        shelterPostListingJdbcRepository.addBookmarkCount(shelterPostId, 1);
+        int refreshedRows = shelterPostListingJdbcRepository.rebuildUpdatedSince(
+            shelterPostListingJdbcRepository.findLastSourceUpdatedAt());
+        shelterPostListingJdbcRepository.addBookmarkCount(shelterPostId, 2);
+        entityManager.clear();
+
+        // then
+        Page<ShelterPostListing> listings = shelterPostListingRepository.findAllBySearchParam(PageRequest.of(0, 10),
+            PostSearchParam.builder().sex(SexType.FEMALE).build());
+        SoftAssertions.assertSoftly(softAssertions -> {
+            softAssertions.assertThat(rebuiltRows).isEqualTo(2);
+            softAssertions.assertThat(refreshedRows).isEqualTo(2);
+            softAssertions.assertThat(listings.getTotalElements()).isEqualTo(2);
+            softAssertions.assertThat(listings.getContent())
+                .filteredOn(listing -> listing.getId().equals(shelterPostId))
+                .singleElement()
+                .satisfies(listing -> {
+                    softAssertions.assertThat(listing.getCityName()).isEqualTo("city");
+                    softAssertions.assertThat(listing.getTownName()).isEqualTo("town");
+                    softAssertions.assertThat(listing.getAnimalName()).isEqualTo("animal");
+                    softAssertions.assertThat(listing.getAnimalKindName()).isEqualTo("animalKind");
+                    softAssertions.assertThat(listing.getBookmarkCount()).isEqualTo(2);
+                });
+        });
+    }
+
+    private ShelterPost getShelterPost(String desertionNumber, LocalDate endDate) {
+        return ShelterPost.builder()
+            .desertionNumber(desertionNumber)
+            .postStatus("보호중")
+            .endDate(endDate)
+            .animalKind(animalKind)
+            .town(town)
+            .build();
+    }
+
+    private ShelterPost getShelterPost(String desertionNumber, String postStatus) {
+        return ShelterPost.builder()
+            .desertionNumber(desertionNumber)
+            .postStatus(postStatus)
+            .age(2021)
+            .sex(SexType.FEMALE)
+            .neutered(NeuteredType.Y)
+            .foundDate(LocalDate.of(2021, 12, 1))
+            .animalKind(animalKind)
+            .town(town)
+            .build();
+    }
+}
@@ -0,0 +1,83 @@
+package com.pet.domains.post.service;
+
+import static org.mockito.Mockito.mock;
+import com.pet.common.property.ShelterProperties;
+import com.pet.domains.animal.service.AnimalKindService;
+import com.pet.domains.area.service.CityService;
+import com.pet.domains.area.service.TownService;
+import com.pet.domains.post.dto.response.ShelterApiPageChunk;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+@DisplayName("보호소 api 서비스 테스트")
+class ShelterApiServiceTest {
+
+    private final AtomicReference<URI> requestedUri = new AtomicReference<>();
+
+    private ShelterApiService shelterApiService;
+
+    @BeforeEach
+    void setUp() {
+        String pageXml = getPageXml((int) ShelterApiService.NUM_OF_ROWS, 250);
+        WebClient.Builder webClientBuilder = WebClient.builder()
+            .exchangeFunction(request -> {
+                requestedUri.set(request.url());
+                return Mono.just(ClientResponse.create(HttpStatus.OK)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_XML_VALUE)
+                    .body(pageXml)
+                    .build());
+            });
+        ShelterProperties shelterProperties = new ShelterProperties("shelter", "shelter",
+            new ShelterProperties.Api("http://localhost", "key"), new ShelterProperties.Batch(500, 50, 4));
+        shelterApiService = new ShelterApiService(shelterProperties, webClientBuilder,
+            mock(AnimalKindService.class), mock(CityService.class), mock(TownService.class),
+            new ShelterPostXmlDecoder());
+        shelterApiService.initWebClient();
+    }
+
+    @Test
+    @DisplayName("한 페이지를 decodeChunkSize 만큼씩 나눠 내보냄")
+    void getShelterApiPageChunksTest() {
+        // when
+        List<ShelterApiPageChunk> chunks = shelterApiService.getShelterApiPageChunks("20211201", "20211201", 1)
+            .collectList()
+            .block();
+
+        // then
+        SoftAssertions.assertSoftly(softAssertions -> {
+            softAssertions.assertThat(requestedUri.get().getQuery()).contains("numOfRows=100");
+            softAssertions.assertThat(chunks).hasSize(3);
+            softAssertions.assertThat(chunks.get(0).getShelterPosts()).hasSize(50);
+            softAssertions.assertThat(chunks.get(1).getShelterPosts()).hasSize(50);
+            softAssertions.assertThat(chunks.get(2).getShelterPosts()).isEmpty();
+            softAssertions.assertThat(chunks.get(2).getTotalCount()).isEqualTo(250L);
+        });
+    }
+
+    private String getPageXml(int itemCount, long totalCount) {
+        String items = IntStream.range(0, itemCount)
+            .mapToObj(index -> "<item><age>2021(년생)</age><careNm>보호소</careNm>"
+                + "<desertionNo>4485482021" + String.format("%05d", index) + "</desertionNo>"
+                + "<happenDt>20211201</happenDt><kindCd>[개] 믹스견</kindCd><neuterYn>N</neuterYn>"
+                + "<noticeEdt>20211211</noticeEdt><noticeSdt>20211201</noticeSdt><orgNm>서울특별시 광진구</orgNm>"
+                + "<processState>보호중</processState><sexCd>M</sexCd><weight>3.2(Kg)</weight></item>")
+            .collect(Collectors.joining());
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>"
+            + "<response><header><resultCode>00</resultCode><resultMsg>NORMAL SERVICE.</resultMsg></header>"
+            + "<body><items>" + items + "</items><numOfRows>100</numOfRows><pageNo>1</pageNo>"
+            + "<totalCount>" + totalCount + "</totalCount></body></response>";
+    }
+}
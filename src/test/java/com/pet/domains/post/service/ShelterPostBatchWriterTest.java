@@ -0,0 +1,75 @@
+package com.pet.domains.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import com.pet.common.property.ShelterProperties;
+import com.pet.domains.animal.domain.AnimalKind;
+import com.pet.domains.area.domain.Town;
+import com.pet.domains.post.domain.ShelterPost;
+import com.pet.domains.post.repository.ShelterPostJdbcRepository;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("보호소 게시글 배치 저장 테스트")
+class ShelterPostBatchWriterTest {
+
+    @Mock
+    private ShelterPostJdbcRepository shelterPostJdbcRepository;
+
+    @Mock
+    private ShelterProperties shelterProperties;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private ShelterPostBatchWriter shelterPostBatchWriter;
+
+    @Test
+    @DisplayName("내용 해시가 같은 게시글과 없는 게시글은 건너뛰고 해시가 달라진 게시글만 갱신")
+    void updateChangedTest() {
+        // given
+        ShelterPost unchangedPost = getShelterPost("448548202100001", "보호중");
+        ShelterPost changedPost = getShelterPost("448548202100002", "종료(입양)");
+        ShelterPost unknownPost = getShelterPost("448548202100003", "보호중");
+        given(shelterProperties.getChunkSize()).willReturn(500);
+        given(shelterPostJdbcRepository.findContentHashesByDesertionNumbers(
+            List.of("448548202100001", "448548202100002", "448548202100003")))
+            .willReturn(Map.of(
+                "448548202100001", unchangedPost.calculateContentHash(),
+                "448548202100002", getShelterPost("448548202100002", "보호중").calculateContentHash()));
+        given(shelterPostJdbcRepository.updateAll(anyList())).willReturn(1);
+
+        // when
+        int updatedRows = shelterPostBatchWriter.updateChanged(List.of(unchangedPost, changedPost, unknownPost));
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ShelterPost>> updatedPostsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(shelterPostJdbcRepository, times(1)).updateAll(updatedPostsCaptor.capture());
+        assertThat(updatedPostsCaptor.getValue()).containsExactly(changedPost);
+        assertThat(updatedRows).isEqualTo(1);
+    }
+
+    private ShelterPost getShelterPost(String desertionNumber, String postStatus) {
+        return ShelterPost.builder()
+            .desertionNumber(desertionNumber)
+            .postStatus(postStatus)
+            .animalKind(mock(AnimalKind.class))
+            .town(mock(Town.class))
+            .build();
+    }
+}
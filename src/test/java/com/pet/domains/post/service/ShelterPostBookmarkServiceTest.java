@@ -3,6 +3,7 @@ package com.pet.domains.post.service;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
@@ -12,6 +13,8 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import com.pet.common.exception.ExceptionMessage;
 import com.pet.common.exception.httpexception.NotFoundException;
+import com.pet.common.version.DataResource;
+import com.pet.common.version.DataVersionRegistry;
 import com.pet.domains.account.domain.Account;
 import com.pet.domains.animal.domain.Animal;
 import com.pet.domains.animal.domain.AnimalKind;
@@ -20,6 +23,7 @@ import com.pet.domains.area.domain.Town;
 import com.pet.domains.post.domain.ShelterPost;
 import com.pet.domains.post.domain.ShelterPostBookmark;
 import com.pet.domains.post.repository.ShelterPostBookmarkRepository;
+import com.pet.domains.post.repository.ShelterPostListingJdbcRepository;
 import com.pet.domains.post.repository.ShelterPostRepository;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
@@ -40,6 +44,12 @@ class ShelterPostBookmarkServiceTest {
     @Mock
     private ShelterPostRepository shelterPostRepository;
 
+    @Mock
+    private ShelterPostListingJdbcRepository shelterPostListingJdbcRepository;
+
+    @Mock
+    private DataVersionRegistry dataVersionRegistry;
+
     @InjectMocks
     private ShelterPostBookmarkService shelterPostBookmarkService;
 
@@ -67,12 +77,18 @@ class ShelterPostBookmarkServiceTest {
                 .build());
         given(shelterPostRepository.findById(anyLong())).willReturn(Optional.of(spyShelterPost));
 
+        Account account = mock(Account.class);
+        given(account.getId()).willReturn(1L);
+
         // when
-        shelterPostBookmarkService.createPostBookmark(1L, mock(Account.class));
+        shelterPostBookmarkService.createPostBookmark(1L, account);
 
         // then
         ArgumentCaptor<ShelterPostBookmark> captor = ArgumentCaptor.forClass(ShelterPostBookmark.class);
         verify(shelterPostBookmarkRepository, times(1)).save(captor.capture());
+        verify(shelterPostListingJdbcRepository, times(1)).addBookmarkCount(1L, 1);
+        verify(dataVersionRegistry, times(1)).bumpAfterCommit(DataResource.SHELTER_POST, "1");
+        verify(dataVersionRegistry, never()).bumpAfterCommit(DataResource.SHELTER_POST);
     }
 
     @Test
@@ -88,6 +104,8 @@ class ShelterPostBookmarkServiceTest {
             .isInstanceOf(NotFoundException.class)
             .hasMessageContaining(exception.getMessage());
         verify(shelterPostBookmarkRepository, never()).save(any(ShelterPostBookmark.class));
+        verify(shelterPostListingJdbcRepository, never()).addBookmarkCount(anyLong(), anyLong());
+        verify(dataVersionRegistry, never()).bumpAfterCommit(any(), anyString());
     }
 
     @Test
@@ -115,11 +133,17 @@ class ShelterPostBookmarkServiceTest {
         given(shelterPostBookmarkRepository.deleteByShelterPostIdAndAccount(anyLong(), any(Account.class)))
             .willReturn(1L);
 
+        Account account = mock(Account.class);
+        given(account.getId()).willReturn(1L);
+
         // when
-        shelterPostBookmarkService.deletePostBookmark(1L, mock(Account.class));
+        shelterPostBookmarkService.deletePostBookmark(1L, account);
 
         // then
         verify(shelterPostBookmarkRepository, times(1)).deleteByShelterPostIdAndAccount(anyLong(), any(Account.class));
+        verify(shelterPostListingJdbcRepository, times(1)).addBookmarkCount(1L, -1L);
+        verify(dataVersionRegistry, times(1)).bumpAfterCommit(DataResource.SHELTER_POST, "1");
+        verify(dataVersionRegistry, never()).bumpAfterCommit(DataResource.SHELTER_POST);
     }
 
 }
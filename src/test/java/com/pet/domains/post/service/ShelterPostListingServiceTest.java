@@ -0,0 +1,97 @@
+package com.pet.domains.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import com.pet.common.version.DataResource;
+import com.pet.common.version.DataVersionRegistry;
+import com.pet.domains.post.repository.ShelterPostListingJdbcRepository;
+import com.pet.domains.statistics.service.PostFacetService;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("보호소 게시글 목록 테이블 서비스 테스트")
+class ShelterPostListingServiceTest {
+
+    @Mock
+    private ShelterPostListingJdbcRepository shelterPostListingJdbcRepository;
+
+    @Mock
+    private PostFacetService postFacetService;
+
+    @Mock
+    private DataVersionRegistry dataVersionRegistry;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private ShelterPostListingService shelterPostListingService;
+
+    @BeforeEach
+    void setUp() {
+        given(transactionTemplate.execute(any())).willAnswer(
+            invocation -> ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("다시 만든 행이 있으면 데이터 버전을 올림")
+    void refreshTest() {
+        // given
+        LocalDateTime lastSourceUpdatedAt = LocalDateTime.of(2021, 12, 1, 0, 0);
+        given(shelterPostListingJdbcRepository.findLastSourceUpdatedAt()).willReturn(lastSourceUpdatedAt);
+        given(shelterPostListingJdbcRepository.rebuildUpdatedSince(lastSourceUpdatedAt)).willReturn(3);
+
+        // when
+        int rebuiltRows = shelterPostListingService.refresh();
+
+        // then
+        assertThat(rebuiltRows).isEqualTo(3);
+        verify(dataVersionRegistry).bumpAfterCommit(DataResource.SHELTER_POST);
+    }
+
+    @Test
+    @DisplayName("앞선 반영이 끝날 때까지 다음 반영은 기다림")
+    void refreshConcurrentlyTest() throws Exception {
+        // given
+        CountDownLatch firstRefreshStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstRefresh = new CountDownLatch(1);
+        given(shelterPostListingJdbcRepository.findLastSourceUpdatedAt())
+            .willAnswer(invocation -> {
+                firstRefreshStarted.countDown();
+                releaseFirstRefresh.await(5, TimeUnit.SECONDS);
+                return null;
+            })
+            .willReturn(null);
+        given(shelterPostListingJdbcRepository.rebuildUpdatedSince(any())).willReturn(0);
+
+        // when
+        CompletableFuture<Integer> first = CompletableFuture.supplyAsync(shelterPostListingService::refresh);
+        firstRefreshStarted.await(5, TimeUnit.SECONDS);
+        CompletableFuture<Integer> second = CompletableFuture.supplyAsync(shelterPostListingService::refresh);
+
+        // then
+        verify(shelterPostListingJdbcRepository, after(200).times(1)).findLastSourceUpdatedAt();
+        releaseFirstRefresh.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+        verify(shelterPostListingJdbcRepository, timeout(1000).times(2)).findLastSourceUpdatedAt();
+        verify(shelterPostListingJdbcRepository, times(2)).rebuildUpdatedSince(any());
+    }
+}
@@ -0,0 +1,64 @@
+package com.pet.domains.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import com.pet.domains.post.domain.SexType;
+import com.pet.domains.post.dto.serach.PostSearchParam;
+import java.time.LocalDate;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+@DisplayName("보호소 게시글 목록 캐시 키 테스트")
+class ShelterPostPageKeyTest {
+
+    @Test
+    @DisplayName("문자열로 바꾼 키를 다시 읽으면 같은 키")
+    void parseTest() {
+        // given
+        PostSearchParam postSearchParam = PostSearchParam.builder()
+            .city(1L)
+            .animal(2L)
+            .sex(SexType.FEMALE)
+            .start(LocalDate.of(2021, 12, 1))
+            .build();
+        ShelterPostPageKey pageKey = ShelterPostPageKey
+            .of(PageRequest.of(1, 20, ShelterPostPageKey.DEFAULT_SORT), postSearchParam)
+            .orElseThrow();
+
+        // when
+        ShelterPostPageKey parsedPageKey = ShelterPostPageKey.parse(pageKey.getValue()).orElseThrow();
+
+        // then
+        SoftAssertions.assertSoftly(softAssertions -> {
+            softAssertions.assertThat(pageKey.getValue())
+                .isEqualTo("city=1,animal=2,sex=FEMALE,start=2021-12-01,page=1,size=20");
+            softAssertions.assertThat(parsedPageKey).isEqualTo(pageKey);
+            softAssertions.assertThat(parsedPageKey.toPageable()).isEqualTo(PageRequest.of(1, 20,
+                ShelterPostPageKey.DEFAULT_SORT));
+        });
+    }
+
+    @Test
+    @DisplayName("보관 게시글이나 다른 정렬 요청은 캐시 키를 만들지 않음")
+    void ofNotCacheableTest() {
+        // given
+        PostSearchParam archivedSearchParam = PostSearchParam.builder().archived(true).build();
+        PostSearchParam postSearchParam = PostSearchParam.builder().build();
+
+        // when then
+        SoftAssertions.assertSoftly(softAssertions -> {
+            softAssertions.assertThat(ShelterPostPageKey.of(PageRequest.of(0, 20, ShelterPostPageKey.DEFAULT_SORT),
+                archivedSearchParam)).isEmpty();
+            softAssertions.assertThat(ShelterPostPageKey.of(PageRequest.of(0, 20, Sort.by("foundDate")),
+                postSearchParam)).isEmpty();
+        });
+    }
+
+    @Test
+    @DisplayName("형식이 맞지 않는 요청 기록은 무시")
+    void parseInvalidValueTest() {
+        assertThat(ShelterPostPageKey.parse("city=seoul,page=0,size=20")).isEmpty();
+    }
+}
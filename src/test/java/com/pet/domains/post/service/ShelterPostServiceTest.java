@@ -0,0 +1,115 @@
+package com.pet.domains.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import com.pet.common.version.DataResource;
+import com.pet.common.version.DataVersionRegistry;
+import com.pet.domains.post.domain.ShelterPostListing;
+import com.pet.domains.post.dto.response.ShelterPostPageResults;
+import com.pet.domains.post.dto.serach.PostSearchParam;
+import com.pet.domains.post.mapper.ShelterPostMapper;
+import com.pet.domains.post.repository.ShelterPostListingRepository;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("보호소 게시글 서비스 테스트")
+class ShelterPostServiceTest {
+
+    @Mock
+    private ShelterPostListingRepository shelterPostListingRepository;
+
+    @Mock
+    private ShelterPostMapper shelterPostMapper;
+
+    @Mock
+    private ShelterPostPageCache shelterPostPageCache;
+
+    @Mock
+    private DataVersionRegistry dataVersionRegistry;
+
+    @InjectMocks
+    private ShelterPostService shelterPostService;
+
+    private final Pageable pageable = PageRequest.of(0, 20, ShelterPostPageKey.DEFAULT_SORT);
+
+    private final PostSearchParam postSearchParam = PostSearchParam.builder().city(1L).build();
+
+    private final ShelterPostPageKey pageKey = ShelterPostPageKey.of(pageable, postSearchParam).orElseThrow();
+
+    @Test
+    @DisplayName("캐시에 있는 페이지는 목록 테이블을 읽지 않고 돌려줌")
+    void getShelterPostsPageCacheHitTest() {
+        // given
+        ShelterPostPageResults cachedResults = ShelterPostPageResults.of(List.of(), 0, true, 20);
+        given(dataVersionRegistry.getVersion(DataResource.SHELTER_POST)).willReturn("v1");
+        given(shelterPostPageCache.find("v1", pageKey)).willReturn(Optional.of(cachedResults));
+
+        // when
+        ShelterPostPageResults shelterPostPageResults = shelterPostService.getShelterPostsPage(pageable,
+            postSearchParam);
+
+        // then
+        assertThat(shelterPostPageResults).isSameAs(cachedResults);
+        verify(shelterPostPageCache).recordRequest(pageKey);
+        verify(shelterPostListingRepository, never()).findAllBySearchParam(any(), any());
+        verify(shelterPostPageCache, never()).put(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 페이지는 목록 테이블에서 읽어 조회한 버전으로 저장함")
+    void getShelterPostsPageCacheMissTest() {
+        // given
+        @SuppressWarnings("unchecked")
+        Page<ShelterPostListing> pageResult = mock(Page.class);
+        ShelterPostPageResults loadedResults = ShelterPostPageResults.of(List.of(), 0, true, 20);
+        given(dataVersionRegistry.getVersion(DataResource.SHELTER_POST)).willReturn("v1");
+        given(shelterPostPageCache.find("v1", pageKey)).willReturn(Optional.empty());
+        given(shelterPostListingRepository.findAllBySearchParam(pageable, postSearchParam)).willReturn(pageResult);
+        given(shelterPostMapper.toShelterPostListingPageResults(pageResult)).willReturn(loadedResults);
+
+        // when
+        ShelterPostPageResults shelterPostPageResults = shelterPostService.getShelterPostsPage(pageable,
+            postSearchParam);
+
+        // then
+        assertThat(shelterPostPageResults).isSameAs(loadedResults);
+        verify(shelterPostPageCache).put("v1", pageKey, loadedResults);
+    }
+
+    @Test
+    @DisplayName("기본 정렬이 아닌 요청은 캐시를 거치지 않음")
+    void getShelterPostsPageNotCacheableTest() {
+        // given
+        Pageable foundDatePageable = PageRequest.of(0, 20, Sort.by("foundDate"));
+        @SuppressWarnings("unchecked")
+        Page<ShelterPostListing> pageResult = mock(Page.class);
+        ShelterPostPageResults loadedResults = ShelterPostPageResults.of(List.of(), 0, true, 20);
+        given(shelterPostListingRepository.findAllBySearchParam(foundDatePageable, postSearchParam))
+            .willReturn(pageResult);
+        given(shelterPostMapper.toShelterPostListingPageResults(pageResult)).willReturn(loadedResults);
+
+        // when
+        ShelterPostPageResults shelterPostPageResults = shelterPostService.getShelterPostsPage(foundDatePageable,
+            postSearchParam);
+
+        // then
+        assertThat(shelterPostPageResults).isSameAs(loadedResults);
+        verifyNoInteractions(shelterPostPageCache, dataVersionRegistry);
+    }
+}
@@ -0,0 +1,198 @@
+package com.pet.domains.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import com.pet.common.exception.httpexception.BadRequestException;
+import com.pet.common.exception.httpexception.ConflictException;
+import com.pet.common.property.ShelterProperties;
+import com.pet.domains.animal.service.AnimalKindDictionary;
+import com.pet.domains.animal.service.AnimalKindService;
+import com.pet.domains.post.domain.ShelterSyncState;
+import com.pet.domains.post.domain.ShelterSyncStatus;
+import com.pet.domains.post.dto.response.ShelterApiPageChunk;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("보호소 게시글 동기화 서비스 테스트")
+class ShelterPostSyncServiceTest {
+
+    private static final LocalDate SYNC_DATE = LocalDate.of(2021, 12, 1);
+
+    @Mock
+    private ShelterApiService shelterApiService;
+
+    @Mock
+    private ShelterPostService shelterPostService;
+
+    @Mock
+    private ShelterSyncStateService shelterSyncStateService;
+
+    @Mock
+    private ShelterPostListingService shelterPostListingService;
+
+    @Mock
+    private ShelterPostCacheWarmUpService shelterPostCacheWarmUpService;
+
+    @Mock
+    private AnimalKindService animalKindService;
+
+    @Mock
+    private ShelterProperties shelterProperties;
+
+    @InjectMocks
+    private ShelterPostSyncService shelterPostSyncService;
+
+    @Test
+    @DisplayName("체크포인트가 남은 페이지는 건너뛰고 나머지만 동기화")
+    void syncResumeFromCheckpointTest() {
+        // given
+        given(animalKindService.getAnimalKindDictionary()).willReturn(mock(AnimalKindDictionary.class));
+        given(shelterProperties.getConcurrency()).willReturn(2);
+        given(shelterSyncStateService.getProgress(SYNC_DATE)).willReturn(ShelterSyncProgress.of(SYNC_DATE, List.of(
+            getCompletedState(1, 250L),
+            getCompletedState(2, 250L)
+        )));
+        given(shelterApiService.getShelterApiPageChunks(anyString(), anyString(), anyLong()))
+            .willReturn(Flux.just(ShelterApiPageChunk.last(List.of(), 250L)));
+
+        // when
+        shelterPostSyncService.sync(List.of(SYNC_DATE)).block();
+
+        // then
+        verify(shelterApiService, times(1)).getShelterApiPageChunks("20211201", "20211201", 3);
+        verify(shelterApiService, never()).getShelterApiPageChunks("20211201", "20211201", 1);
+        verify(shelterSyncStateService, times(1)).complete(SYNC_DATE, 3, 250L);
+        verify(shelterPostCacheWarmUpService, times(1)).warmUp();
+    }
+
+    @Test
+    @DisplayName("여러 청크에서 새 품종이 생겨도 실행이 끝날 때 한 번만 animals 캐시를 비움")
+    void syncEvictAnimalsCacheOnceTest() {
+        // given
+        AnimalKindDictionary animalKindDictionary = mock(AnimalKindDictionary.class);
+        given(animalKindService.getAnimalKindDictionary()).willReturn(animalKindDictionary);
+        given(shelterProperties.getConcurrency()).willReturn(2);
+        given(shelterSyncStateService.getProgress(SYNC_DATE)).willReturn(ShelterSyncProgress.of(SYNC_DATE, List.of()));
+        given(shelterApiService.getShelterApiPageChunks(anyString(), anyString(), anyLong()))
+            .willReturn(Flux.just(ShelterApiPageChunk.of(List.of()), ShelterApiPageChunk.last(List.of(), 150L)));
+
+        // when
+        shelterPostSyncService.sync(List.of(SYNC_DATE)).block();
+
+        // then
+        verify(shelterPostService, times(4)).bulkCreateShelterPost(anyList(), eq(animalKindDictionary));
+        verify(animalKindService, times(1)).evictAnimalsCacheIfChanged(animalKindDictionary);
+    }
+
+    @Test
+    @DisplayName("처음 받는 날짜는 첫 페이지로 전체 페이지 수를 알아낸 뒤 동기화, 실패한 페이지는 기록")
+    void syncNewDateTest() {
+        // given
+        given(animalKindService.getAnimalKindDictionary()).willReturn(mock(AnimalKindDictionary.class));
+        given(shelterProperties.getConcurrency()).willReturn(2);
+        given(shelterSyncStateService.getProgress(SYNC_DATE)).willReturn(ShelterSyncProgress.of(SYNC_DATE, List.of()));
+        given(shelterApiService.getShelterApiPageChunks(anyString(), anyString(), eq(1L)))
+            .willReturn(Flux.just(ShelterApiPageChunk.last(List.of(), 150L)));
+        given(shelterApiService.getShelterApiPageChunks(anyString(), anyString(), eq(2L)))
+            .willReturn(Flux.error(new IllegalStateException("timeout")));
+
+        // when
+        shelterPostSyncService.sync(List.of(SYNC_DATE)).block();
+
+        // then
+        verify(shelterSyncStateService, times(1)).complete(SYNC_DATE, 1, 150L);
+        verify(shelterSyncStateService, times(1)).fail(SYNC_DATE, 2);
+        verify(shelterPostService, times(1)).bulkCreateShelterPost(anyList(), any(AnimalKindDictionary.class));
+    }
+
+    @Test
+    @DisplayName("진행 기록이 없거나 끝나지 않은 날짜와 어제를 매일 동기화 대상으로 고름")
+    void getDailySyncDatesTest() {
+        // given
+        LocalDate yesterday = SYNC_DATE.plusDays(7);
+        given(shelterSyncStateService.getProgresses(SYNC_DATE, yesterday.minusDays(1))).willReturn(List.of(
+            ShelterSyncProgress.of(SYNC_DATE, List.of(getCompletedState(1, 250L))),
+            ShelterSyncProgress.of(SYNC_DATE.plusDays(1), List.of(ShelterSyncState.builder()
+                .syncDate(SYNC_DATE.plusDays(1))
+                .pageNumber(1)
+                .totalCount(50L)
+                .status(ShelterSyncStatus.COMPLETED)
+                .build()))
+        ));
+
+        // when
+        List<LocalDate> syncDates = shelterPostSyncService.getDailySyncDates(yesterday);
+
+        // then
+        assertThat(syncDates).containsExactly(
+            SYNC_DATE,
+            SYNC_DATE.plusDays(2),
+            SYNC_DATE.plusDays(3),
+            SYNC_DATE.plusDays(4),
+            SYNC_DATE.plusDays(5),
+            SYNC_DATE.plusDays(6),
+            yesterday);
+    }
+
+    @Test
+    @DisplayName("동기화가 진행 중이면 겹쳐 들어온 동기화는 건너뛰고 백필은 거절")
+    void syncWhileRunningTest() {
+        // given
+        given(animalKindService.getAnimalKindDictionary()).willReturn(mock(AnimalKindDictionary.class));
+        given(shelterProperties.getConcurrency()).willReturn(2);
+        given(shelterSyncStateService.getProgress(SYNC_DATE)).willReturn(ShelterSyncProgress.of(SYNC_DATE, List.of()));
+        given(shelterApiService.getShelterApiPageChunks(anyString(), anyString(), anyLong())).willReturn(Flux.never());
+        Disposable runningSync = shelterPostSyncService.sync(List.of(SYNC_DATE)).subscribe();
+
+        // when
+        shelterPostSyncService.sync(List.of(SYNC_DATE)).block();
+
+        // then
+        verify(shelterApiService, timeout(1000).times(1)).getShelterApiPageChunks(anyString(), anyString(), anyLong());
+        LocalDate backfillDate = LocalDate.now().minusDays(1);
+        assertThatThrownBy(() -> shelterPostSyncService.backfill(backfillDate, backfillDate))
+            .isInstanceOf(ConflictException.class);
+        runningSync.dispose();
+    }
+
+    @Test
+    @DisplayName("보관 기준일보다 전의 날짜는 백필하지 않음")
+    void backfillBeforeArchiveCutoffTest() {
+        // given
+        LocalDate start = LocalDate.now().minusDays(ShelterPostArchiveService.ARCHIVE_AFTER_DAYS + 1);
+
+        // when, then
+        assertThatThrownBy(() -> shelterPostSyncService.backfill(start, start.plusDays(7)))
+            .isInstanceOf(BadRequestException.class);
+        verify(shelterApiService, never()).getShelterApiPageChunks(anyString(), anyString(), anyLong());
+    }
+
+    private ShelterSyncState getCompletedState(long pageNumber, long totalCount) {
+        return ShelterSyncState.builder()
+            .syncDate(SYNC_DATE)
+            .pageNumber(pageNumber)
+            .totalCount(totalCount)
+            .status(ShelterSyncStatus.COMPLETED)
+            .build();
+    }
+}
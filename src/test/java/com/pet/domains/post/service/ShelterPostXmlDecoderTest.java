@@ -0,0 +1,102 @@
+package com.pet.domains.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import com.pet.domains.post.dto.request.ShelterPostCreateParams;
+import com.pet.domains.post.dto.response.ShelterApiPageChunk;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+@DisplayName("보호소 게시글 xml 스트리밍 디코더 테스트")
+class ShelterPostXmlDecoderTest {
+
+    private final ShelterPostXmlDecoder shelterPostXmlDecoder = new ShelterPostXmlDecoder();
+
+    @Test
+    @DisplayName("item 을 chunkSize 만큼씩 나누고 마지막 묶음에 totalCount 를 담는다")
+    void decodeTest() {
+        // given
+        Flux<DataBuffer> dataBuffers = toDataBuffers(getPageXml(5, 1234), 64);
+
+        // when
+        List<ShelterApiPageChunk> chunks = shelterPostXmlDecoder.decode(dataBuffers, 2).collectList().block();
+
+        // then
+        SoftAssertions.assertSoftly(softAssertions -> {
+            softAssertions.assertThat(chunks).hasSize(3);
+            softAssertions.assertThat(chunks.get(0).getShelterPosts()).hasSize(2);
+            softAssertions.assertThat(chunks.get(0).isLast()).isFalse();
+            softAssertions.assertThat(chunks.get(2).getShelterPosts()).hasSize(1);
+            softAssertions.assertThat(chunks.get(2).getTotalCount()).isEqualTo(1234L);
+
+            ShelterPostCreateParams.ShelterPost shelterPost = chunks.get(0).getShelterPosts().get(0);
+            softAssertions.assertThat(shelterPost.getDesertionNumber()).isEqualTo("448548202100000");
+            softAssertions.assertThat(shelterPost.getAge()).isEqualTo(2021L);
+            softAssertions.assertThat(shelterPost.getWeight()).isEqualTo(3.2);
+            softAssertions.assertThat(shelterPost.getAnimalKindNameFromKindCd()).isEqualTo("믹스견");
+            softAssertions.assertThat(shelterPost.getAddress()).isEqualTo("서울특별시 광진구");
+        });
+    }
+
+    @Test
+    @DisplayName("totalCount 가 없는 응답은 실패")
+    void decodeWithoutTotalCountTest() {
+        // given
+        String errorXml = "<OpenAPI_ServiceResponse><cmmMsgHeader><errMsg>SERVICE ERROR</errMsg>"
+            + "</cmmMsgHeader></OpenAPI_ServiceResponse>";
+
+        // when // then
+        assertThatThrownBy(() -> shelterPostXmlDecoder.decode(toDataBuffers(errorXml, 64), 2).blockLast())
+            .isInstanceOf(DecodingException.class);
+    }
+
+    @Test
+    @DisplayName("item 이 없으면 totalCount 만 담긴 묶음 하나")
+    void decodeEmptyPageTest() {
+        // when
+        List<ShelterApiPageChunk> chunks = shelterPostXmlDecoder.decode(toDataBuffers(getPageXml(0, 0), 64), 2)
+            .collectList()
+            .block();
+
+        // then
+        assertThat(chunks).singleElement()
+            .satisfies(chunk -> assertThat(chunk.getShelterPosts()).isEmpty())
+            .satisfies(chunk -> assertThat(chunk.getTotalCount()).isZero());
+    }
+
+    private String getPageXml(int itemCount, long totalCount) {
+        String items = IntStream.range(0, itemCount)
+            .mapToObj(index -> "<item><age>2021(년생)</age><careNm>보호소</careNm>"
+                + "<desertionNo>4485482021" + String.format("%05d", index) + "</desertionNo>"
+                + "<happenDt>20211201</happenDt><kindCd>[개] 믹스견</kindCd><neuterYn>N</neuterYn>"
+                + "<noticeEdt>20211211</noticeEdt><noticeSdt>20211201</noticeSdt><orgNm>서울특별시 광진구</orgNm>"
+                + "<processState>보호중</processState><sexCd>M</sexCd><weight>3.2(Kg)</weight></item>")
+            .collect(Collectors.joining());
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>"
+            + "<response><header><resultCode>00</resultCode><resultMsg>NORMAL SERVICE.</resultMsg></header>"
+            + "<body><items>" + items + "</items><numOfRows>100</numOfRows><pageNo>1</pageNo>"
+            + "<totalCount>" + totalCount + "</totalCount></body></response>";
+    }
+
+    private Flux<DataBuffer> toDataBuffers(String xml, int bufferSize) {
+        // 네트워크에서 받듯이 잘게 나눈 DataBuffer 로 흘려보낸다.
+        byte[] bytes = xml.getBytes(StandardCharsets.UTF_8);
+        DefaultDataBufferFactory dataBufferFactory = new DefaultDataBufferFactory();
+        return Flux.range(0, (bytes.length + bufferSize - 1) / bufferSize)
+            .map(index -> {
+                int offset = index * bufferSize;
+                int length = Math.min(bufferSize, bytes.length - offset);
+                return dataBufferFactory.wrap(ByteBuffer.wrap(bytes, offset, length).slice());
+            });
+    }
+}
@@ -8,6 +8,7 @@ import static org.springframework.restdocs.headers.HeaderDocumentation.requestHe
 import static org.springframework.restdocs.headers.HeaderDocumentation.responseHeaders;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.payload.JsonFieldType.ARRAY;
 import static org.springframework.restdocs.payload.JsonFieldType.NUMBER;
 import static org.springframework.restdocs.payload.JsonFieldType.OBJECT;
 import static org.springframework.restdocs.payload.JsonFieldType.STRING;
@@ -16,8 +17,10 @@ import static org.springframework.restdocs.payload.PayloadDocumentation.response
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import com.pet.domains.docs.BaseDocumentationTest;
+import com.pet.domains.statistics.dto.response.PostFacetReadResults;
 import com.pet.domains.statistics.dto.response.PostStatisticsReadResult;
 import java.time.LocalDateTime;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpHeaders;
@@ -67,4 +70,64 @@ class PostStatisticsControllerTest extends BaseDocumentationTest {
                     fieldWithPath("serverDateTime").type(STRING).description("서버 응답 시간")))
             );
     }
+
+    @Test
+    @DisplayName("게시글 필터 값별 게시글 수 조회 테스트")
+    void getPostFacetsTest() throws Exception {
+        // given
+        PostFacetReadResults result = PostFacetReadResults.of(
+            PostFacetReadResults.Facets.of(
+                List.of(PostFacetReadResults.Facet.of("1", 1532L), PostFacetReadResults.Facet.of("9", 871L)),
+                List.of(PostFacetReadResults.Facet.of("1", 2013L), PostFacetReadResults.Facet.of("2", 390L)),
+                List.of(PostFacetReadResults.Facet.of("MALE", 1201L), PostFacetReadResults.Facet.of("FEMALE", 1202L)),
+                List.of()
+            ),
+            PostFacetReadResults.Facets.of(
+                List.of(PostFacetReadResults.Facet.of("1", 42L)),
+                List.of(PostFacetReadResults.Facet.of("1", 35L), PostFacetReadResults.Facet.of("2", 7L)),
+                List.of(PostFacetReadResults.Facet.of("MALE", 20L), PostFacetReadResults.Facet.of("FEMALE", 22L)),
+                List.of(PostFacetReadResults.Facet.of("MISSING", 30L), PostFacetReadResults.Facet.of("DETECTION", 12L))
+            )
+        );
+        given(postFacetService.getPostFacets()).willReturn(result);
+
+        // when
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/statistics/facets")
+            .accept(MediaType.APPLICATION_JSON_VALUE));
+
+        // then
+        resultActions
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andDo(document("get-post-facets",
+                getDocumentRequest(),
+                getDocumentResponse(),
+                requestHeaders(
+                    headerWithName(HttpHeaders.ACCEPT).description(MediaType.APPLICATION_JSON_VALUE)
+                ),
+                responseHeaders(
+                    headerWithName(HttpHeaders.CONTENT_TYPE).description(MediaType.APPLICATION_JSON_VALUE)
+                ),
+                responseFields(
+                    fieldWithPath("data").type(OBJECT).description("응답 데이터"),
+                    fieldWithPath("data.shelterPost").type(OBJECT).description("보호소 게시글 필터 값별 게시글 수"),
+                    fieldWithPath("data.shelterPost.cities[].value").type(STRING).description("시도 id"),
+                    fieldWithPath("data.shelterPost.cities[].count").type(NUMBER).description("게시글 수"),
+                    fieldWithPath("data.shelterPost.animals[].value").type(STRING).description("동물 id"),
+                    fieldWithPath("data.shelterPost.animals[].count").type(NUMBER).description("게시글 수"),
+                    fieldWithPath("data.shelterPost.sexes[].value").type(STRING).description("<<sexType,동물 성별>>"),
+                    fieldWithPath("data.shelterPost.sexes[].count").type(NUMBER).description("게시글 수"),
+                    fieldWithPath("data.shelterPost.statuses").type(ARRAY).description("보호소 게시글은 항상 빈 배열"),
+                    fieldWithPath("data.missingPost").type(OBJECT).description("실종/목격 게시글 필터 값별 게시글 수"),
+                    fieldWithPath("data.missingPost.cities[].value").type(STRING).description("시도 id"),
+                    fieldWithPath("data.missingPost.cities[].count").type(NUMBER).description("게시글 수"),
+                    fieldWithPath("data.missingPost.animals[].value").type(STRING).description("동물 id"),
+                    fieldWithPath("data.missingPost.animals[].count").type(NUMBER).description("게시글 수"),
+                    fieldWithPath("data.missingPost.sexes[].value").type(STRING).description("<<sexType,동물 성별>>"),
+                    fieldWithPath("data.missingPost.sexes[].count").type(NUMBER).description("게시글 수"),
+                    fieldWithPath("data.missingPost.statuses[].value").type(STRING).description("<<status,게시물 상태>>"),
+                    fieldWithPath("data.missingPost.statuses[].count").type(NUMBER).description("게시글 수"),
+                    fieldWithPath("serverDateTime").type(STRING).description("서버 응답 시간")))
+            );
+    }
 }
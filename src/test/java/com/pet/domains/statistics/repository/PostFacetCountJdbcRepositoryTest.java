@@ -0,0 +1,67 @@
+package com.pet.domains.statistics.repository;
+
+import com.pet.common.config.JpaAuditingConfig;
+import com.pet.common.config.QuerydslConfig;
+import com.pet.domains.post.domain.SexType;
+import com.pet.domains.statistics.domain.FacetDeltas;
+import com.pet.domains.statistics.domain.FacetDimension;
+import com.pet.domains.statistics.domain.FacetTarget;
+import com.pet.domains.statistics.domain.PostFacetCount;
+import java.util.List;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.ComponentScan.Filter;
+import org.springframework.context.annotation.FilterType;
+
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest(includeFilters = @Filter(
+    type = FilterType.ASSIGNABLE_TYPE,
+    classes = {JpaAuditingConfig.class, QuerydslConfig.class, PostFacetCountJdbcRepository.class})
+)
+@DisplayName("필터 값별 게시글 수 JDBC 리포지토리 테스트")
+class PostFacetCountJdbcRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PostFacetCountJdbcRepository postFacetCountJdbcRepository;
+
+    @Autowired
+    private PostFacetCountRepository postFacetCountRepository;
+
+    @Test
+    @DisplayName("같은 필터 값의 증감은 기존 카운터에 누적된다")
+    void addAllTest() {
+        // given
+        postFacetCountJdbcRepository.addAll(FacetTarget.SHELTER_POST, new FacetDeltas()
+            .add(FacetDimension.CITY, 1L, 3)
+            .add(FacetDimension.SEX, SexType.MALE.name(), 2));
+
+        // when
+        postFacetCountJdbcRepository.addAll(FacetTarget.SHELTER_POST, new FacetDeltas()
+            .add(FacetDimension.CITY, 1L, -1)
+            .add(FacetDimension.SEX, SexType.MALE.name(), -2)
+            .add(FacetDimension.SEX, SexType.FEMALE.name(), 1));
+        postFacetCountJdbcRepository.addAll(FacetTarget.MISSING_POST, new FacetDeltas()
+            .add(FacetDimension.CITY, 1L, 5));
+        entityManager.clear();
+
+        // then
+        List<PostFacetCount> facetCounts = postFacetCountRepository.findAllByPostCountGreaterThan(0);
+        SoftAssertions.assertSoftly(softAssertions -> softAssertions.assertThat(facetCounts)
+            .extracting(PostFacetCount::getTarget, PostFacetCount::getDimension, PostFacetCount::getFacetValue,
+                PostFacetCount::getPostCount)
+            .containsExactlyInAnyOrder(
+                Tuple.tuple(FacetTarget.SHELTER_POST, FacetDimension.CITY, "1", 2L),
+                Tuple.tuple(FacetTarget.SHELTER_POST, FacetDimension.SEX, SexType.FEMALE.name(), 1L),
+                Tuple.tuple(FacetTarget.MISSING_POST, FacetDimension.CITY, "1", 5L)
+            ));
+    }
+}